@@ -0,0 +1,133 @@
+package com.mromanak.multitenant.test.model.converter;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.mromanak.multitenant.test.model.Iso8601Timestamps;
+import com.mromanak.multitenant.test.validation.ValidationUtils;
+import org.hibernate.type.descriptor.java.InstantJavaDescriptor;
+import org.hibernate.type.descriptor.java.JdbcTimestampTypeDescriptor;
+import org.hibernate.type.descriptor.java.SerializableTypeDescriptor;
+import org.hibernate.type.descriptor.java.UrlTypeDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares what Hibernate and Jackson do with an Asset's server URL and creation timestamp, before and after they were
+ * changed from {@link URL} and {@link Date} to {@link URI} and {@link Instant}:
+ * <ul>
+ *     <li>Snapshots, which Hibernate takes of every attribute of every entity it loads. A {@link URI} without
+ *     {@link UriTypeContributor} is treated as a mutable {@link java.io.Serializable}, and a {@link Date} is
+ *     copied.</li>
+ *     <li>Dirty checks of a server URL that was replaced by an equal value, as every update does. {@link URL#equals}
+ *     resolves both host names. The JVM caches lookups, so after the first call this measures a cache hit.</li>
+ *     <li>Serializing the timestamp, with the {@code @JsonFormat} pattern {@link Date} used to be serialized with, and
+ *     with {@link Iso8601Timestamps.Serializer}</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssetAttributeBenchmark {
+
+    private static final String SERVER_URL = "https://arquebus.space/steel-haze";
+    private static final Instant CREATED_TIMESTAMP = Instant.parse("2023-10-19T13:45:30.123Z");
+
+    private final SerializableTypeDescriptor<URI> serializableUriDescriptor =
+            new SerializableTypeDescriptor<>(URI.class);
+
+    private URL loadedUrl;
+    private URL updatedUrl;
+    private URI loadedUri;
+    private URI updatedUri;
+    private Date loadedDate;
+
+    private ObjectMapper objectMapper;
+    private DateHolder dateHolder;
+    private InstantHolder instantHolder;
+
+    @Setup
+    public void setUp() throws MalformedURLException {
+        loadedUrl = new URL(SERVER_URL);
+        updatedUrl = new URL(SERVER_URL);
+        loadedUri = URI.create(SERVER_URL);
+        updatedUri = URI.create(SERVER_URL);
+        loadedDate = Date.from(CREATED_TIMESTAMP);
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        dateHolder = new DateHolder(loadedDate);
+        instantHolder = new InstantHolder(CREATED_TIMESTAMP);
+    }
+
+    @Benchmark
+    public URI serializableUriSnapshot() {
+        return serializableUriDescriptor.getMutabilityPlan().deepCopy(loadedUri);
+    }
+
+    @Benchmark
+    public URI immutableUriSnapshot() {
+        return UriTypeContributor.UriJavaTypeDescriptor.INSTANCE.getMutabilityPlan().deepCopy(loadedUri);
+    }
+
+    @Benchmark
+    public Date dateSnapshot() {
+        return JdbcTimestampTypeDescriptor.INSTANCE.getMutabilityPlan().deepCopy(loadedDate);
+    }
+
+    @Benchmark
+    public Instant instantSnapshot() {
+        return InstantJavaDescriptor.INSTANCE.getMutabilityPlan().deepCopy(CREATED_TIMESTAMP);
+    }
+
+    @Benchmark
+    public boolean urlDirtyCheck() {
+        return UrlTypeDescriptor.INSTANCE.areEqual(loadedUrl, updatedUrl);
+    }
+
+    @Benchmark
+    public boolean uriDirtyCheck() {
+        return UriTypeContributor.UriJavaTypeDescriptor.INSTANCE.areEqual(loadedUri, updatedUri);
+    }
+
+    @Benchmark
+    public String serializeDate() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(dateHolder);
+    }
+
+    @Benchmark
+    public String serializeInstant() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instantHolder);
+    }
+
+    public record DateHolder(
+            @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = ValidationUtils.ISO_8601_DATE_FORMAT)
+            Date createdTimestamp
+    ) {
+    }
+
+    public record InstantHolder(
+            @JsonSerialize(using = Iso8601Timestamps.Serializer.class)
+            Instant createdTimestamp
+    ) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.mromanak.multitenant.test.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mromanak.multitenant.test.event.EntityWriteEventPublisher;
+import com.mromanak.multitenant.test.model.Iso8601Timestamps;
+import com.mromanak.multitenant.test.model.dto.AssetDto;
+import com.mromanak.multitenant.test.model.entity.Asset;
+import com.mromanak.multitenant.test.repository.AssetRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import javax.persistence.EntityManager;
+import java.net.URI;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares mapping an {@link AssetDto} to an {@link Asset} and back with {@link ObjectMapper#convertValue}, which is
+ * how {@link AbstractEntityCrudService} used to do it, against the hand-written mapping in {@link AssetService}
+ * <p/>
+ * The Assets have no location, since Jackson has no deserializer for a JTS point and so could never map one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private final UUID id = UUID.fromString("7471da05-d4ba-4531-ab64-755b94c88635");
+
+    private ObjectMapper objectMapper;
+    private AssetService service;
+    private AssetDto dto;
+    private Asset entity;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        service = new AssetService(mock(AssetRepository.class), mock(EntityManager.class),
+                mock(EntityCountService.class), mock(EntityWriteEventPublisher.class));
+
+        dto = new AssetDto();
+        dto.setName("V.IV Rusty");
+        dto.setCreatedTimestamp("2023-10-19T13:45:30.123Z");
+        dto.setServerUrl("https://arquebus.space/assets/621");
+
+        entity = new Asset();
+        entity.setId(id);
+        entity.setName(dto.getName());
+        entity.setCreatedTimestamp(Iso8601Timestamps.parse(dto.getCreatedTimestamp()));
+        entity.setServerUrl(URI.create(dto.getServerUrl()));
+        entity.setVersion(0L);
+    }
+
+    @Benchmark
+    public Asset convertValueToEntity() {
+        Asset converted = objectMapper.convertValue(dto, Asset.class);
+        converted.setId(id);
+        return converted;
+    }
+
+    @Benchmark
+    public Asset mapToEntity() {
+        return service.toEntity(id, dto);
+    }
+
+    @Benchmark
+    public AssetDto convertValueToDto() {
+        return objectMapper.convertValue(entity, AssetDto.class);
+    }
+
+    @Benchmark
+    public AssetDto mapToDto() {
+        return service.toDto(entity);
+    }
+}
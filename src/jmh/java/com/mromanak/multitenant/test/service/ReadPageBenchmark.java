@@ -0,0 +1,116 @@
+package com.mromanak.multitenant.test.service;
+
+import com.mromanak.multitenant.test.MultitenancyTestApplication;
+import com.mromanak.multitenant.test.model.CountMode;
+import com.mromanak.multitenant.test.model.entity.Asset;
+import io.quantics.multitenant.TenantContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading a page of 100 {@link Asset Assets} with {@link AssetService#readPage(Pageable, CountMode)}, either
+ * inside a read-write transaction (as every read path used to run) or in the service's own read-only transaction
+ * <p/>
+ * The application is started with the same profiles and H2 database as the integration tests, seeded with the test
+ * tenants and 100 Assets for the "arquebus" tenant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadPageBenchmark {
+
+    private static final String TENANT = "arquebus";
+    private static final int PAGE_SIZE = 100;
+
+    private final Pageable pageRequest = PageRequest.of(0, PAGE_SIZE);
+
+    private ConfigurableApplicationContext context;
+    private AssetService service;
+    private TransactionTemplate readWriteTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MultitenancyTestApplication.class)
+                .profiles("prod", "test")
+                .properties("server.port=0", "logging.level.root=WARN")
+                .run();
+        service = context.getBean(AssetService.class);
+        readWriteTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        DataSource dataSource = context.getBean(DataSource.class);
+        new ResourceDatabasePopulator(
+                new ClassPathResource("create-test-tenants.sql"),
+                new ClassPathResource("create-test-assets.sql")
+        ).execute(dataSource);
+
+        List<Object[]> assets = new ArrayList<>();
+        for (int i = 1; i < PAGE_SIZE; i++) {
+            assets.add(new Object[]{
+                    UUID.randomUUID(),
+                    "Benchmark Asset %03d".formatted(i),
+                    Timestamp.from(Instant.EPOCH.plusSeconds(i)),
+                    "https://arquebus.space/assets/" + i
+            });
+        }
+        new JdbcTemplate(dataSource).batchUpdate(
+                "INSERT INTO arquebus.asset (id, name, created_timestamp, server_url) VALUES (?, ?, ?, ?)",
+                assets
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Slice<Asset> readWriteTransaction() {
+        TenantContext.setTenantId(TENANT);
+        try {
+            return readWriteTransaction.execute(status -> service.readPage(pageRequest, CountMode.NONE));
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    @Benchmark
+    public Slice<Asset> readOnlyTransaction() {
+        TenantContext.setTenantId(TENANT);
+        try {
+            return service.readPage(pageRequest, CountMode.NONE);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.mromanak.multitenant.test.validation.validator;
+
+import com.mromanak.multitenant.test.validation.ValidationUtils;
+import org.hibernate.validator.constraints.URL;
+import org.hibernate.validator.internal.constraintvalidators.hv.URLValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the hand-written validators against the regular expressions (and, for server URLs, the Hibernate
+ * {@code @URL} validator) they replaced. Each benchmark validates every value in one set: either the well-formed values
+ * a client normally sends, or a mix of unusual and invalid values that take the validators' slow paths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    // Values a client normally sends, all of which are valid
+    private static final String[] TYPICAL_NAMES = {
+            "V.IV Rusty",
+            "G5 Iguazu",
+            "Handler Walter-621",
+            "Allmind_Core.unit"
+    };
+    private static final String[] TYPICAL_TIMESTAMPS = {
+            ValidationUtils.ISO_8601_DATE_EXAMPLE_OBJECT,
+            "2023-10-19T13:45:30.123+05:30",
+            "2023-10-19T13:45:30.123-08:00",
+            "2023-10-19T13:45:30.999Z"
+    };
+    private static final String[] TYPICAL_URLS = {
+            ValidationUtils.HTTPS_URL_EXAMPLE_OBJECT,
+            "https://arquebus.space/assets/621",
+            "https://10.0.0.1:8443/",
+            "https://balam.space"
+    };
+
+    // Valid values that need the slow path, plus values that are rejected
+    private static final String[] MIXED_NAMES = {
+            "V.IV Rusty",
+            "Ayreé de Rubicon",
+            "621",
+            " leading space",
+            "Bad|character"
+    };
+    private static final String[] MIXED_TIMESTAMPS = {
+            ValidationUtils.ISO_8601_DATE_EXAMPLE_OBJECT,
+            "2023-10-19T13:45:30Z",
+            "2023-10-19 13:45:30.123Z",
+            "2023-10-19T13:45:30.123+0530",
+            "not a timestamp"
+    };
+    private static final String[] MIXED_URLS = {
+            "https://arquebus.space/assets/621?view=full#specs",
+            "https://[::1]/",
+            "http://example.server.com/",
+            "https://exa mple.com/",
+            "example.server.com"
+    };
+
+    @Param({"typical", "mixed"})
+    private String values;
+
+    private String[] names;
+    private String[] timestamps;
+    private String[] urls;
+
+    private Pattern namePattern;
+    private Pattern iso8601Pattern;
+    private URLValidator hibernateUrlValidator;
+
+    private final NameValidator nameValidator = new NameValidator();
+    private final Iso8601DateTimeValidator iso8601Validator = new Iso8601DateTimeValidator();
+    private final HttpsUrlValidator httpsUrlValidator = new HttpsUrlValidator();
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        boolean typical = values.equals("typical");
+        names = typical ? TYPICAL_NAMES : MIXED_NAMES;
+        timestamps = typical ? TYPICAL_TIMESTAMPS : MIXED_TIMESTAMPS;
+        urls = typical ? TYPICAL_URLS : MIXED_URLS;
+
+        namePattern = Pattern.compile(ValidationUtils.NAME_PATTERN);
+        iso8601Pattern = Pattern.compile(ValidationUtils.ISO_8601_DATE_PATTERN);
+        hibernateUrlValidator = new URLValidator();
+        hibernateUrlValidator.initialize(HttpsUrlHolder.class.getDeclaredField("url").getAnnotation(URL.class));
+    }
+
+    @Benchmark
+    public int namePattern() {
+        int valid = 0;
+        for (String name : names) {
+            if (namePattern.matcher(name).matches()) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int nameValidator() {
+        int valid = 0;
+        for (String name : names) {
+            if (nameValidator.isValid(name, null)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int iso8601Pattern() {
+        int valid = 0;
+        for (String timestamp : timestamps) {
+            if (iso8601Pattern.matcher(timestamp).matches()) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int iso8601Validator() {
+        int valid = 0;
+        for (String timestamp : timestamps) {
+            if (iso8601Validator.isValid(timestamp, null)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int httpsUrlHibernateValidator() {
+        int valid = 0;
+        for (String url : urls) {
+            if (hibernateUrlValidator.isValid(url, null)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int httpsUrlValidator() {
+        int valid = 0;
+        for (String url : urls) {
+            if (httpsUrlValidator.isValid(url, null)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    private static class HttpsUrlHolder {
+
+        @URL(protocol = "https")
+        private String url;
+    }
+}
@@ -0,0 +1,48 @@
+package com.mromanak.multitenant.test.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configures the per-tenant executors that CRUD requests are handled on. For example:
+ * <pre>
+ * async:
+ *   enabled: true
+ *   threads-per-tenant: 4
+ *   queue-capacity: 100
+ *   timeout: 10s
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "async")
+@Getter
+@Setter
+public class AsyncProperties {
+
+    /**
+     * Whether CRUD requests are handed off to the tenant's executor, rather than handled on the servlet container
+     * thread that received them
+     */
+    private boolean enabled = false;
+
+    /**
+     * How many requests of a single tenant may be handled at the same time. Read when a tenant's executor is created.
+     */
+    private int threadsPerTenant = 4;
+
+    /**
+     * How many requests of a single tenant may wait for a thread before further requests are rejected. Read when a
+     * tenant's executor is created.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * How long a request may wait for and run on the tenant's executor before it is answered with a 503. Must be
+     * shorter than {@code spring.mvc.async.request-timeout}.
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,40 @@
+package com.mromanak.multitenant.test.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configures how cache invalidation messages are exchanged with other nodes over Postgres {@code LISTEN/NOTIFY}. For
+ * example:
+ * <pre>
+ * cache-invalidation:
+ *   enabled: true
+ *   poll-timeout: 500ms
+ *   reconnect-delay: 5s
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "cache-invalidation")
+@Getter
+@Setter
+public class CacheInvalidationProperties {
+
+    /**
+     * Whether this node sends and listens for cache invalidation messages. Requires a Postgres database
+     */
+    private boolean enabled = false;
+
+    /**
+     * How long the listener waits for a notification before checking whether it should stop
+     */
+    private Duration pollTimeout = Duration.ofMillis(500);
+
+    /**
+     * How long the listener waits before reconnecting after its connection was lost
+     */
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+}
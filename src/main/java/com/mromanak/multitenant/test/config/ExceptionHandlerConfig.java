@@ -1,5 +1,6 @@
 package com.mromanak.multitenant.test.config;
 
+import com.mromanak.multitenant.test.model.error.ErrorResponse;
 import com.mromanak.multitenant.test.model.error.ValidationErrorResponse;
 import com.mromanak.multitenant.test.model.error.ValidationErrorResponse.ValidationError;
 import org.springframework.http.ResponseEntity;
@@ -9,13 +10,14 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import javax.validation.ConstraintViolationException;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 /**
  * Provides methods to handle exceptions thrown by the application.
  * <p/>
- * Currently, its only use is to reformat the two different types of validation exceptions into a consistent JSON
- * format. It's interesting to note that we hit a hitch in the Spring magic here:
+ * Its main use is to reformat the two different types of validation exceptions into a consistent JSON format. It's
+ * interesting to note that we hit a hitch in the Spring magic here:
  * <ul>
  *     <li>Spring does not natively perform validation on path variables or query parameters unless the controller
  *     class is annotated with {@link org.springframework.validation.annotation.Validated @Validated}</li>
@@ -26,6 +28,7 @@ import java.util.List;
  *     {@link ConstraintViolationException}s, but the exceptions produced by the framework-agnostic
  *     {@link javax.validation.Valid @Valid} are Spring-specific {@link MethodArgumentNotValidException}s/</li>
  * </ul>
+ * It also answers timestamps that can't be parsed with a 400, in case one gets past validation.
  */
 @ControllerAdvice
 public class ExceptionHandlerConfig {
@@ -54,6 +57,15 @@ public class ExceptionHandlerConfig {
         ));
     }
 
+    @ExceptionHandler(DateTimeParseException.class)
+    public ResponseEntity<ErrorResponse> handleDateTimeParse(DateTimeParseException e) {
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setErrorMessage(String.format("The timestamp %s is not a valid ISO-8601 date-time",
+                e.getParsedString()));
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     public String extractField(ObjectError objectError) {
 
         // If there are no usable codes, just settle for the object name
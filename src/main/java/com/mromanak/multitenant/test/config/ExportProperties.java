@@ -0,0 +1,31 @@
+package com.mromanak.multitenant.test.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configures how entities are streamed out of the database when they are exported. For example:
+ * <pre>
+ * export:
+ *   fetch-size: 1000
+ *   clear-interval: 1000
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "export")
+@Getter
+@Setter
+public class ExportProperties {
+
+    /**
+     * How many rows the JDBC driver fetches from the database's cursor at a time
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * How many entities are exported between each time the persistence context is cleared
+     */
+    private int clearInterval = 1000;
+}
@@ -0,0 +1,31 @@
+package com.mromanak.multitenant.test.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configures how streams of entities are imported. For example:
+ * <pre>
+ * import:
+ *   chunk-size: 1000
+ *   max-reported-errors: 1000
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "import")
+@Getter
+@Setter
+public class ImportProperties {
+
+    /**
+     * How many valid rows are buffered before they are written to the database in their own transaction
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * The maximum number of row errors included in an import report
+     */
+    private int maxReportedErrors = 1000;
+}
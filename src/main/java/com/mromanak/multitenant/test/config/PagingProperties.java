@@ -0,0 +1,49 @@
+package com.mromanak.multitenant.test.config;
+
+import com.mromanak.multitenant.test.model.CountMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configures how pages of entities are counted. For example:
+ * <pre>
+ * paging:
+ *   default-count-mode: exact
+ *   tenant-count-modes:
+ *     arquebus: estimated
+ *   count-cache-ttl: 5m
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "paging")
+@Getter
+@Setter
+public class PagingProperties {
+
+    /**
+     * The count mode used for tenants that don't have one configured in {@link #tenantCountModes}
+     */
+    private CountMode defaultCountMode = CountMode.EXACT;
+
+    /**
+     * The count mode used for each tenant, keyed by tenant ID
+     */
+    private Map<String, CountMode> tenantCountModes = new HashMap<>();
+
+    /**
+     * How long a {@link CountMode#CACHED cached} count may be reused. Writes made through this application invalidate
+     * cached counts immediately, so this only bounds how stale a count can get because of writes made elsewhere (e.g.
+     * by another instance of this application).
+     */
+    private Duration countCacheTtl = Duration.ofMinutes(5);
+
+    public CountMode getCountMode(String tenantId) {
+        return tenantCountModes.getOrDefault(tenantId, defaultCountMode);
+    }
+}
@@ -0,0 +1,45 @@
+package com.mromanak.multitenant.test.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configures the reactive, read-only Asset API, and the R2DBC connections it reads through. For example:
+ * <pre>
+ * reactive:
+ *   enabled: true
+ *   url: r2dbc:pool:postgresql://localhost:5432/multitenant?maxSize=20
+ *   username: user
+ *   password: pw
+ *   fetch-size: 1000
+ * </pre>
+ * These aren't Spring Boot's {@code spring.r2dbc.*} properties, because Spring Boot doesn't configure a JDBC
+ * {@link javax.sql.DataSource} once there is an R2DBC connection factory bean.
+ */
+@Component
+@ConfigurationProperties(prefix = "reactive")
+@Getter
+@Setter
+public class ReactiveProperties {
+
+    /**
+     * Whether the reactive API is served, under {@code /reactive}
+     */
+    private boolean enabled = false;
+
+    /**
+     * The R2DBC URL of the database. Prefix the driver with {@code pool:} to pool connections
+     */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * How many rows the R2DBC driver fetches from the database at a time when every Asset is streamed
+     */
+    private int fetchSize = 1000;
+}
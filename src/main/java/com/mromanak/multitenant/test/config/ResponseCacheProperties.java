@@ -0,0 +1,40 @@
+package com.mromanak.multitenant.test.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configures the cache of serialized responses. For example:
+ * <pre>
+ * response-cache:
+ *   enabled: true
+ *   max-size: 64MB
+ *   gzip: true
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "response-cache")
+@Getter
+@Setter
+public class ResponseCacheProperties {
+
+    /**
+     * Whether serialized responses are cached
+     */
+    private boolean enabled = false;
+
+    /**
+     * The total size of the cached responses, across all tenants. The least recently used responses are evicted to
+     * stay within it.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Whether responses are stored gzipped. Clients that accept gzip are then sent the stored bytes as they are, and
+     * more responses fit in the cache, but clients that don't must wait for them to be decompressed.
+     */
+    private boolean gzip = false;
+}
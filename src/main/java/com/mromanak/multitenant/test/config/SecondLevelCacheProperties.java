@@ -0,0 +1,47 @@
+package com.mromanak.multitenant.test.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configures the size and lifetime of the entries in Hibernate's second-level cache. For example:
+ * <pre>
+ * second-level-cache:
+ *   max-entries-per-tenant: 10000
+ *   tenant-max-entries:
+ *     arquebus: 50000
+ *   expire-after-write: 10m
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "second-level-cache")
+@Getter
+@Setter
+public class SecondLevelCacheProperties {
+
+    /**
+     * The maximum number of entries each tenant may keep in each cache region, for tenants that don't have a quota
+     * configured in {@link #tenantMaxEntries}
+     */
+    private long maxEntriesPerTenant = 10_000;
+
+    /**
+     * The maximum number of entries each tenant may keep in each cache region, keyed by tenant ID
+     */
+    private Map<String, Long> tenantMaxEntries = new HashMap<>();
+
+    /**
+     * How long an entry may stay in the cache after it was written
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    public long getMaxEntries(String tenantId) {
+        return tenantMaxEntries.getOrDefault(tenantId, maxEntriesPerTenant);
+    }
+}
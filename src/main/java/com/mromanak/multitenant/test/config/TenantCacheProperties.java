@@ -0,0 +1,34 @@
+package com.mromanak.multitenant.test.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configures the cache of tenants by issuer, which every authenticated request reads. For example:
+ * <pre>
+ * tenant-cache:
+ *   max-size: 1000
+ *   expire-after-write: 5m
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "tenant-cache")
+@Getter
+@Setter
+public class TenantCacheProperties {
+
+    /**
+     * The maximum number of tenants that may be cached
+     */
+    private long maxSize = 1000;
+
+    /**
+     * How long a tenant may stay in the cache after it was read. Bounds how long a change to {@code public.tenant}
+     * goes unnoticed if this node misses (or isn't sent) the message that should have evicted it
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+}
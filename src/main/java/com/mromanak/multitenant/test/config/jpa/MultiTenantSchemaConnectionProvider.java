@@ -1,5 +1,7 @@
 package com.mromanak.multitenant.test.config.jpa;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,19 +10,30 @@ import org.springframework.stereotype.Component;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class provides connections to the appropriate tenant schema for the current context.
+ * <p/>
+ * It also records how long each tenant connection is held between being handed to Hibernate and being released as the
+ * {@value #CONNECTION_HOLD_TIMER} timer (tagged with the tenant). HikariCP's own {@code hikaricp.connections.usage}
+ * timer measures the same thing for the pool as a whole, but can't tell tenants apart.
  */
 @Component
 @Slf4j
 public class MultiTenantSchemaConnectionProvider implements MultiTenantConnectionProvider {
 
+    public static final String CONNECTION_HOLD_TIMER = "multitenant.connection.hold";
+
     private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final Map<Connection, Timer.Sample> holdTimerSamples = new ConcurrentHashMap<>();
 
     @Autowired
-    public MultiTenantSchemaConnectionProvider(DataSource dataSource) {
+    public MultiTenantSchemaConnectionProvider(DataSource dataSource, MeterRegistry meterRegistry) {
         this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -37,11 +50,20 @@ public class MultiTenantSchemaConnectionProvider implements MultiTenantConnectio
     public Connection getConnection(String tenantIdentifier) throws SQLException {
         Connection connection = getAnyConnection();
         connection.setSchema(tenantIdentifier);
+        holdTimerSamples.put(connection, Timer.start(meterRegistry));
         return connection;
     }
 
     @Override
     public void releaseConnection(String tenantIdentifier, Connection connection) throws SQLException {
+        Timer.Sample holdTimerSample = holdTimerSamples.remove(connection);
+        if (holdTimerSample != null) {
+            holdTimerSample.stop(Timer.builder(CONNECTION_HOLD_TIMER)
+                    .description("Time a tenant connection was held before being returned to the pool")
+                    .tag("tenant", tenantIdentifier)
+                    .register(meterRegistry));
+        }
+
         connection.setSchema(CurrentTenantResolver.DEFAULT_SCHEMA);
         releaseAnyConnection(connection);
     }
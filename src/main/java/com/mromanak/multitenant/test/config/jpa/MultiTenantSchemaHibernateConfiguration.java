@@ -1,6 +1,7 @@
 package com.mromanak.multitenant.test.config.jpa;
 
 import com.mromanak.multitenant.test.MultitenancyTestApplication;
+import com.mromanak.multitenant.test.config.jpa.cache.TenantPartitionedRegionFactory;
 import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.cfg.Environment;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
@@ -19,7 +20,8 @@ import java.util.Map;
 
 /**
  * Configures JPA to use Hibernate and configures Hibernate to use the {@link CurrentTenantResolver} and
- * {@link MultiTenantSchemaConnectionProvider} to obtain connections.
+ * {@link MultiTenantSchemaConnectionProvider} to obtain connections, and the {@link TenantPartitionedRegionFactory}
+ * for its second-level cache.
  */
 @Configuration
 public class MultiTenantSchemaHibernateConfiguration {
@@ -40,7 +42,8 @@ public class MultiTenantSchemaHibernateConfiguration {
     public LocalContainerEntityManagerFactoryBean entityManagerFactory(
             DataSource dataSource,
             MultiTenantConnectionProvider multiTenantConnectionProvider,
-            CurrentTenantIdentifierResolver tenantIdentifierResolver
+            CurrentTenantIdentifierResolver tenantIdentifierResolver,
+            TenantPartitionedRegionFactory regionFactory
     ) {
 
         LocalContainerEntityManagerFactoryBean em = new LocalContainerEntityManagerFactoryBean();
@@ -52,6 +55,7 @@ public class MultiTenantSchemaHibernateConfiguration {
         jpaPropertiesMap.put(Environment.MULTI_TENANT, MultiTenancyStrategy.SCHEMA);
         jpaPropertiesMap.put(Environment.MULTI_TENANT_CONNECTION_PROVIDER, multiTenantConnectionProvider);
         jpaPropertiesMap.put(Environment.MULTI_TENANT_IDENTIFIER_RESOLVER, tenantIdentifierResolver);
+        jpaPropertiesMap.put(Environment.CACHE_REGION_FACTORY, regionFactory);
         em.setJpaPropertyMap(jpaPropertiesMap);
 
         return em;
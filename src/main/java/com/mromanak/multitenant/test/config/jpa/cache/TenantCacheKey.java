@@ -0,0 +1,20 @@
+package com.mromanak.multitenant.test.config.jpa.cache;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A second-level cache key that exposes the tenant it belongs to, so that the cache can be partitioned by tenant.
+ * <p/>
+ * The wrapped key is the one Hibernate would have used on its own, which already includes the tenant identifier.
+ *
+ * @param tenantId The identifier of the tenant the cached data belongs to
+ * @param key The key that Hibernate's default key factory created for the cached data
+ */
+public record TenantCacheKey(String tenantId, Object key) implements Serializable {
+
+    public TenantCacheKey {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Objects.requireNonNull(key, "key must not be null");
+    }
+}
@@ -0,0 +1,86 @@
+package com.mromanak.multitenant.test.config.jpa.cache;
+
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Wraps the keys created by {@link DefaultCacheKeysFactory} in {@link TenantCacheKey TenantCacheKeys}.
+ * <p/>
+ * Hibernate creates keys without a tenant identifier when data is evicted through the
+ * {@link org.hibernate.Cache Cache} API, since it has no session to get one from. In that case, the key is created for
+ * the current tenant instead, which is the tenant that the data would have been cached for.
+ */
+public class TenantCacheKeysFactory implements CacheKeysFactory {
+
+    private final CurrentTenantIdentifierResolver tenantIdentifierResolver;
+
+    public TenantCacheKeysFactory(CurrentTenantIdentifierResolver tenantIdentifierResolver) {
+        this.tenantIdentifierResolver = tenantIdentifierResolver;
+    }
+
+    @Override
+    public Object createCollectionKey(
+            Object id,
+            CollectionPersister persister,
+            SessionFactoryImplementor factory,
+            String tenantIdentifier
+    ) {
+        String tenantId = resolveTenantId(tenantIdentifier);
+        return new TenantCacheKey(
+                tenantId,
+                DefaultCacheKeysFactory.staticCreateCollectionKey(id, persister, factory, tenantId)
+        );
+    }
+
+    @Override
+    public Object createEntityKey(
+            Object id,
+            EntityPersister persister,
+            SessionFactoryImplementor factory,
+            String tenantIdentifier
+    ) {
+        String tenantId = resolveTenantId(tenantIdentifier);
+        return new TenantCacheKey(
+                tenantId,
+                DefaultCacheKeysFactory.staticCreateEntityKey(id, persister, factory, tenantId)
+        );
+    }
+
+    @Override
+    public Object createNaturalIdKey(
+            Object[] naturalIdValues,
+            EntityPersister persister,
+            SharedSessionContractImplementor session
+    ) {
+        return new TenantCacheKey(
+                resolveTenantId(session.getTenantIdentifier()),
+                DefaultCacheKeysFactory.staticCreateNaturalIdKey(naturalIdValues, persister, session)
+        );
+    }
+
+    @Override
+    public Object getEntityId(Object cacheKey) {
+        return DefaultCacheKeysFactory.staticGetEntityId(((TenantCacheKey) cacheKey).key());
+    }
+
+    @Override
+    public Object getCollectionId(Object cacheKey) {
+        return DefaultCacheKeysFactory.staticGetCollectionId(((TenantCacheKey) cacheKey).key());
+    }
+
+    @Override
+    public Object[] getNaturalIdValues(Object cacheKey) {
+        return DefaultCacheKeysFactory.staticGetNaturalIdValues(((TenantCacheKey) cacheKey).key());
+    }
+
+    private String resolveTenantId(String tenantIdentifier) {
+        return tenantIdentifier != null
+                ? tenantIdentifier
+                : tenantIdentifierResolver.resolveCurrentTenantIdentifier();
+    }
+}
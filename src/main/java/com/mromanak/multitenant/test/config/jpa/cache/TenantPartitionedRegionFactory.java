@@ -0,0 +1,110 @@
+package com.mromanak.multitenant.test.config.jpa.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mromanak.multitenant.test.config.SecondLevelCacheProperties;
+import com.mromanak.multitenant.test.config.jpa.CurrentTenantResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * A Hibernate second-level cache {@link org.hibernate.cache.spi.RegionFactory RegionFactory} backed by Caffeine, which
+ * keeps each tenant's entities in a separate, size-bounded partition of each region.
+ * <p/>
+ * Cache keys are created by a {@link TenantCacheKeysFactory}, so every key carries the identifier of the tenant it
+ * belongs to, and a tenant can never read another tenant's entries. Each partition is registered with Micrometer, so
+ * hits, misses, evictions, and sizes are reported as the {@code cache.*} metrics, tagged by region and tenant.
+ * <p/>
+ * Query results and update timestamps are kept in one shared cache each. Query keys already include the tenant
+ * identifier, and timestamps must never be evicted before the query results that depend on them, so that cache is
+ * unbounded.
+ */
+@Component
+public class TenantPartitionedRegionFactory extends RegionFactoryTemplate {
+
+    public static final String TENANT_TAG = "tenant";
+
+    private final SecondLevelCacheProperties cacheProperties;
+    private final MeterRegistry meterRegistry;
+    private final CacheKeysFactory cacheKeysFactory;
+
+    @Autowired
+    public TenantPartitionedRegionFactory(
+            SecondLevelCacheProperties cacheProperties,
+            MeterRegistry meterRegistry,
+            CurrentTenantResolver currentTenantResolver
+    ) {
+        this.cacheProperties = cacheProperties;
+        this.meterRegistry = meterRegistry;
+        this.cacheKeysFactory = new TenantCacheKeysFactory(currentTenantResolver);
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+    }
+
+    @Override
+    protected void releaseFromUse() {
+    }
+
+    @Override
+    protected CacheKeysFactory getImplicitCacheKeysFactory() {
+        return cacheKeysFactory;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(
+            DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext
+    ) {
+        String regionName = regionConfig.getRegionName();
+        return new TenantPartitionedStorageAccess(tenantId -> new CaffeineStorageAccess(
+                monitor(boundedCache(cacheProperties.getMaxEntries(tenantId)), regionName, tenantId)
+        ));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(
+            String regionName,
+            SessionFactoryImplementor sessionFactory
+    ) {
+        return new CaffeineStorageAccess(monitor(
+                boundedCache(cacheProperties.getMaxEntriesPerTenant()),
+                regionName,
+                CurrentTenantResolver.DEFAULT_SCHEMA
+        ));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(
+            String regionName,
+            SessionFactoryImplementor sessionFactory
+    ) {
+        return new CaffeineStorageAccess(Caffeine.newBuilder().build());
+    }
+
+    private Cache<Object, Object> boundedCache(long maxEntries) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(cacheProperties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+    }
+
+    private Cache<Object, Object> monitor(Cache<Object, Object> cache, String regionName, String tenantId) {
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, regionName, Tags.of(TENANT_TAG, tenantId));
+    }
+}
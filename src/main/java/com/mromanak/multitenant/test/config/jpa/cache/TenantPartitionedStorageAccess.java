@@ -0,0 +1,96 @@
+package com.mromanak.multitenant.test.config.jpa.cache;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Stores the second-level cache data of each tenant in a separate partition, so that each tenant's data is bounded by
+ * its own quota and one busy tenant can't evict every other tenant's data. Partitions are created the first time a
+ * tenant caches something.
+ * <p/>
+ * Hibernate clears a whole region whenever a bulk {@code UPDATE} or {@code DELETE} touches its table. Since the
+ * session doing so belongs to a single tenant, only that tenant's partition is cleared. Writes to a single entity don't
+ * go through bulk statements, so they only invalidate that entity's own entry.
+ */
+public class TenantPartitionedStorageAccess implements DomainDataStorageAccess {
+
+    private final Map<String, DomainDataStorageAccess> partitions = new ConcurrentHashMap<>();
+    private final Function<String, DomainDataStorageAccess> partitionFactory;
+
+    /**
+     * @param partitionFactory Creates an empty partition for the tenant with the given ID
+     */
+    public TenantPartitionedStorageAccess(Function<String, DomainDataStorageAccess> partitionFactory) {
+        this.partitionFactory = partitionFactory;
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        DomainDataStorageAccess partition = partitions.get(tenantIdOf(key));
+        return partition != null ? partition.getFromCache(key, session) : null;
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        partitions.computeIfAbsent(tenantIdOf(key), partitionFactory).putIntoCache(key, value, session);
+    }
+
+    @Override
+    public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+        DomainDataStorageAccess partition = partitions.get(tenantIdOf(key));
+        if (partition != null) {
+            partition.removeFromCache(key, session);
+        }
+    }
+
+    @Override
+    public void clearCache(SharedSessionContractImplementor session) {
+        evictTenantData(session.getTenantIdentifier());
+    }
+
+    /**
+     * Drops every entry of one tenant, leaving the other tenants' entries in place
+     */
+    public void evictTenantData(String tenantId) {
+        DomainDataStorageAccess partition = partitions.get(tenantId);
+        if (partition != null) {
+            partition.evictData();
+        }
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        DomainDataStorageAccess partition = partitions.get(tenantIdOf(key));
+        return partition != null && partition.contains(key);
+    }
+
+    @Override
+    public void evictData() {
+        partitions.values().forEach(DomainDataStorageAccess::evictData);
+    }
+
+    @Override
+    public void evictData(Object key) {
+        DomainDataStorageAccess partition = partitions.get(tenantIdOf(key));
+        if (partition != null) {
+            partition.evictData(key);
+        }
+    }
+
+    @Override
+    public void release() {
+        partitions.values().forEach(DomainDataStorageAccess::release);
+        partitions.clear();
+    }
+
+    private static String tenantIdOf(Object key) {
+        if (key instanceof TenantCacheKey tenantCacheKey) {
+            return tenantCacheKey.tenantId();
+        }
+        throw new IllegalArgumentException("Expected a TenantCacheKey, but got " + key.getClass().getName());
+    }
+}
@@ -11,10 +11,15 @@ import javax.servlet.http.HttpServletRequest;
 /**
  * Configures the URLs that can be accessed without OAuth2 authentication, and configures the authentication manager
  * that should be used for OAuth2.
+ * <p/>
+ * Metrics are tagged with tenant IDs, so reading them reveals every tenant and how busy it is. Only users with the
+ * {@value #METRICS_ROLE} role, which should only be granted to operators, may read them.
  */
 @Configuration
 public class AuthConfig {
 
+    public static final String METRICS_ROLE = "admin:metrics";
+
     @Bean
     public SecurityFilterChain jwtSecurityFilterChain(
             HttpSecurity http,
@@ -34,6 +39,9 @@ public class AuthConfig {
                         "/webjars/**"
                 ).permitAll()
 
+                // Metrics span every tenant, so they aren't readable by just any authenticated user
+                .antMatchers("/actuator/metrics", "/actuator/metrics/**").hasRole(METRICS_ROLE)
+
                 // Authenticate all other requests
                 .anyRequest().authenticated()
         ).oauth2ResourceServer(o -> o
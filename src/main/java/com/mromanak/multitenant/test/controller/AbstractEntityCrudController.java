@@ -1,18 +1,63 @@
 package com.mromanak.multitenant.test.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mromanak.multitenant.test.model.CountMode;
 import com.mromanak.multitenant.test.model.DtoFor;
+import com.mromanak.multitenant.test.model.FieldRange;
 import com.mromanak.multitenant.test.model.Identifiable;
+import com.mromanak.multitenant.test.model.KeysetCursor;
+import com.mromanak.multitenant.test.model.Versioned;
 import com.mromanak.multitenant.test.model.error.ErrorResponse;
 import com.mromanak.multitenant.test.service.EntityCrudService;
+import com.mromanak.multitenant.test.service.ResponseCache;
+import com.mromanak.multitenant.test.service.TenantExecutors;
+import com.mromanak.multitenant.test.service.VersionConflictException;
 import org.slf4j.Logger;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Implements the basic skeleton of a controller that performs CRUD operations for a given entity class
+ * <p/>
+ * Responses that contain {@link Versioned} entities carry an {@code ETag} header. For {@code GET} requests, it is
+ * compared with the request's {@code If-None-Match} header before the body is serialized (and, if the response cache is
+ * enabled, before it's cached), and the response is {@code 304 Not Modified} with no body if they match, so an
+ * unchanged entity is never serialized.
+ * <p/>
+ * Endpoints that wrap their handling in {@link #async(Supplier)} may be handled on the tenant's executor instead of
+ * the servlet container thread, depending on whether {@link TenantExecutors} are enabled.
  *
  * @param <I> The identifier type for the entity class
  * @param <D> The DTO type for the entity class
@@ -20,10 +65,30 @@ import java.util.Optional;
  */
 public abstract class AbstractEntityCrudController<I, D extends DtoFor<I, E>, E extends Identifiable<I>> implements EntityCrudController<I, D, E> {
 
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    // The headers of the request a tenant executor thread is handling, copied out of the request before the handler is
+    // submitted, since the request may be recycled while the handler is still running
+    private static final ThreadLocal<RequestHeaders> REQUEST_HEADERS = new ThreadLocal<>();
+
+    // Matches each entity tag in an If-None-Match header, the same way Spring MVC does
+    private static final Pattern ENTITY_TAG_PATTERN = Pattern.compile("\\*|\\s*((W/)?(\"[^\"]*\"))\\s*,?");
+
     private final EntityCrudService<I, D, E> service;
+    private final ObjectMapper objectMapper;
+    private final ResponseCache responseCache;
+    private final TenantExecutors tenantExecutors;
 
-    protected AbstractEntityCrudController(EntityCrudService<I, D, E> service) {
+    protected AbstractEntityCrudController(
+            EntityCrudService<I, D, E> service,
+            ObjectMapper objectMapper,
+            ResponseCache responseCache,
+            TenantExecutors tenantExecutors
+    ) {
         this.service = service;
+        this.objectMapper = objectMapper;
+        this.responseCache = responseCache;
+        this.tenantExecutors = tenantExecutors;
     }
 
     protected abstract Logger getLogger();
@@ -43,6 +108,33 @@ public abstract class AbstractEntityCrudController<I, D extends DtoFor<I, E>, E
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Responds with an entity and its entity tag, if it has one
+     */
+    protected <T> ResponseEntity<T> successResponse(T responseBody, String entityTag) {
+        if (entityTag == null) {
+            return successResponse(responseBody);
+        }
+        return ResponseEntity.ok().eTag(entityTag).body(responseBody);
+    }
+
+    protected ResponseEntity<ErrorResponse> preconditionFailedResponse(I id) {
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setErrorMessage(String.format(
+                "The %s entity with ID %s has been modified since the provided entity tag was issued",
+                getEntityClassName(), id
+        ));
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    protected ResponseEntity<ErrorResponse> badRequestResponse(String message) {
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setErrorMessage(message);
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     protected ResponseEntity<ErrorResponse> internalErrorResponse(String message) {
         ErrorResponse errorResponse = new ErrorResponse();
         errorResponse.setErrorMessage(message);
@@ -50,6 +142,55 @@ public abstract class AbstractEntityCrudController<I, D extends DtoFor<I, E>, E
         return ResponseEntity.internalServerError().body(errorResponse);
     }
 
+    protected ResponseEntity<ErrorResponse> serviceUnavailableResponse(String message) {
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setErrorMessage(message);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    /**
+     * Handles a request on the current tenant's executor if they are enabled, or on the calling thread otherwise.
+     * Requests that the tenant's executor is too busy to accept, or that aren't handled within the timeout, are
+     * answered with a 503. A request that times out while it's running still runs to completion, but its response is
+     * discarded. Since the request itself may have been recycled by then, the handler doesn't read it: the request
+     * headers the handler depends on are read before it's submitted.
+     *
+     * @return The response, or a {@link CompletableFuture} of it, which Spring MVC writes once it completes
+     */
+    protected Object async(Supplier<ResponseEntity<?>> handler) {
+        if (!tenantExecutors.isEnabled()) {
+            return handler.get();
+        }
+
+        Duration timeout = tenantExecutors.getTimeout();
+        RequestHeaders requestHeaders = requestHeaders();
+        return tenantExecutors.<ResponseEntity<?>>supplyAsync(() -> {
+                    REQUEST_HEADERS.set(requestHeaders);
+                    try {
+                        return handler.get();
+                    } finally {
+                        REQUEST_HEADERS.remove();
+                    }
+                })
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    if (cause instanceof RejectedExecutionException) {
+                        getLogger().warn("Rejected a request for {} entities: the tenant's executor is full",
+                                getEntityClassName());
+                        return serviceUnavailableResponse("Too many requests are being handled for this tenant");
+                    } else if (cause instanceof TimeoutException) {
+                        getLogger().warn("A request for {} entities was not handled within {}", getEntityClassName(),
+                                timeout);
+                        return serviceUnavailableResponse("The request was not handled in time");
+                    }
+                    throw e instanceof CompletionException completionException
+                            ? completionException
+                            : new CompletionException(e);
+                });
+    }
+
     @Override
     public ResponseEntity<?> create(D dto) {
         try {
@@ -62,12 +203,65 @@ public abstract class AbstractEntityCrudController<I, D extends DtoFor<I, E>, E
         }
     }
 
+    @Override
+    public ResponseEntity<?> createMultiple(Iterable<D> dtos) {
+        try {
+            return successResponse(service.createMultiple(dtos));
+        } catch (Exception e) {
+            getLogger().error("An error occurred while creating multiple {} entities: {}", getEntityClassName(), e.getMessage(), e);
+            return internalErrorResponse(
+                    String.format("An internal error occurred while creating multiple %s entities", getEntityClassName())
+            );
+        }
+    }
+
     @Override
     public ResponseEntity<?> read(I id) {
         try {
+            String cacheKey = String.format("%s %s", getEntityClassName(), id);
+            Optional<ResponseEntity<byte[]>> cachedResponse = cachedResponse(cacheKey);
+            if (cachedResponse.isPresent()) {
+                return cachedResponse.get();
+            }
+
+            long cacheGeneration = responseCache.currentGeneration();
             Optional<E> entityOpt = service.read(id);
             if (entityOpt.isPresent()) {
-                return successResponse(entityOpt.get());
+                return cacheableResponse(cacheKey, cacheGeneration, entityOpt.get(), entityTag(entityOpt.get()));
+            } else {
+                return notFoundResponse(id);
+            }
+        } catch (Exception e) {
+            getLogger().error("An error occurred while getting a(n) {} entity: {}", getEntityClassName(), e.getMessage(), e);
+            return internalErrorResponse(
+                    String.format("An internal error occurred while getting a(n) %s entity", getEntityClassName())
+            );
+        }
+    }
+
+    /**
+     * Responds with only some fields of an entity. Since the entity's version isn't read, the response has no entity
+     * tag.
+     *
+     * @param fieldNames The names of the fields to be read, or null to read the whole entity
+     */
+    @Override
+    public ResponseEntity<?> read(I id, List<String> fieldNames) {
+        if (fieldNames == null) {
+            return read(id);
+        }
+
+        try {
+            String cacheKey = String.format("%s %s fields %s", getEntityClassName(), id, fieldNames);
+            Optional<ResponseEntity<byte[]>> cachedResponse = cachedResponse(cacheKey);
+            if (cachedResponse.isPresent()) {
+                return cachedResponse.get();
+            }
+
+            long cacheGeneration = responseCache.currentGeneration();
+            Optional<Map<String, Object>> fieldsOpt = service.readFields(id, fieldNames);
+            if (fieldsOpt.isPresent()) {
+                return cacheableResponse(cacheKey, cacheGeneration, fieldsOpt.get(), null);
             } else {
                 return notFoundResponse(id);
             }
@@ -92,9 +286,18 @@ public abstract class AbstractEntityCrudController<I, D extends DtoFor<I, E>, E
     }
 
     @Override
-    public ResponseEntity<?> readPage(Pageable pageRequest) {
+    public ResponseEntity<?> readPage(Pageable pageRequest, CountMode countMode) {
         try {
-            return successResponse(service.readPage(pageRequest));
+            String cacheKey = String.format("%s page %d %d %s %s", getEntityClassName(), pageRequest.getPageNumber(),
+                    pageRequest.getPageSize(), pageRequest.getSort(), countMode);
+            Optional<ResponseEntity<byte[]>> cachedResponse = cachedResponse(cacheKey);
+            if (cachedResponse.isPresent()) {
+                return cachedResponse.get();
+            }
+
+            long cacheGeneration = responseCache.currentGeneration();
+            Slice<E> page = service.readPage(pageRequest, countMode);
+            return cacheableResponse(cacheKey, cacheGeneration, page, pageEntityTag(page));
         } catch (Exception e) {
             getLogger().error("An error occurred while getting a page of {} entities ({}): {}", getEntityClassName(), pageRequest, e.getMessage(), e);
             return internalErrorResponse(
@@ -103,15 +306,119 @@ public abstract class AbstractEntityCrudController<I, D extends DtoFor<I, E>, E
         }
     }
 
+    /**
+     * Responds with a page of the entities that lie within a list of ranges, or with only some fields of each entity.
+     * A response with only some fields has no entity tag, since the entities' versions aren't read.
+     *
+     * @param filters The ranges to filter the entities by, or an empty list to read every entity
+     * @param fieldNames The names of the fields to be read, or null to read the whole entities
+     */
+    @Override
+    public ResponseEntity<?> readPage(Pageable pageRequest, CountMode countMode, List<FieldRange<?>> filters,
+                                      List<String> fieldNames) {
+        if (filters.isEmpty() && fieldNames == null) {
+            return readPage(pageRequest, countMode);
+        }
+
+        try {
+            String cacheKey = String.format("%s page %d %d %s %s filters %s fields %s", getEntityClassName(),
+                    pageRequest.getPageNumber(), pageRequest.getPageSize(), pageRequest.getSort(), countMode,
+                    filters, fieldNames);
+            Optional<ResponseEntity<byte[]>> cachedResponse = cachedResponse(cacheKey);
+            if (cachedResponse.isPresent()) {
+                return cachedResponse.get();
+            }
+
+            long cacheGeneration = responseCache.currentGeneration();
+            if (fieldNames == null) {
+                Slice<E> page = service.readPage(pageRequest, countMode, filters);
+                return cacheableResponse(cacheKey, cacheGeneration, page, pageEntityTag(page));
+            }
+            Slice<Map<String, Object>> page = service.readPageFields(pageRequest, countMode, filters, fieldNames);
+            return cacheableResponse(cacheKey, cacheGeneration, page, null);
+        } catch (Exception e) {
+            getLogger().error("An error occurred while getting a page of {} entities ({}): {}", getEntityClassName(), pageRequest, e.getMessage(), e);
+            return internalErrorResponse(
+                    String.format("An internal error occurred while getting a page of %s entities (%s)", getEntityClassName(), pageRequest)
+            );
+        }
+    }
+
+    @Override
+    public ResponseEntity<?> readKeysetPage(KeysetCursor cursor, int pageSize) {
+        try {
+            return successResponse(service.readKeysetPage(cursor, pageSize));
+        } catch (Exception e) {
+            getLogger().error("An error occurred while getting a page of {} entities ({}): {}", getEntityClassName(), cursor, e.getMessage(), e);
+            return internalErrorResponse(
+                    String.format("An internal error occurred while getting a page of %s entities", getEntityClassName())
+            );
+        }
+    }
+
+    /**
+     * Writes every entity to the response as newline-delimited JSON while they are streamed out of the database.
+     * <p/>
+     * This writes to the response directly, on the request thread, rather than returning a
+     * {@link org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody StreamingResponseBody}: the
+     * latter is written on another thread, which would have neither the tenant nor the transaction of the request.
+     * Since the status line is sent with the first chunk of entities, an error that occurs after that can only be
+     * reported by cutting the response short.
+     */
+    @Override
+    public void export(HttpServletResponse response, int fetchSize, int clearInterval) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON_MEDIA_TYPE);
+        try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+            ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            long count = service.streamAll(fetchSize, clearInterval, entity -> {
+                try {
+                    writer.writeValue(generator, entity);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            getLogger().debug("Exported {} {} entities", count, getEntityClassName());
+        } catch (Exception e) {
+            getLogger().error("An error occurred while exporting {} entities: {}", getEntityClassName(), e.getMessage(), e);
+            if (response.isCommitted()) {
+                throw e;
+            }
+            response.reset();
+            response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(
+                    response.getOutputStream(),
+                    internalErrorResponse(
+                            String.format("An internal error occurred while exporting %s entities", getEntityClassName())
+                    ).getBody()
+            );
+        }
+    }
+
     @Override
     public ResponseEntity<?> update(I id, D dto) {
+        return update(id, () -> service.update(id, dto));
+    }
+
+    /**
+     * Responds with the result of an update, so that controllers for {@link com.mromanak.multitenant.test.model.Versioned
+     * Versioned} entities can respond to conditional updates the same way
+     *
+     * @param update Updates the entity, and returns it, or an empty optional if it doesn't exist
+     */
+    protected ResponseEntity<?> update(I id, Supplier<Optional<E>> update) {
         try {
-            Optional<E> entityOpt = service.update(id, dto);
+            Optional<E> entityOpt = update.get();
             if (entityOpt.isPresent()) {
-                return successResponse(entityOpt.get());
+                return successResponse(entityOpt.get(), entityTag(entityOpt.get()));
             } else {
                 return notFoundResponse(id);
             }
+        } catch (VersionConflictException e) {
+            return preconditionFailedResponse(id);
         } catch (Exception e) {
             getLogger().error("An error occurred while updating a(n) {} entity: {}", getEntityClassName(), e.getMessage(), e);
             return internalErrorResponse(
@@ -120,6 +427,18 @@ public abstract class AbstractEntityCrudController<I, D extends DtoFor<I, E>, E
         }
     }
 
+    @Override
+    public ResponseEntity<?> updateMultiple(Map<I, D> dtosById) {
+        try {
+            return successResponse(service.updateMultiple(dtosById));
+        } catch (Exception e) {
+            getLogger().error("An error occurred while updating multiple {} entities: {}", getEntityClassName(), e.getMessage(), e);
+            return internalErrorResponse(
+                    String.format("An internal error occurred while updating multiple %s entities", getEntityClassName())
+            );
+        }
+    }
+
     @Override
     public ResponseEntity<?> delete(I id) {
         try {
@@ -134,4 +453,140 @@ public abstract class AbstractEntityCrudController<I, D extends DtoFor<I, E>, E
             );
         }
     }
+
+    @Override
+    public ResponseEntity<?> deleteMultiple(Collection<I> ids) {
+        try {
+            return successResponse(service.deleteMultiple(ids));
+        } catch (Exception e) {
+            getLogger().error("An error occurred while deleting multiple {} entities: {}", getEntityClassName(), e.getMessage(), e);
+            return internalErrorResponse(
+                    String.format("An internal error occurred while deleting multiple %s entities", getEntityClassName())
+            );
+        }
+    }
+
+    /**
+     * @return A strong entity tag made from the entity's version, or null if the entity's version isn't known
+     */
+    protected String entityTag(E entity) {
+        if (entity instanceof Versioned versioned && versioned.getVersion() != null) {
+            return "\"" + versioned.getVersion() + "\"";
+        }
+        return null;
+    }
+
+    /**
+     * @return A weak entity tag made from the ID and version of every entity in a page, and the total number of
+     * entities, or null if any entity's version isn't known. The page's position and sort order aren't included, since
+     * they are already part of the request URL.
+     */
+    protected String pageEntityTag(Slice<E> page) {
+        StringBuilder builder = new StringBuilder();
+        for (E entity : page) {
+            String entityTag = entityTag(entity);
+            if (entityTag == null) {
+                return null;
+            }
+            builder.append(entity.getId()).append(':').append(entityTag).append(';');
+        }
+        builder.append(page.hasNext());
+        if (page instanceof Page<E> countedPage) {
+            builder.append(';').append(countedPage.getTotalElements());
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * @return The cached response to a request of the current tenant, if there is one
+     */
+    private Optional<ResponseEntity<byte[]>> cachedResponse(String cacheKey) {
+        return responseCache.get(cacheKey, requestHeaders().acceptsGzip()).map(cachedResponse -> {
+            ResponseEntity.BodyBuilder builder = jsonBytesResponseBuilder(cachedResponse.entityTag());
+            if (cachedResponse.gzipped()) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            return builder.body(cachedResponse.body());
+        });
+    }
+
+    /**
+     * Responds with an entity (or page of entities), caching its serialized form if the response cache is enabled. If
+     * the client already has the entity tag, the response is a 304, and the body is neither serialized nor cached.
+     *
+     * @param cacheGeneration The tenant's response cache generation from before the response body was read
+     */
+    private ResponseEntity<?> cacheableResponse(String cacheKey, long cacheGeneration, Object responseBody,
+                                                String entityTag) throws JsonProcessingException {
+        if (entityTag != null && requestHeaders().matchesIfNoneMatch(entityTag)) {
+            ResponseEntity.HeadersBuilder<?> builder = ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entityTag);
+            if (responseCache.isEnabled() && responseCache.isGzipped()) {
+                builder.varyBy(HttpHeaders.ACCEPT_ENCODING);
+            }
+            return builder.build();
+        }
+        if (!responseCache.isEnabled()) {
+            return successResponse(responseBody, entityTag);
+        }
+
+        byte[] json = objectMapper.writeValueAsBytes(responseBody);
+        responseCache.put(cacheKey, cacheGeneration, json, entityTag);
+        return jsonBytesResponseBuilder(entityTag).body(json);
+    }
+
+    private ResponseEntity.BodyBuilder jsonBytesResponseBuilder(String entityTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (entityTag != null) {
+            builder.eTag(entityTag);
+        }
+        if (responseCache.isGzipped()) {
+            builder.varyBy(HttpHeaders.ACCEPT_ENCODING);
+        }
+        return builder;
+    }
+
+    private static RequestHeaders requestHeaders() {
+        RequestHeaders requestHeaders = REQUEST_HEADERS.get();
+        if (requestHeaders != null) {
+            return requestHeaders;
+        }
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return new RequestHeaders(false, List.of());
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return new RequestHeaders(
+                acceptEncoding != null && acceptEncoding.contains("gzip"),
+                Collections.list(request.getHeaders(HttpHeaders.IF_NONE_MATCH))
+        );
+    }
+
+    /**
+     * The request headers that a response depends on
+     *
+     * @param ifNoneMatch Every If-None-Match header value
+     */
+    private record RequestHeaders(boolean acceptsGzip, List<String> ifNoneMatch) {
+
+        /**
+         * @return Whether If-None-Match names the entity tag, compared weakly as RFC 7232 requires for
+         * {@code If-None-Match}
+         */
+        private boolean matchesIfNoneMatch(String entityTag) {
+            String opaqueTag = opaqueTag(entityTag);
+            for (String header : ifNoneMatch) {
+                Matcher matcher = ENTITY_TAG_PATTERN.matcher(header);
+                while (matcher.find()) {
+                    if ("*".equals(matcher.group()) || opaqueTag.equals(matcher.group(3))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private static String opaqueTag(String entityTag) {
+            return entityTag.startsWith("W/") ? entityTag.substring(2) : entityTag;
+        }
+    }
 }
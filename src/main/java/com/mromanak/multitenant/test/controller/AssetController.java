@@ -1,11 +1,32 @@
 package com.mromanak.multitenant.test.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mromanak.multitenant.test.config.ExportProperties;
+import com.mromanak.multitenant.test.model.BatchResult;
+import com.mromanak.multitenant.test.model.CountMode;
+import com.mromanak.multitenant.test.model.ImportResult;
+import com.mromanak.multitenant.test.model.CursorPage;
+import com.mromanak.multitenant.test.model.FieldRange;
+import com.mromanak.multitenant.test.model.Iso8601Timestamps;
+import com.mromanak.multitenant.test.model.KeysetCursor;
 import com.mromanak.multitenant.test.model.dto.AssetDto;
+import com.mromanak.multitenant.test.model.dto.AssetUpdateDto;
 import com.mromanak.multitenant.test.model.entity.Asset;
+import com.mromanak.multitenant.test.model.error.ErrorResponse;
 import com.mromanak.multitenant.test.openapi.GenericApiErrorResponses;
-import com.mromanak.multitenant.test.service.EntityCrudService;
+import com.mromanak.multitenant.test.service.AssetImportService;
+import com.mromanak.multitenant.test.service.AssetSearchService;
+import com.mromanak.multitenant.test.service.ImportFormatException;
+import com.mromanak.multitenant.test.service.ResponseCache;
+import com.mromanak.multitenant.test.service.TenantExecutors;
+import com.mromanak.multitenant.test.service.VersionedEntityCrudService;
 import com.mromanak.multitenant.test.validation.ValidationUtils;
+import com.mromanak.multitenant.test.validation.annotation.ValidAssetCursor;
+import com.mromanak.multitenant.test.validation.annotation.ValidAssetFields;
+import com.mromanak.multitenant.test.validation.annotation.ValidAssetSearchCursor;
 import com.mromanak.multitenant.test.validation.annotation.ValidAssetSortField;
+import com.mromanak.multitenant.test.validation.annotation.ValidCountMode;
+import com.mromanak.multitenant.test.validation.annotation.ValidIso8601DateTime;
 import com.mromanak.multitenant.test.validation.annotation.ValidSortDirection;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -22,18 +43,33 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -57,9 +93,29 @@ import java.util.UUID;
 @Slf4j
 public class AssetController extends AbstractEntityCrudController<UUID, AssetDto, Asset> {
 
+    public static final int MAX_BATCH_SIZE = 5_000;
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+
+    private final VersionedEntityCrudService<UUID, AssetDto, Asset> service;
+    private final AssetImportService importService;
+    private final AssetSearchService searchService;
+    private final ExportProperties exportProperties;
+
     @Autowired
-    protected AssetController(EntityCrudService<UUID, AssetDto, Asset> service) {
-        super(service);
+    protected AssetController(
+            VersionedEntityCrudService<UUID, AssetDto, Asset> service,
+            AssetImportService importService,
+            AssetSearchService searchService,
+            ObjectMapper objectMapper,
+            ResponseCache responseCache,
+            TenantExecutors tenantExecutors,
+            ExportProperties exportProperties
+    ) {
+        super(service, objectMapper, responseCache, tenantExecutors);
+        this.service = service;
+        this.importService = importService;
+        this.searchService = searchService;
+        this.exportProperties = exportProperties;
     }
 
     @Override
@@ -97,35 +153,126 @@ public class AssetController extends AbstractEntityCrudController<UUID, AssetDto
                     )
             )
     })
-    public ResponseEntity<?> createAsset(
+    public Object createAsset(
             @RequestBody
             @Valid
             @NotNull(message = "A request body must be provided")
             AssetDto asset
     ) {
-        return create(asset);
+        return async(() -> create(asset));
     }
 
-    @Secured("ROLE_read:asset")
+    @Secured("ROLE_write:asset")
     @RequestMapping(
-            path = "/{id}",
-            method = RequestMethod.GET,
+            path = "/batch",
+            method = RequestMethod.POST,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    @Operation(summary = "Retrieves an Asset")
+    @Operation(summary = "Creates multiple new Assets in a single transaction")
     @SecurityRequirement(
             name = "OIDC",
-            scopes = "read:access"
+            scopes = "write:access"
     )
     @ApiResponse(
             responseCode = "200",
-            description = "The requested asset was retrieved successfully",
+            description = "The requested assets were created successfully",
             content = @Content(
-                    schema = @Schema(implementation = Asset.class)
+                    array = @ArraySchema(
+                            schema = @Schema(implementation = Asset.class)
+                    )
             )
     )
     @GenericApiErrorResponses
-    public ResponseEntity<?> getAsset(
+    public Object createAssets(
+            @RequestBody
+            @NotNull(message = "A request body must be provided")
+            @Size(min = 1, max = MAX_BATCH_SIZE)
+            List<@Valid @NotNull AssetDto> assets
+    ) {
+        return async(() -> createMultiple(assets));
+    }
+
+    @Secured("ROLE_write:asset")
+    @RequestMapping(
+            path = "/import",
+            method = RequestMethod.POST,
+            consumes = {NDJSON_MEDIA_TYPE, CSV_MEDIA_TYPE},
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Imports a stream of new Assets",
+            description = "Accepts either one AssetRequest JSON object per line, or CSV with a header row naming the "
+                    + "AssetRequest field in each column. Rows are validated as they arrive. Valid rows are imported in "
+                    + "chunks, each in its own transaction, and invalid rows are listed in the response."
+    )
+    @SecurityRequirement(
+            name = "OIDC",
+            scopes = "write:access"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "The valid rows were imported successfully. Any rows that were rejected are listed in the "
+                    + "response",
+            content = @Content(
+                    schema = @Schema(implementation = ImportResult.class)
+            )
+    )
+    @GenericApiErrorResponses
+    public ResponseEntity<?> importAssets(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request
+    ) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        AssetImportService.Format format = mediaType.isCompatibleWith(MediaType.parseMediaType(CSV_MEDIA_TYPE))
+                ? AssetImportService.Format.CSV
+                : AssetImportService.Format.NDJSON;
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+
+        try {
+            return successResponse(importService.importAssets(
+                    new InputStreamReader(request.getInputStream(), charset),
+                    format
+            ));
+        } catch (ImportFormatException e) {
+            return badRequestResponse(e.getMessage());
+        } catch (Exception e) {
+            log.error("An error occurred while importing Asset entities: {}", e.getMessage(), e);
+            return internalErrorResponse("An internal error occurred while importing Asset entities");
+        }
+    }
+
+    @Secured("ROLE_read:asset")
+    @RequestMapping(
+            path = "/{id}",
+            method = RequestMethod.GET,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Retrieves an Asset",
+            description = "The response carries the Asset's ETag. Pass it as If-None-Match to receive an empty 304 "
+                    + "response instead if the Asset hasn't been modified since."
+    )
+    @SecurityRequirement(
+            name = "OIDC",
+            scopes = "read:access"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "The requested asset was retrieved successfully",
+                    content = @Content(
+                            schema = @Schema(implementation = Asset.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The requested asset hasn't been modified since the entity tag in If-None-Match "
+                            + "was issued"
+            )
+    })
+    @GenericApiErrorResponses
+    public Object getAsset(
             @PathVariable("id")
             @Schema(
                     description = "The ID of the Asset to be retrieved",
@@ -138,33 +285,94 @@ public class AssetController extends AbstractEntityCrudController<UUID, AssetDto
                     flags = Pattern.Flag.CASE_INSENSITIVE,
                     message = "must be a valid UUID"
             )
-            String id
+            String id,
+            @RequestParam(name = "fields", required = false)
+            @Parameter(
+                    description = "A comma-separated list of the fields to be returned, e.g. \"id,name\". Only "
+                            + "the columns of those fields are read from the database. If omitted, every field is "
+                            + "returned. A response with only some fields has no ETag.",
+                    schema = @Schema(
+                            type = "string",
+                            example = "id,name"
+                    )
+            )
+            @ValidAssetFields
+            String fields
     ) {
-        return read(parseIdString(id));
+        return async(() -> read(parseIdString(id), parseFields(fields)));
     }
 
     @Secured("ROLE_read:asset")
     @RequestMapping(
-            method = RequestMethod.GET,
+            path = "/lookup",
+            method = RequestMethod.POST,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    @Operation(summary = "Retrieves a page of Assets")
+    @Operation(summary = "Retrieves multiple Assets by ID")
     @SecurityRequirement(
             name = "OIDC",
             scopes = "read:access"
     )
     @ApiResponse(
             responseCode = "200",
-            description = "The requested asset was retrieved successfully",
+            description = "The requested Assets that exist were retrieved successfully, in request order. The IDs of "
+                    + "any that do not exist are listed in the response",
             content = @Content(
-                    array = @ArraySchema(
-                            arraySchema = @Schema(implementation =  Page.class),
-                            schema = @Schema(implementation = Asset.class)
-                    )
+                    schema = @Schema(implementation = BatchResult.class)
             )
     )
     @GenericApiErrorResponses
-    public ResponseEntity<?> getAssetPage(
+    public Object getAssets(
+            @RequestBody
+            @NotNull(message = "A request body must be provided")
+            @Size(min = 1, max = MAX_BATCH_SIZE)
+            List<
+                    @NotNull
+                    @Pattern(
+                            regexp = ValidationUtils.UUID_PATTERN,
+                            flags = Pattern.Flag.CASE_INSENSITIVE,
+                            message = "must be a valid UUID"
+                    )
+                    String> ids
+    ) {
+        return async(() -> readMultiple(ids.stream().map(this::parseIdString).toList()));
+    }
+
+    @Secured("ROLE_read:asset")
+    @RequestMapping(
+            method = RequestMethod.GET,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Retrieves a page of Assets",
+            description = "The response carries a weak ETag that changes whenever any Asset on the page (or the "
+                    + "total number of Assets) changes. Pass it as If-None-Match to receive an empty 304 response "
+                    + "instead if the page hasn't changed since. When createdAfter or createdBefore is provided, only the "
+                    + "matching Assets are counted, and they are counted exactly for every count mode but \"none\"."
+    )
+    @SecurityRequirement(
+            name = "OIDC",
+            scopes = "read:access"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "The requested asset was retrieved successfully",
+                    content = @Content(
+                            array = @ArraySchema(
+                                    arraySchema = @Schema(implementation =  Page.class),
+                                    schema = @Schema(implementation = Asset.class)
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "The requested page hasn't changed since the entity tag in If-None-Match was issued"
+            )
+    })
+    @GenericApiErrorResponses
+    public Object getAssetPage(
             @RequestParam(name = "pageNumber", defaultValue = "0")
             @Max(Integer.MAX_VALUE)
             @Min(0)
@@ -190,42 +398,354 @@ public class AssetController extends AbstractEntityCrudController<UUID, AssetDto
                     )
             )
             @ValidSortDirection
+            String sortDirection,
+            @RequestParam(name = "countMode", required = false)
+            @Parameter(
+                    description = "How the total number of Assets should be counted. If omitted, the count mode "
+                            + "configured for the tenant is used. With \"none\", the response omits totalElements "
+                            + "and totalPages, and \"last\" reports whether there is a next page.",
+                    schema = @Schema(
+                            implementation = CountMode.class,
+                            enumAsRef = true
+                    )
+            )
+            @ValidCountMode
+            String countMode,
+            @RequestParam(name = "fields", required = false)
+            @Parameter(
+                    description = "A comma-separated list of the fields to be returned for each Asset, e.g. \"id,name\". Only "
+                            + "the columns of those fields are read from the database. If omitted, every field is "
+                            + "returned. A response with only some fields has no ETag.",
+                    schema = @Schema(
+                            type = "string",
+                            example = "id,name"
+                    )
+            )
+            @ValidAssetFields
+            String fields,
+            @RequestParam(name = "createdAfter", required = false)
+            @Parameter(
+                    description = "Only return Assets created strictly after this ISO-8601 timestamp",
+                    example = ValidationUtils.ISO_8601_DATE_EXAMPLE_OBJECT
+            )
+            @ValidIso8601DateTime
+            String createdAfter,
+            @RequestParam(name = "createdBefore", required = false)
+            @Parameter(
+                    description = "Only return Assets created strictly before this ISO-8601 timestamp",
+                    example = ValidationUtils.ISO_8601_DATE_EXAMPLE_OBJECT
+            )
+            @ValidIso8601DateTime
+            String createdBefore
+    ) {
+        Sort sort = sortField != null
+                ? Sort.by(new Sort.Order(
+                        Sort.Direction.fromString(sortDirection),
+                        Asset.SortField.fromString(sortField).getFieldName()
+                ))
+                : Sort.by(Collections.emptyList());
+        Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
+        FieldRange<Instant> createdRange = new FieldRange<>(
+                Asset.Field.CREATED_TIMESTAMP.getFieldName(),
+                Iso8601Timestamps.parse(createdAfter),
+                Iso8601Timestamps.parse(createdBefore)
+        );
+        List<FieldRange<?>> filters = createdRange.isUnbounded() ? List.of() : List.of(createdRange);
+        return async(() -> readPage(pageable, CountMode.fromString(countMode), filters, parseFields(fields)));
+    }
+
+    @Secured("ROLE_read:asset")
+    @RequestMapping(
+            path = "/scroll",
+            method = RequestMethod.GET,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Retrieves a page of Assets using a cursor",
+            description = "Unlike the offset-based pages returned by GET /asset, every page costs the same to retrieve "
+                    + "no matter how far into the sequence it is. Omit the cursor to retrieve the first page, then "
+                    + "pass the nextCursor of each page to retrieve the page after it. A cursor always continues the "
+                    + "sequence it was created for, so the sort field and direction are ignored when one is provided."
+    )
+    @SecurityRequirement(
+            name = "OIDC",
+            scopes = "read:access"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "The requested page of Assets was retrieved successfully",
+            content = @Content(
+                    schema = @Schema(implementation = CursorPage.class)
+            )
+    )
+    @GenericApiErrorResponses
+    public Object scrollAssets(
+            @RequestParam(name = "cursor", required = false)
+            @Parameter(description = "The nextCursor of the previous page")
+            @ValidAssetCursor
+            String cursor,
+            @RequestParam(name = "pageSize", defaultValue = "25")
+            @Max(100)
+            @Min(1)
+            Integer pageSize,
+            @RequestParam(name = "sortField", defaultValue = "id")
+            @Parameter(
+                    schema = @Schema(
+                            implementation = Asset.SortField.class,
+                            enumAsRef = true
+                    )
+            )
+            @ValidAssetSortField
+            String sortField,
+            @RequestParam(name = "sortDirection", defaultValue = "asc")
+            @Parameter(
+                    schema = @Schema(
+                            implementation = Sort.Direction.class,
+                            enumAsRef = true
+                    )
+            )
+            @ValidSortDirection
             String sortDirection
     ) {
-        Sort sort;
-        if (sortField != null) {
-            sort = Sort.by(new Sort.Order(
-                    Sort.Direction.fromString(sortDirection),
-                    Asset.SortField.fromString(sortField).getFieldName()
-            ));
-        } else {
-            sort = Sort.by(Collections.emptyList());
+        KeysetCursor keysetCursor = cursor != null
+                ? KeysetCursor.decode(cursor)
+                : KeysetCursor.start(
+                        Asset.SortField.fromString(sortField).getFieldName(),
+                        Sort.Direction.fromString(sortDirection)
+                );
+        return async(() -> readKeysetPage(keysetCursor, pageSize));
+    }
+
+    @Secured("ROLE_read:asset")
+    @RequestMapping(
+            path = "/search",
+            method = RequestMethod.GET,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Searches for Assets by name",
+            description = "Finds the Assets whose names contain the query, ignoring case, ranked by how closely their "
+                    + "names match it (best first). Omit the cursor to retrieve the first page, then pass the "
+                    + "nextCursor of each page, along with the same query, to retrieve the page after it."
+    )
+    @SecurityRequirement(
+            name = "OIDC",
+            scopes = "read:access"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "The requested page of matching Assets was retrieved successfully",
+            content = @Content(
+                    schema = @Schema(implementation = CursorPage.class)
+            )
+    )
+    @GenericApiErrorResponses
+    public ResponseEntity<?> searchAssets(
+            @RequestParam(name = "q")
+            @Parameter(description = "The text to search for. Must be at least 3 characters long, so that the search "
+                    + "can be narrowed down by the trigram index on Asset names.")
+            @Size(min = 3, max = 50)
+            String q,
+            @RequestParam(name = "cursor", required = false)
+            @Parameter(description = "The nextCursor of the previous page")
+            @ValidAssetSearchCursor
+            String cursor,
+            @RequestParam(name = "pageSize", defaultValue = "25")
+            @Max(100)
+            @Min(1)
+            Integer pageSize
+    ) {
+        KeysetCursor keysetCursor = cursor != null ? KeysetCursor.decode(cursor) : AssetSearchService.startCursor();
+        try {
+            return successResponse(searchService.search(q, keysetCursor, pageSize));
+        } catch (Exception e) {
+            log.error("An error occurred while searching for Assets: {}", e.getMessage(), e);
+            return internalErrorResponse("An internal error occurred while searching for Assets");
         }
-        Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
-        return readPage(pageable);
     }
 
-    @Secured("ROLE_write:asset")
+    @Secured("ROLE_read:asset")
     @RequestMapping(
-            path = "/{id}",
-            method = RequestMethod.PUT,
-            consumes = MediaType.APPLICATION_JSON_VALUE,
+            path = "/within",
+            method = RequestMethod.GET,
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    @Operation(summary = "Updates an existing Asset")
+    @Operation(
+            summary = "Retrieves the Assets located within a bounding box",
+            description = "Finds the Assets whose locations are within a longitude/latitude box, including its edges, "
+                    + "ordered by ID. Boxes that cross the antimeridian aren't supported; split them in two instead. "
+                    + "Omit the cursor to retrieve the first page, then pass the nextCursor of each page, along with "
+                    + "the same box, to retrieve the page after it."
+    )
     @SecurityRequirement(
             name = "OIDC",
-            scopes = "write:access"
+            scopes = "read:access"
     )
     @ApiResponse(
             responseCode = "200",
-            description = "The requested asset was updated successfully",
+            description = "The requested page of Assets within the box was retrieved successfully",
             content = @Content(
+                    schema = @Schema(implementation = CursorPage.class)
+            )
+    )
+    @GenericApiErrorResponses
+    public ResponseEntity<?> getAssetsWithinBox(
+            @RequestParam(name = "minLongitude")
+            @Parameter(description = "The western edge of the box")
+            @DecimalMin("-180")
+            @DecimalMax("180")
+            Double minLongitude,
+            @RequestParam(name = "minLatitude")
+            @Parameter(description = "The southern edge of the box")
+            @DecimalMin("-90")
+            @DecimalMax("90")
+            Double minLatitude,
+            @RequestParam(name = "maxLongitude")
+            @Parameter(description = "The eastern edge of the box")
+            @DecimalMin("-180")
+            @DecimalMax("180")
+            Double maxLongitude,
+            @RequestParam(name = "maxLatitude")
+            @Parameter(description = "The northern edge of the box")
+            @DecimalMin("-90")
+            @DecimalMax("90")
+            Double maxLatitude,
+            @RequestParam(name = "cursor", required = false)
+            @Parameter(description = "The nextCursor of the previous page")
+            @ValidAssetCursor
+            String cursor,
+            @RequestParam(name = "pageSize", defaultValue = "25")
+            @Max(100)
+            @Min(1)
+            Integer pageSize
+    ) {
+        if (minLongitude > maxLongitude || minLatitude > maxLatitude) {
+            return badRequestResponse("The minimum longitude and latitude of the box must not be greater than its "
+                    + "maximum longitude and latitude");
+        }
+        KeysetCursor keysetCursor = cursor != null ? KeysetCursor.decode(cursor) : AssetSearchService.startBoxCursor();
+        if (!AssetSearchService.ID_SORT_FIELD.equals(keysetCursor.sortField())
+                || keysetCursor.direction() != Sort.Direction.ASC) {
+            return badRequestResponse("The cursor was not issued for a bounding box search");
+        }
+
+        try {
+            return successResponse(searchService.findWithinBox(minLongitude, minLatitude, maxLongitude, maxLatitude,
+                    keysetCursor, pageSize));
+        } catch (Exception e) {
+            log.error("An error occurred while finding Assets within a box: {}", e.getMessage(), e);
+            return internalErrorResponse("An internal error occurred while finding Assets within a box");
+        }
+    }
+
+    @Secured("ROLE_read:asset")
+    @RequestMapping(
+            path = "/nearest",
+            method = RequestMethod.GET,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Retrieves the Assets nearest to a point",
+            description = "Finds the located Assets closest to a longitude/latitude point, closest first. Distances "
+                    + "are measured in degrees, so the ranking is only approximate far from the equator."
+    )
+    @SecurityRequirement(
+            name = "OIDC",
+            scopes = "read:access"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "The nearest Assets were retrieved successfully",
+            content = @Content(
+                    array = @ArraySchema(schema = @Schema(implementation = Asset.class))
+            )
+    )
+    @GenericApiErrorResponses
+    public ResponseEntity<?> getNearestAssets(
+            @RequestParam(name = "longitude")
+            @DecimalMin("-180")
+            @DecimalMax("180")
+            Double longitude,
+            @RequestParam(name = "latitude")
+            @DecimalMin("-90")
+            @DecimalMax("90")
+            Double latitude,
+            @RequestParam(name = "count", defaultValue = "10")
+            @Parameter(description = "The maximum number of Assets to return")
+            @Max(100)
+            @Min(1)
+            Integer count
+    ) {
+        try {
+            return successResponse(searchService.findNearest(longitude, latitude, count));
+        } catch (Exception e) {
+            log.error("An error occurred while finding the nearest Assets: {}", e.getMessage(), e);
+            return internalErrorResponse("An internal error occurred while finding the nearest Assets");
+        }
+    }
+
+    @Secured("ROLE_read:asset")
+    @RequestMapping(
+            path = "/export",
+            method = RequestMethod.GET,
+            produces = NDJSON_MEDIA_TYPE
+    )
+    @Operation(
+            summary = "Exports every Asset",
+            description = "Streams every Asset, ordered by ID, as newline-delimited JSON. Memory use on the server "
+                    + "doesn't depend on the number of Assets, so this is the preferred way to retrieve all of them."
+    )
+    @SecurityRequirement(
+            name = "OIDC",
+            scopes = "read:access"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Every Asset, one JSON object per line",
+            content = @Content(
+                    mediaType = NDJSON_MEDIA_TYPE,
                     schema = @Schema(implementation = Asset.class)
             )
     )
     @GenericApiErrorResponses
-    public ResponseEntity<?> updateAsset(
+    public void exportAssets(HttpServletResponse response) throws IOException {
+        export(response, exportProperties.getFetchSize(), exportProperties.getClearInterval());
+    }
+
+    @Secured("ROLE_write:asset")
+    @RequestMapping(
+            path = "/{id}",
+            method = RequestMethod.PUT,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Updates an existing Asset",
+            description = "Pass the ETag of a previous response as If-Match to update the Asset only if it hasn't been "
+                    + "modified since."
+    )
+    @SecurityRequirement(
+            name = "OIDC",
+            scopes = "write:access"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "The requested asset was updated successfully",
+                    content = @Content(
+                            schema = @Schema(implementation = Asset.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "The requested asset has been modified since the entity tag in If-Match was issued",
+                    content = @Content(
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GenericApiErrorResponses
+    public Object updateAsset(
             @PathVariable("id")
             @Schema(
                     description = "The ID of the Asset to be updated",
@@ -239,12 +759,65 @@ public class AssetController extends AbstractEntityCrudController<UUID, AssetDto
                     message = "must be a valid UUID"
             )
             String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false)
+            @Parameter(
+                    description = "The ETag of the Asset that is being updated, or * to update it at any version",
+                    example = ValidationUtils.IF_MATCH_EXAMPLE_OBJECT
+            )
+            @Pattern(
+                    regexp = ValidationUtils.IF_MATCH_PATTERN,
+                    message = "must be * or a single strong entity tag"
+            )
+            String ifMatch,
             @RequestBody
             @NotNull(message = "A request body must be provided")
             @Valid
             AssetDto asset
     ) {
-        return update(parseIdString(id), asset);
+        Long expectedVersion = ifMatch != null && !ifMatch.equals("*")
+                ? Long.valueOf(ifMatch.substring(1, ifMatch.length() - 1))
+                : null;
+        if (expectedVersion == null) {
+            return async(() -> update(parseIdString(id), asset));
+        }
+        return async(() -> {
+            UUID assetId = parseIdString(id);
+            return update(assetId, () -> service.update(assetId, asset, expectedVersion));
+        });
+    }
+
+    @Secured("ROLE_write:asset")
+    @RequestMapping(
+            path = "/batch",
+            method = RequestMethod.PUT,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Updates multiple existing Assets in a single transaction")
+    @SecurityRequirement(
+            name = "OIDC",
+            scopes = "write:access"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "The requested assets that exist were updated successfully. The IDs of any that do not exist "
+                    + "are listed in the response",
+            content = @Content(
+                    schema = @Schema(implementation = BatchResult.class)
+            )
+    )
+    @GenericApiErrorResponses
+    public Object updateAssets(
+            @RequestBody
+            @NotNull(message = "A request body must be provided")
+            @Size(min = 1, max = MAX_BATCH_SIZE)
+            List<@Valid @NotNull AssetUpdateDto> assets
+    ) {
+        Map<UUID, AssetDto> assetsById = new LinkedHashMap<>();
+        for (AssetUpdateDto asset : assets) {
+            assetsById.put(parseIdString(asset.getId()), asset.getAsset());
+        }
+        return async(() -> updateMultiple(assetsById));
     }
 
     @Secured("ROLE_write:asset")
@@ -262,7 +835,7 @@ public class AssetController extends AbstractEntityCrudController<UUID, AssetDto
             description = "The requested Asset was deleted successfully"
     )
     @GenericApiErrorResponses
-    public ResponseEntity<?> deleteAsset(
+    public Object deleteAsset(
             @PathVariable("id")
             @Schema(
                     description = "The ID of the Asset to be deleted",
@@ -277,6 +850,57 @@ public class AssetController extends AbstractEntityCrudController<UUID, AssetDto
             )
             String id
     ) {
-        return delete(parseIdString(id));
+        return async(() -> delete(parseIdString(id)));
+    }
+
+    @Secured("ROLE_write:asset")
+    @RequestMapping(
+            path = "/batch/delete",
+            method = RequestMethod.POST,
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Deletes multiple Assets in a single transaction")
+    @SecurityRequirement(
+            name = "OIDC",
+            scopes = "write:access"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "The requested Assets that exist were deleted successfully. The IDs of any that do not exist "
+                    + "are listed in the response",
+            content = @Content(
+                    schema = @Schema(implementation = BatchResult.class)
+            )
+    )
+    @GenericApiErrorResponses
+    public Object deleteAssets(
+            @RequestBody
+            @NotNull(message = "A request body must be provided")
+            @Size(min = 1, max = MAX_BATCH_SIZE)
+            List<
+                    @NotNull
+                    @Pattern(
+                            regexp = ValidationUtils.UUID_PATTERN,
+                            flags = Pattern.Flag.CASE_INSENSITIVE,
+                            message = "must be a valid UUID"
+                    )
+                    String> ids
+    ) {
+        return async(() -> deleteMultiple(ids.stream().map(this::parseIdString).toList()));
+    }
+
+    /**
+     * @return The names of the fields in a validated, comma-separated list of {@link Asset.Field Asset.Fields}, in
+     * request order and without duplicates, or null if no list was provided
+     */
+    private static List<String> parseFields(String fields) {
+        if (fields == null) {
+            return null;
+        }
+        return Arrays.stream(fields.split(","))
+                .map(fieldName -> Asset.Field.fromString(fieldName.trim()).getFieldName())
+                .distinct()
+                .toList();
     }
 }
@@ -1,10 +1,19 @@
 package com.mromanak.multitenant.test.controller;
 
+import com.mromanak.multitenant.test.model.CountMode;
 import com.mromanak.multitenant.test.model.DtoFor;
+import com.mromanak.multitenant.test.model.FieldRange;
 import com.mromanak.multitenant.test.model.Identifiable;
+import com.mromanak.multitenant.test.model.KeysetCursor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Defines the contract of a controller that performs CRUD operations for a given entity class.
  * <p/>
@@ -18,13 +27,28 @@ import org.springframework.http.ResponseEntity;
 public interface EntityCrudController<I, D extends DtoFor<I, E>, E extends Identifiable<I>> {
     ResponseEntity<?> create(D dto);
 
+    ResponseEntity<?> createMultiple(Iterable<D> dtos);
+
     ResponseEntity<?> read(I id);
 
+    ResponseEntity<?> read(I id, List<String> fieldNames);
+
     ResponseEntity<?> readMultiple(Iterable<I> ids);
 
-    ResponseEntity<?> readPage(Pageable pageRequest);
+    ResponseEntity<?> readPage(Pageable pageRequest, CountMode countMode);
+
+    ResponseEntity<?> readPage(Pageable pageRequest, CountMode countMode, List<FieldRange<?>> filters,
+                               List<String> fieldNames);
+
+    ResponseEntity<?> readKeysetPage(KeysetCursor cursor, int pageSize);
+
+    void export(HttpServletResponse response, int fetchSize, int clearInterval) throws IOException;
 
     ResponseEntity<?> update(I id, D dto);
 
+    ResponseEntity<?> updateMultiple(Map<I, D> dtosById);
+
     ResponseEntity<?> delete(I id);
+
+    ResponseEntity<?> deleteMultiple(Collection<I> ids);
 }
@@ -0,0 +1,215 @@
+package com.mromanak.multitenant.test.controller;
+
+import com.mromanak.multitenant.test.model.entity.Asset;
+import com.mromanak.multitenant.test.model.error.ErrorResponse;
+import com.mromanak.multitenant.test.openapi.GenericApiErrorResponses;
+import com.mromanak.multitenant.test.service.ReactiveAssetService;
+import com.mromanak.multitenant.test.validation.ValidationUtils;
+import com.mromanak.multitenant.test.validation.annotation.ValidAssetSortField;
+import com.mromanak.multitenant.test.validation.annotation.ValidSortDirection;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Pattern;
+import java.util.UUID;
+
+/**
+ * A read-only controller for {@link Asset Assets} that never blocks a thread on the database.
+ * <p/>
+ * It's served by Spring MVC alongside {@link AssetController}, which adapts the returned {@link Mono Monos} and
+ * {@link Flux Fluxes} to asynchronous servlet requests: the container thread is released as soon as the query has been
+ * issued, and the response is written once R2DBC delivers the rows. Validation and {@link Secured @Secured} checks
+ * still happen on the container thread, before the query is issued.
+ */
+@RestController
+@RequestMapping("/reactive/asset")
+@Validated
+@Slf4j
+@ConditionalOnProperty(prefix = "reactive", name = "enabled", havingValue = "true")
+public class ReactiveAssetController {
+
+    private final ReactiveAssetService service;
+
+    @Autowired
+    public ReactiveAssetController(ReactiveAssetService service) {
+        this.service = service;
+    }
+
+    @Secured("ROLE_read:asset")
+    @RequestMapping(
+            path = "/{id}",
+            method = RequestMethod.GET,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Retrieves an Asset without blocking")
+    @SecurityRequirement(
+            name = "OIDC",
+            scopes = "read:access"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "The requested asset was retrieved successfully",
+            content = @Content(
+                    schema = @Schema(implementation = Asset.class)
+            )
+    )
+    @GenericApiErrorResponses
+    public Mono<ResponseEntity<?>> getAsset(
+            @PathVariable("id")
+            @Schema(
+                    description = "The ID of the Asset to be retrieved",
+                    minLength = 36,
+                    maxLength = 36,
+                    example = ValidationUtils.UUID_EXAMPLE_OBJECT
+            )
+            @Pattern(
+                    regexp = ValidationUtils.UUID_PATTERN,
+                    flags = Pattern.Flag.CASE_INSENSITIVE,
+                    message = "must be a valid UUID"
+            )
+            String id
+    ) {
+        UUID uuid = UUID.fromString(id);
+        return service.read(uuid)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .defaultIfEmpty(errorResponse(HttpStatus.NOT_FOUND, "No Asset entity found with ID " + uuid))
+                .onErrorResume(e -> {
+                    log.error("An error occurred while getting an Asset entity: {}", e.getMessage(), e);
+                    return Mono.just(internalErrorResponse("An internal error occurred while getting an Asset entity"));
+                });
+    }
+
+    @Secured("ROLE_read:asset")
+    @RequestMapping(
+            method = RequestMethod.GET,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Retrieves a page of Assets without blocking",
+            description = "The page is read and the Assets are counted at the same time, on separate connections."
+    )
+    @SecurityRequirement(
+            name = "OIDC",
+            scopes = "read:access"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "The requested page of Assets was retrieved successfully",
+            content = @Content(
+                    array = @ArraySchema(
+                            arraySchema = @Schema(implementation = Page.class),
+                            schema = @Schema(implementation = Asset.class)
+                    )
+            )
+    )
+    @GenericApiErrorResponses
+    public Mono<ResponseEntity<?>> getAssetPage(
+            @RequestParam(name = "pageNumber", defaultValue = "0")
+            @Max(Integer.MAX_VALUE)
+            @Min(0)
+            Integer pageNumber,
+            @RequestParam(name = "pageSize", defaultValue = "25")
+            @Max(100)
+            @Min(1)
+            Integer pageSize,
+            @RequestParam(name = "sortField", defaultValue = "id")
+            @Parameter(
+                    schema = @Schema(
+                            implementation = Asset.SortField.class,
+                            enumAsRef = true
+                    )
+            )
+            @ValidAssetSortField
+            String sortField,
+            @RequestParam(name = "sortDirection", defaultValue = "asc")
+            @Parameter(
+                    schema = @Schema(
+                            implementation = Sort.Direction.class,
+                            enumAsRef = true
+                    )
+            )
+            @ValidSortDirection
+            String sortDirection
+    ) {
+        PageRequest pageRequest = PageRequest.of(pageNumber, pageSize, Sort.by(new Sort.Order(
+                Sort.Direction.fromString(sortDirection),
+                Asset.SortField.fromString(sortField).getFieldName()
+        )));
+        return service.readPage(pageRequest)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(e -> {
+                    log.error("An error occurred while getting a page of Asset entities ({}): {}", pageRequest,
+                            e.getMessage(), e);
+                    return Mono.just(internalErrorResponse(
+                            "An internal error occurred while getting a page of Asset entities"
+                    ));
+                });
+    }
+
+    @Secured("ROLE_read:asset")
+    @RequestMapping(
+            path = "/export",
+            method = RequestMethod.GET,
+            produces = AbstractEntityCrudController.NDJSON_MEDIA_TYPE
+    )
+    @Operation(
+            summary = "Streams every Asset without blocking",
+            description = "Streams every Asset, ordered by ID, as newline-delimited JSON. Rows are only fetched from "
+                    + "the database as fast as the client reads the response."
+    )
+    @SecurityRequirement(
+            name = "OIDC",
+            scopes = "read:access"
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Every Asset, one JSON object per line",
+            content = @Content(
+                    mediaType = AbstractEntityCrudController.NDJSON_MEDIA_TYPE,
+                    schema = @Schema(implementation = Asset.class)
+            )
+    )
+    @GenericApiErrorResponses
+    public Flux<Asset> exportAssets() {
+        // Once the first Asset has been written, the status line has been sent, so an error can only cut the response
+        // short
+        return service.streamAll()
+                .doOnError(e -> log.error("An error occurred while exporting Asset entities: {}", e.getMessage(), e));
+    }
+
+    private static ResponseEntity<ErrorResponse> internalErrorResponse(String message) {
+        return errorResponse(HttpStatus.INTERNAL_SERVER_ERROR, message);
+    }
+
+    private static ResponseEntity<ErrorResponse> errorResponse(HttpStatus status, String message) {
+        ErrorResponse errorResponse = new ErrorResponse();
+        errorResponse.setErrorMessage(message);
+
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+}
@@ -0,0 +1,160 @@
+package com.mromanak.multitenant.test.event;
+
+import com.mromanak.multitenant.test.config.jpa.cache.TenantPartitionedStorageAccess;
+import com.mromanak.multitenant.test.service.EntityCountService;
+import com.mromanak.multitenant.test.service.ResponseCache;
+import com.mromanak.multitenant.test.service.TenantService;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.StringRepresentableType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Drops the cached data named by {@link CacheInvalidationMessage CacheInvalidationMessages} received from other nodes.
+ * <p/>
+ * Messages about entities evict the named entities from Hibernate's second-level cache, then are republished as remote
+ * {@link EntityWriteEvent EntityWriteEvents}, so that every other cache that listens for writes drops its entries the
+ * same way it would for a local write. Messages that this node sent itself are ignored, since its caches were already
+ * updated when the write committed.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationHandler {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final SessionFactoryImplementor sessionFactory;
+    private final TenantService tenantService;
+    private final EntityCountService countService;
+    private final ResponseCache responseCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    public CacheInvalidationHandler(
+            EntityManagerFactory entityManagerFactory,
+            TenantService tenantService,
+            EntityCountService countService,
+            ResponseCache responseCache,
+            ApplicationEventPublisher applicationEventPublisher
+    ) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.tenantService = tenantService;
+        this.countService = countService;
+        this.responseCache = responseCache;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    /**
+     * @return The ID that this node puts in the messages it sends
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * @return The JPA entity name that messages use for the given entity class
+     */
+    public String getEntityName(Class<?> entityClass) {
+        return sessionFactory.getMetamodel().entity(entityClass).getName();
+    }
+
+    /**
+     * Drops the cached data named by a message payload. Malformed payloads are logged and ignored.
+     */
+    public void handle(String payload) {
+        CacheInvalidationMessage message;
+        try {
+            message = CacheInvalidationMessage.decode(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed cache invalidation message: {}", payload);
+            return;
+        }
+
+        switch (message.type()) {
+            case TENANTS -> tenantService.evictCache();
+            case ENTITIES -> {
+                if (!nodeId.equals(message.nodeId())) {
+                    evictEntities(message);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops all cached data, e.g. after messages may have been missed while this node wasn't listening
+     */
+    public void evictAll() {
+        tenantService.evictCache();
+        sessionFactory.getCache().evictAllRegions();
+        countService.evictAll();
+        responseCache.evictAll();
+    }
+
+    private void evictEntities(CacheInvalidationMessage message) {
+        EntityPersister persister = findPersister(message.entityName());
+        if (persister == null) {
+            log.warn("Ignoring cache invalidation message for unknown entity {}", message.entityName());
+            return;
+        }
+
+        List<Object> ids = parseIds(persister, message.ids());
+        evictSecondLevelCache(persister, message.tenantId(), ids);
+        applicationEventPublisher.publishEvent(
+                new EntityWriteEvent(message.tenantId(), persister.getMappedClass(), ids, true)
+        );
+    }
+
+    private EntityPersister findPersister(String entityName) {
+        String className = sessionFactory.getMetamodel().getImportedClassName(entityName);
+        if (className == null) {
+            return null;
+        }
+        try {
+            return sessionFactory.getMetamodel().entityPersister(className);
+        } catch (HibernateException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Converts the IDs back to the entity's ID type. If that isn't possible, they are all dropped, which means that any
+     * entity may have been written.
+     */
+    private static List<Object> parseIds(EntityPersister persister, List<String> ids) {
+        if (!(persister.getIdentifierType() instanceof StringRepresentableType<?> idType)) {
+            return List.of();
+        }
+        try {
+            return ids.stream().<Object>map(idType::fromStringValue).toList();
+        } catch (HibernateException | IllegalArgumentException e) {
+            log.warn("Could not parse the IDs in a cache invalidation message for {}, evicting all of them",
+                    persister.getEntityName(), e);
+            return List.of();
+        }
+    }
+
+    private void evictSecondLevelCache(EntityPersister persister, String tenantId, List<Object> ids) {
+        EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+        if (cacheAccess == null) {
+            return;
+        }
+
+        if (!ids.isEmpty()) {
+            ids.forEach(id -> cacheAccess.evict(cacheAccess.generateCacheKey(id, persister, sessionFactory, tenantId)));
+        } else if (cacheAccess.getRegion() instanceof DomainDataRegionTemplate region
+                && region.getCacheStorageAccess() instanceof TenantPartitionedStorageAccess storageAccess) {
+            storageAccess.evictTenantData(tenantId);
+        } else {
+            cacheAccess.evictAll();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.mromanak.multitenant.test.event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A message that tells every node to drop cached data that another node (or the database itself) has made stale.
+ * <p/>
+ * Messages are sent as Postgres notification payloads, which must be shorter than 8000 bytes, so they are kept compact:
+ * <ul>
+ *     <li>{@code T} means that {@code public.tenant} changed</li>
+ *     <li>{@code E;<nodeId>;<tenantId>;<entityName>;<id>,<id>,...} means that the listed entities of one tenant were
+ *     written by the node with the given ID. If the IDs don't fit in a single payload, they are replaced with
+ *     {@code *}, which means that any entity of that type may have been written.</li>
+ * </ul>
+ *
+ * @param type What changed
+ * @param nodeId The ID of the node that wrote the entities, or null for a {@link Type#TENANTS} message
+ * @param tenantId The ID of the tenant whose entities were written, or null for a {@link Type#TENANTS} message
+ * @param entityName The JPA entity name of the entities that were written, or null for a {@link Type#TENANTS} message
+ * @param ids The string form of the IDs of the entities that were written. Empty if any entity may have been written
+ */
+public record CacheInvalidationMessage(Type type, String nodeId, String tenantId, String entityName, List<String> ids) {
+
+    /**
+     * The Postgres notification channel that messages are sent on
+     */
+    public static final String CHANNEL = "cache_invalidation";
+
+    public static final int MAX_PAYLOAD_BYTES = 7999;
+
+    private static final String SEPARATOR = ";";
+    private static final String ID_SEPARATOR = ",";
+    private static final String ALL_IDS = "*";
+    private static final String TENANTS_PAYLOAD = "T";
+    private static final String ENTITIES_PREFIX = "E";
+
+    public enum Type {
+        TENANTS,
+        ENTITIES
+    }
+
+    public CacheInvalidationMessage {
+        Objects.requireNonNull(type, "type must not be null");
+        if (type == Type.ENTITIES) {
+            Objects.requireNonNull(nodeId, "nodeId must not be null");
+            Objects.requireNonNull(tenantId, "tenantId must not be null");
+            Objects.requireNonNull(entityName, "entityName must not be null");
+        }
+        ids = ids == null ? List.of() : List.copyOf(ids);
+    }
+
+    public static CacheInvalidationMessage tenants() {
+        return new CacheInvalidationMessage(Type.TENANTS, null, null, null, List.of());
+    }
+
+    public static CacheInvalidationMessage entities(
+            String nodeId,
+            String tenantId,
+            String entityName,
+            List<String> ids
+    ) {
+        return new CacheInvalidationMessage(Type.ENTITIES, nodeId, tenantId, entityName, ids);
+    }
+
+    /**
+     * @return The payload of this message, with the IDs replaced by {@code *} if they would make it longer than
+     * {@link #MAX_PAYLOAD_BYTES}
+     */
+    public String encode() {
+        if (type == Type.TENANTS) {
+            return TENANTS_PAYLOAD;
+        }
+
+        String prefix = String.join(SEPARATOR, ENTITIES_PREFIX, nodeId, tenantId, entityName) + SEPARATOR;
+        String payload = prefix + (ids.isEmpty() ? ALL_IDS : String.join(ID_SEPARATOR, ids));
+        return payload.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES ? payload : prefix + ALL_IDS;
+    }
+
+    /**
+     * Parses a payload produced by {@link #encode()}
+     *
+     * @throws IllegalArgumentException If the payload is not a valid message
+     */
+    public static CacheInvalidationMessage decode(String payload) {
+        Objects.requireNonNull(payload, "payload must not be null");
+        if (TENANTS_PAYLOAD.equals(payload)) {
+            return tenants();
+        }
+
+        String[] parts = payload.split(SEPARATOR, -1);
+        if (parts.length != 5 || !ENTITIES_PREFIX.equals(parts[0])) {
+            throw new IllegalArgumentException("Malformed cache invalidation message: " + payload);
+        }
+        List<String> ids = ALL_IDS.equals(parts[4]) ? List.of() : Arrays.asList(parts[4].split(ID_SEPARATOR));
+        return entities(parts[1], parts[2], parts[3], ids);
+    }
+}
@@ -0,0 +1,26 @@
+package com.mromanak.multitenant.test.event;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Published whenever entities are created, updated, or deleted through an
+ * {@link com.mromanak.multitenant.test.service.EntityCrudService EntityCrudService}, so that anything derived from the
+ * persisted state of those entities (e.g. cached counts) can be invalidated.
+ *
+ * @param tenantId The ID of the tenant whose entities were written
+ * @param entityClass The class of the entities that were written
+ * @param ids The IDs of the entities that were written. Empty if any entity of the class may have been written
+ * @param remote Whether the entities were written by another node, in which case the event was published when that
+ *               node's invalidation message was received
+ */
+public record EntityWriteEvent(String tenantId, Class<?> entityClass, Collection<?> ids, boolean remote) {
+
+    public EntityWriteEvent {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        Objects.requireNonNull(entityClass, "entityClass must not be null");
+        Objects.requireNonNull(ids, "ids must not be null");
+        ids = List.copyOf(ids);
+    }
+}
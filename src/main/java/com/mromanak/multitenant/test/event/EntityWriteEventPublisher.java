@@ -0,0 +1,40 @@
+package com.mromanak.multitenant.test.event;
+
+import com.mromanak.multitenant.test.config.jpa.CurrentTenantResolver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Publishes {@link EntityWriteEvent EntityWriteEvents} on behalf of the current tenant.
+ * <p/>
+ * Events are published synchronously, on the thread (and in the transaction) that wrote the entities. Listeners that
+ * should only react to writes that actually committed should use
+ * {@link org.springframework.transaction.event.TransactionalEventListener @TransactionalEventListener}.
+ */
+@Component
+public class EntityWriteEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final CurrentTenantResolver currentTenantResolver;
+
+    @Autowired
+    public EntityWriteEventPublisher(
+            ApplicationEventPublisher applicationEventPublisher,
+            CurrentTenantResolver currentTenantResolver
+    ) {
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.currentTenantResolver = currentTenantResolver;
+    }
+
+    public void publish(Class<?> entityClass, Collection<?> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        applicationEventPublisher.publishEvent(
+                new EntityWriteEvent(currentTenantResolver.resolveCurrentTenantIdentifier(), entityClass, ids, false)
+        );
+    }
+}
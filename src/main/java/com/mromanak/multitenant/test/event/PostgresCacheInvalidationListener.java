@@ -0,0 +1,120 @@
+package com.mromanak.multitenant.test.event;
+
+import com.mromanak.multitenant.test.config.CacheInvalidationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Listens for {@link CacheInvalidationMessage CacheInvalidationMessages} on the
+ * {@value CacheInvalidationMessage#CHANNEL} Postgres notification channel and passes them to a
+ * {@link CacheInvalidationHandler}.
+ * <p/>
+ * The listener holds one connection from the pool for as long as the application runs. Whenever that connection is
+ * (re)established, all cached data is dropped, since any messages sent while this node wasn't listening were lost.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cache-invalidation", name = "enabled", havingValue = "true")
+@Slf4j
+public class PostgresCacheInvalidationListener implements SmartLifecycle {
+
+    private final DataSource dataSource;
+    private final CacheInvalidationHandler cacheInvalidationHandler;
+    private final CacheInvalidationProperties properties;
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Autowired
+    public PostgresCacheInvalidationListener(
+            DataSource dataSource,
+            CacheInvalidationHandler cacheInvalidationHandler,
+            CacheInvalidationProperties properties
+    ) {
+        this.dataSource = dataSource;
+        this.cacheInvalidationHandler = cacheInvalidationHandler;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            listenerThread.join(properties.getPollTimeout().multipliedBy(2).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try {
+                    listen(connection);
+                } finally {
+                    // The pool doesn't reset LISTEN, so stop listening before the connection is returned to it
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("UNLISTEN *");
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Lost the cache invalidation listener connection, reconnecting in {}",
+                        properties.getReconnectDelay(), e);
+                try {
+                    Thread.sleep(properties.getReconnectDelay().toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CacheInvalidationMessage.CHANNEL);
+        }
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        cacheInvalidationHandler.evictAll();
+        log.info("Listening for cache invalidation messages on channel {}", CacheInvalidationMessage.CHANNEL);
+
+        int pollTimeoutMillis = (int) Math.max(1, properties.getPollTimeout().toMillis());
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                try {
+                    cacheInvalidationHandler.handle(notification.getParameter());
+                } catch (RuntimeException e) {
+                    log.warn("Failed to handle cache invalidation message: {}", notification.getParameter(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.mromanak.multitenant.test.event;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.persistence.EntityManager;
+import java.sql.PreparedStatement;
+
+/**
+ * Tells the other nodes about local {@link EntityWriteEvent EntityWriteEvents} by sending a
+ * {@link CacheInvalidationMessage} on the {@value CacheInvalidationMessage#CHANNEL} Postgres notification channel.
+ * <p/>
+ * The notification is sent on the connection that wrote the entities, just before the transaction commits. Postgres
+ * only delivers notifications once their transaction commits, so other nodes are told about a write exactly when it
+ * becomes visible to them, and never about a write that was rolled back.
+ */
+@Component
+@ConditionalOnProperty(prefix = "cache-invalidation", name = "enabled", havingValue = "true")
+public class PostgresCacheInvalidationPublisher {
+
+    private static final String NOTIFY_QUERY = "select pg_notify(?, ?)";
+
+    private final EntityManager entityManager;
+    private final CacheInvalidationHandler cacheInvalidationHandler;
+
+    @Autowired
+    public PostgresCacheInvalidationPublisher(
+            EntityManager entityManager,
+            CacheInvalidationHandler cacheInvalidationHandler
+    ) {
+        this.entityManager = entityManager;
+        this.cacheInvalidationHandler = cacheInvalidationHandler;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onEntityWrite(EntityWriteEvent event) {
+        if (event.remote()) {
+            return;
+        }
+
+        String payload = CacheInvalidationMessage.entities(
+                cacheInvalidationHandler.getNodeId(),
+                event.tenantId(),
+                cacheInvalidationHandler.getEntityName(event.entityClass()),
+                event.ids().stream().map(String::valueOf).toList()
+        ).encode();
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(NOTIFY_QUERY)) {
+                statement.setString(1, CacheInvalidationMessage.CHANNEL);
+                statement.setString(2, payload);
+                statement.execute();
+            }
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.mromanak.multitenant.test.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The outcome of an operation applied to a batch of entities, split into the results for the entities that were found
+ * and the identifiers of the entities that were not
+ *
+ * @param <R> The type of result produced for each entity that was found
+ * @param <I> The identifier type for the entity class
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(
+        name = BatchResult.REF,
+        description = "The outcome of an operation applied to a batch of entities",
+        additionalProperties = Schema.AdditionalPropertiesValue.FALSE
+)
+public class BatchResult<R, I> {
+
+    public static final String REF = "BatchResult";
+
+    @Schema(description = "The results for the entities that were found, in request order")
+    private List<R> results;
+
+    @Schema(description = "The IDs of the entities that were not found, in request order")
+    private List<I> notFound;
+}
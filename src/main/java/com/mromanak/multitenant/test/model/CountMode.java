@@ -0,0 +1,57 @@
+package com.mromanak.multitenant.test.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * An enumeration of the ways the total number of entities may be counted when a page of entities is retrieved.
+ * Configured to use the lower-case name of the mode for serialization and deserialization
+ */
+public enum CountMode {
+    /**
+     * Count the entities exactly with a {@code COUNT} query
+     */
+    EXACT("exact"),
+    /**
+     * Use the row count estimated by the database's table statistics, falling back to {@link #EXACT} for databases
+     * that don't keep them
+     */
+    ESTIMATED("estimated"),
+    /**
+     * Reuse the exact count from a previous request until the entities are next written to
+     */
+    CACHED("cached"),
+    /**
+     * Don't count the entities at all, and only report whether there is a next page
+     */
+    NONE("none");
+
+    private static final Map<String, CountMode> DISPLAY_VALUE_TO_COUNT_MODE_MAP;
+
+    static {
+        DISPLAY_VALUE_TO_COUNT_MODE_MAP = Stream.of(values())
+                .collect(toMap(CountMode::getDisplayValue, Function.identity()));
+    }
+
+    private final String displayValue;
+
+    CountMode(String displayValue) {
+        this.displayValue = displayValue;
+    }
+
+    @JsonCreator
+    public static CountMode fromString(String displayValue) {
+        return DISPLAY_VALUE_TO_COUNT_MODE_MAP.get(displayValue);
+    }
+
+    @JsonValue
+    public String getDisplayValue() {
+        return displayValue;
+    }
+}
@@ -0,0 +1,33 @@
+package com.mromanak.multitenant.test.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of entities from a keyset paginated sequence, along with the cursor that should be used to request the next
+ * page
+ *
+ * @param <E> The entity class
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(
+        name = CursorPage.REF,
+        description = "A page of entities retrieved using a cursor",
+        additionalProperties = Schema.AdditionalPropertiesValue.FALSE
+)
+public class CursorPage<E> {
+
+    public static final String REF = "CursorPage";
+
+    @Schema(description = "The entities in this page")
+    private List<E> content;
+
+    @Schema(description = "An opaque cursor used to request the next page, or null if this is the last page")
+    private String nextCursor;
+}
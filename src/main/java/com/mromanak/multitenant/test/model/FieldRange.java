@@ -0,0 +1,26 @@
+package com.mromanak.multitenant.test.model;
+
+import java.util.Objects;
+
+/**
+ * Restricts a query to the entities whose value for a field lies strictly between two bounds. Either bound may be
+ * omitted to leave that side of the range open.
+ *
+ * @param fieldName The name of the field to be filtered on
+ * @param after The exclusive lower bound, or null for no lower bound
+ * @param before The exclusive upper bound, or null for no upper bound
+ * @param <T> The type of the field
+ */
+public record FieldRange<T extends Comparable<? super T>>(String fieldName, T after, T before) {
+
+    public FieldRange {
+        Objects.requireNonNull(fieldName, "fieldName must not be null");
+    }
+
+    /**
+     * @return true if neither bound is set, i.e. the range doesn't filter anything out
+     */
+    public boolean isUnbounded() {
+        return after == null && before == null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.mromanak.multitenant.test.model;
+
+import com.fasterxml.jackson.databind.util.StdConverter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A WGS 84 longitude/latitude pair, used to describe the location of an entity in requests and responses instead of
+ * exposing the JTS {@link Point} that the location is persisted as
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+        name = GeoPoint.REF,
+        description = "A WGS 84 (EPSG:4326) longitude and latitude, in degrees",
+        additionalProperties = Schema.AdditionalPropertiesValue.FALSE,
+        example = GeoPoint.EXAMPLE_OBJECT
+)
+public class GeoPoint {
+
+    public static final String REF = "GeoPoint";
+
+    public static final String EXAMPLE_OBJECT = """
+            {
+                "longitude": -122.4194,
+                "latitude": 37.7749
+            }""";
+
+    /**
+     * The spatial reference ID of WGS 84, which every location is stored in
+     */
+    public static final int SRID = 4326;
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), SRID);
+
+    @Schema(description = "The longitude, in degrees east of the prime meridian")
+    @NotNull
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    private Double longitude;
+
+    @Schema(description = "The latitude, in degrees north of the equator")
+    @NotNull
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    private Double latitude;
+
+    /**
+     * @return The longitude and latitude of a point, or null if {@code point} is null
+     */
+    public static GeoPoint of(Point point) {
+        if (point == null) {
+            return null;
+        }
+        return new GeoPoint(point.getX(), point.getY());
+    }
+
+    /**
+     * @return This longitude and latitude as a point in {@value #SRID}
+     */
+    public Point toPoint() {
+        return GEOMETRY_FACTORY.createPoint(new Coordinate(longitude, latitude));
+    }
+
+    /**
+     * Serializes a {@link Point} as a {@link GeoPoint}
+     */
+    public static class FromPoint extends StdConverter<Point, GeoPoint> {
+
+        @Override
+        public GeoPoint convert(Point point) {
+            return of(point);
+        }
+    }
+}
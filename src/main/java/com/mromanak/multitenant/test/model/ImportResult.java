@@ -0,0 +1,60 @@
+package com.mromanak.multitenant.test.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A report of the outcome of importing a stream of entities
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(
+        name = ImportResult.REF,
+        description = "A report of the outcome of importing a stream of entities",
+        additionalProperties = Schema.AdditionalPropertiesValue.FALSE
+)
+public class ImportResult {
+
+    public static final String REF = "ImportResult";
+
+    @Schema(description = "The number of rows that were imported")
+    private long imported;
+
+    @Schema(description = "The number of rows that were rejected")
+    private long rejected;
+
+    @Schema(description = "The errors found in the rejected rows, in the order they were found. Only a limited number "
+            + "of errors are reported, so there may be fewer errors than rejected rows")
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * An error that caused a row to be rejected
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Schema(
+            name = RowError.REF,
+            description = "The location and detail of an error that caused a row to be rejected",
+            additionalProperties = Schema.AdditionalPropertiesValue.FALSE
+    )
+    public static class RowError {
+
+        public static final String REF = "ImportRowError";
+
+        @Schema(description = "The 1-based line number of the rejected row")
+        private long line;
+
+        @Schema(description = "The field of the row that was invalid, or null if the whole row was unreadable")
+        private String field;
+
+        @Schema(description = "A description of this error")
+        private String message;
+    }
+}
@@ -0,0 +1,91 @@
+package com.mromanak.multitenant.test.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.mromanak.multitenant.test.validation.ValidationUtils;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Formats and parses {@link Instant Instants} as ISO-8601 timestamps in {@link ValidationUtils#ISO_8601_DATE_FORMAT},
+ * which always has millisecond precision and is always written in UTC (e.g. {@code 1970-01-01T00:00:00.000Z})
+ * <p/>
+ * {@link DateTimeFormatter DateTimeFormatters} are immutable and thread-safe, so a single one is shared by every
+ * conversion
+ */
+public abstract class Iso8601Timestamps {
+
+    private static final DateTimeFormatter FORMATTER =
+            DateTimeFormatter.ofPattern(ValidationUtils.ISO_8601_DATE_FORMAT).withZone(ZoneOffset.UTC);
+
+    /**
+     * @return The formatted timestamp, or null if {@code timestamp} is null
+     */
+    public static String format(Instant timestamp) {
+        if (timestamp == null) {
+            return null;
+        }
+        return FORMATTER.format(timestamp);
+    }
+
+    /**
+     * Parses a timestamp that matches {@link ValidationUtils#ISO_8601_DATE_PATTERN}
+     *
+     * @return The parsed timestamp, or null if {@code timestamp} is null
+     * @throws DateTimeParseException If the timestamp can't be parsed
+     */
+    public static Instant parse(String timestamp) {
+        if (timestamp == null) {
+            return null;
+        }
+        return OffsetDateTime.parse(timestamp, FORMATTER).toInstant();
+    }
+
+    /**
+     * Serializes an {@link Instant} with {@link #format(Instant)}
+     */
+    public static class Serializer extends StdScalarSerializer<Instant> {
+
+        public Serializer() {
+            super(Instant.class);
+        }
+
+        @Override
+        public void serialize(Instant value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeString(format(value));
+        }
+    }
+
+    /**
+     * Deserializes an {@link Instant} with {@link #parse(String)}
+     */
+    public static class Deserializer extends StdScalarDeserializer<Instant> {
+
+        public Deserializer() {
+            super(Instant.class);
+        }
+
+        @Override
+        public Instant deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+                return (Instant) context.handleUnexpectedToken(Instant.class, parser);
+            }
+            String text = parser.getText();
+            try {
+                return parse(text);
+            } catch (DateTimeParseException e) {
+                return (Instant) context.handleWeirdStringValue(Instant.class, text, e.getMessage());
+            }
+        }
+    }
+}
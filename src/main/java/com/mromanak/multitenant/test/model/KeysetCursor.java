@@ -0,0 +1,97 @@
+package com.mromanak.multitenant.test.model;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * The position of a client within a keyset (a.k.a. cursor) paginated sequence of entities: the field and direction the
+ * sequence is sorted by, and the sort field value and ID of the last entity the client has already seen.
+ * <p/>
+ * Rather than skipping some number of rows with {@code OFFSET}, the next page is found by seeking directly past the
+ * {@code (lastValue, lastId)} pair, which lets the database use an index on {@code (sortField, id)} no matter how deep
+ * into the sequence the client is. Clients receive cursors as opaque strings produced by {@link #encode()}.
+ *
+ * @param sortField The name of the field the sequence is sorted by
+ * @param direction The direction the sequence is sorted in
+ * @param lastValue The string form of the sort field value of the last entity seen, or null if no entities have been
+ *                  seen yet
+ * @param lastId The string form of the ID of the last entity seen, or null if no entities have been seen yet
+ */
+public record KeysetCursor(String sortField, Sort.Direction direction, String lastValue, String lastId) {
+
+    private static final String SEPARATOR = ":";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public KeysetCursor {
+        Objects.requireNonNull(sortField, "sortField must not be null");
+        Objects.requireNonNull(direction, "direction must not be null");
+        if ((lastValue == null) != (lastId == null)) {
+            throw new IllegalArgumentException("lastValue and lastId must both be null or both be non-null");
+        }
+    }
+
+    /**
+     * Creates a cursor positioned before the first entity of a sequence
+     */
+    public static KeysetCursor start(String sortField, Sort.Direction direction) {
+        return new KeysetCursor(sortField, direction, null, null);
+    }
+
+    /**
+     * @return true if this cursor is positioned before the first entity of its sequence
+     */
+    public boolean isAtStart() {
+        return lastId == null;
+    }
+
+    /**
+     * Creates a cursor for the same sequence as this one, positioned after the entity with the given sort field value
+     * and ID
+     */
+    public KeysetCursor after(String value, String id) {
+        return new KeysetCursor(sortField, direction, value, id);
+    }
+
+    /**
+     * @return An opaque, URL-safe string representation of this cursor
+     */
+    public String encode() {
+        String decoded = String.join(SEPARATOR,
+                encodePart(sortField),
+                direction.name(),
+                isAtStart() ? "" : encodePart(lastValue),
+                isAtStart() ? "" : encodePart(lastId));
+        return encodePart(decoded);
+    }
+
+    /**
+     * Parses a string produced by {@link #encode()}
+     *
+     * @throws IllegalArgumentException If the string is not a valid cursor
+     */
+    public static KeysetCursor decode(String encoded) {
+        Objects.requireNonNull(encoded, "encoded must not be null");
+        String[] parts = decodePart(encoded).split(SEPARATOR, -1);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+
+        Sort.Direction direction = Sort.Direction.valueOf(parts[1]);
+        if (parts[2].isEmpty() && parts[3].isEmpty()) {
+            return start(decodePart(parts[0]), direction);
+        }
+        return new KeysetCursor(decodePart(parts[0]), direction, decodePart(parts[2]), decodePart(parts[3]));
+    }
+
+    private static String encodePart(String part) {
+        return ENCODER.encodeToString(part.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(String part) {
+        return new String(DECODER.decode(part), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,12 @@
+package com.mromanak.multitenant.test.model;
+
+/**
+ * An entity whose persisted state carries a version number that is incremented every time it is updated. Versions are
+ * used as entity tags, so clients can make conditional requests.
+ */
+public interface Versioned {
+
+    Long getVersion();
+
+    void setVersion(Long version);
+}
@@ -0,0 +1,30 @@
+package com.mromanak.multitenant.test.model.converter;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.net.URI;
+
+/**
+ * Persists a {@link URI} as its string form
+ * <p/>
+ * Unlike {@link java.net.URL}, whose {@code equals} and {@code hashCode} resolve the host name, a {@link URI} is
+ * compared as text, so Hibernate can dirty check it without touching the network. {@link UriTypeContributor} tells
+ * Hibernate that it's immutable, so the snapshot taken when an entity is loaded is the same instance rather than a
+ * copy made by converting it to a string and back
+ */
+@Converter
+public class UriConverter implements AttributeConverter<URI, String> {
+
+    @Override
+    public String convertToDatabaseColumn(URI attribute) {
+        return attribute != null ? attribute.toString() : null;
+    }
+
+    /**
+     * @throws IllegalArgumentException If the column doesn't hold a valid URI
+     */
+    @Override
+    public URI convertToEntityAttribute(String dbData) {
+        return dbData != null ? URI.create(dbData) : null;
+    }
+}
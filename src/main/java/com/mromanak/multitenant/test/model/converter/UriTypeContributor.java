@@ -0,0 +1,70 @@
+package com.mromanak.multitenant.test.model.converter;
+
+import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.boot.model.TypeContributor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+
+import java.net.URI;
+
+/**
+ * Registers a Java type descriptor for {@link URI}, which Hibernate doesn't have one for. Without it, Hibernate falls
+ * back to treating {@link URI} as a mutable {@link java.io.Serializable}, and copies every {@link URI} attribute that
+ * goes through {@link UriConverter} whenever it takes a snapshot of an entity.
+ * <p/>
+ * Registered through {@code META-INF/services/org.hibernate.boot.model.TypeContributor}
+ */
+public class UriTypeContributor implements TypeContributor {
+
+    @Override
+    public void contribute(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
+        typeContributions.contributeJavaTypeDescriptor(UriJavaTypeDescriptor.INSTANCE);
+    }
+
+    /**
+     * Describes {@link URI} as an immutable type that is compared with {@link URI#equals(Object)} and converted to and
+     * from its string form
+     */
+    static class UriJavaTypeDescriptor extends AbstractTypeDescriptor<URI> {
+
+        static final UriJavaTypeDescriptor INSTANCE = new UriJavaTypeDescriptor();
+
+        private UriJavaTypeDescriptor() {
+            super(URI.class);
+        }
+
+        @Override
+        public String toString(URI value) {
+            return value.toString();
+        }
+
+        @Override
+        public URI fromString(String string) {
+            return URI.create(string);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X unwrap(URI value, Class<X> type, WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (String.class.isAssignableFrom(type)) {
+                return (X) value.toString();
+            }
+            throw unknownUnwrap(type);
+        }
+
+        @Override
+        public <X> URI wrap(X value, WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof String string) {
+                return URI.create(string);
+            }
+            throw unknownWrap(value.getClass());
+        }
+    }
+}
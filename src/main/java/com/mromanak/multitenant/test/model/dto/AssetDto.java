@@ -1,14 +1,17 @@
 package com.mromanak.multitenant.test.model.dto;
 
 import com.mromanak.multitenant.test.model.DtoFor;
+import com.mromanak.multitenant.test.model.GeoPoint;
 import com.mromanak.multitenant.test.model.entity.Asset;
 import com.mromanak.multitenant.test.validation.ValidationUtils;
+import com.mromanak.multitenant.test.validation.annotation.ValidHttpsUrl;
+import com.mromanak.multitenant.test.validation.annotation.ValidIso8601DateTime;
+import com.mromanak.multitenant.test.validation.annotation.ValidName;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
-import org.hibernate.validator.constraints.URL;
 
+import javax.validation.Valid;
 import javax.validation.constraints.NotEmpty;
-import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 
 /**
@@ -29,13 +32,17 @@ public class AssetDto implements DtoFor<java.util.UUID, Asset> {
             {
                 "name": "Example AssetRequest",
                 "createdTimestamp": "1970-01-01T00:00:00.000Z",
-                "serverUrl": "https://example.server.com/"
+                "serverUrl": "https://example.server.com/",
+                "location": {
+                    "longitude": -122.4194,
+                    "latitude": 37.7749
+                }
             }""";
 
     @Schema(description = "The unique name of the Asset")
     @NotEmpty
     @Size(min = 1, max = 50)
-    @Pattern(regexp = ValidationUtils.NAME_PATTERN)
+    @ValidName
     private String name;
 
     @Schema(
@@ -43,10 +50,7 @@ public class AssetDto implements DtoFor<java.util.UUID, Asset> {
             format = "date-time"
     )
     @NotEmpty
-    @Pattern(
-            regexp = ValidationUtils.ISO_8601_DATE_PATTERN,
-            message = "must be a valid ISO-8601 date-time"
-    )
+    @ValidIso8601DateTime
     private String createdTimestamp;
 
     @Schema(
@@ -54,6 +58,10 @@ public class AssetDto implements DtoFor<java.util.UUID, Asset> {
             pattern = ValidationUtils.HTTPS_URL_PATTERN
     )
     @Size(max = 1000)
-    @URL(protocol = "https")
+    @ValidHttpsUrl
     private String serverUrl;
+
+    @Schema(description = "The location of the Asset, if it has one")
+    @Valid
+    private GeoPoint location;
 }
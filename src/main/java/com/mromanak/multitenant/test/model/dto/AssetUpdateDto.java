@@ -0,0 +1,54 @@
+package com.mromanak.multitenant.test.model.dto;
+
+import com.mromanak.multitenant.test.validation.ValidationUtils;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+/**
+ * A DTO that pairs the ID of an existing {@link com.mromanak.multitenant.test.model.entity.Asset Asset} with the
+ * {@link AssetDto} it should be updated to match. Used for batch updates
+ */
+@Data
+@Schema(
+        name = AssetUpdateDto.REF,
+        description = "The request format used to update an existing Asset as part of a batch",
+        additionalProperties = Schema.AdditionalPropertiesValue.FALSE,
+        example = AssetUpdateDto.EXAMPLE_OBJECT
+)
+public class AssetUpdateDto {
+
+    public static final String REF = "AssetUpdateRequest";
+
+    public static final String EXAMPLE_OBJECT = """
+            {
+                "id": "00000000-0000-0000-0000-000000000000",
+                "asset": {
+                    "name": "Example AssetRequest",
+                    "createdTimestamp": "1970-01-01T00:00:00.000Z",
+                    "serverUrl": "https://example.server.com/"
+                }
+            }""";
+
+    @Schema(
+            description = "The ID of the Asset to be updated",
+            minLength = 36,
+            maxLength = 36,
+            example = ValidationUtils.UUID_EXAMPLE_OBJECT
+    )
+    @NotNull
+    @Pattern(
+            regexp = ValidationUtils.UUID_PATTERN,
+            flags = Pattern.Flag.CASE_INSENSITIVE,
+            message = "must be a valid UUID"
+    )
+    private String id;
+
+    @Schema(description = "The desired state of the Asset")
+    @NotNull
+    @Valid
+    private AssetDto asset;
+}
@@ -1,22 +1,32 @@
 package com.mromanak.multitenant.test.model.entity;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.mromanak.multitenant.test.model.GeoPoint;
 import com.mromanak.multitenant.test.model.Identifiable;
+import com.mromanak.multitenant.test.model.Iso8601Timestamps;
+import com.mromanak.multitenant.test.model.Versioned;
+import com.mromanak.multitenant.test.model.converter.UriConverter;
 import com.mromanak.multitenant.test.validation.ValidationUtils;
+import com.mromanak.multitenant.test.validation.annotation.ValidName;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.locationtech.jts.geom.Point;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
-import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
-import java.net.URL;
-import java.util.Date;
+import java.net.URI;
+import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
@@ -29,19 +39,25 @@ import static java.util.stream.Collectors.toMap;
  * <p/>
  * I picked a generic name and some fields that are a bit more complex than primitives or strings
  * <p/>
- * TODO: Implement a geometry column
+ * The location is persisted as a PostGIS geometry, but serialized as a {@link GeoPoint}, and left out of the response
+ * entirely for Assets that don't have one
+ * <p/>
+ * The server URL is held as a {@link URI} rather than a {@link java.net.URL}, since {@link java.net.URL#equals(Object)}
+ * resolves host names and Hibernate calls it whenever it dirty checks an Asset
  */
 @Getter
 @Setter
 @ToString
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Schema(
         name = Asset.REF,
         description = "The response format used when describing an Asset",
         additionalProperties = Schema.AdditionalPropertiesValue.FALSE,
         example = Asset.EXAMPLE_OBJECT
 )
-public class Asset implements Identifiable<UUID> {
+public class Asset implements Identifiable<UUID>, Versioned {
     
     public static final String REF = "AssetResponse";
 
@@ -50,7 +66,11 @@ public class Asset implements Identifiable<UUID> {
                 "id": "00000000-0000-0000-0000-000000000000",
                 "name": "Example AssetResponse",
                 "createdTimestamp": "1970-01-01T00:00:00.000Z",
-                "serverUrl": "https://example.server.com/"
+                "serverUrl": "https://example.server.com/",
+                "location": {
+                    "longitude": -122.4194,
+                    "latitude": 37.7749
+                }
             }""";
 
     /**
@@ -86,6 +106,41 @@ public class Asset implements Identifiable<UUID> {
         }
     }
 
+    /**
+     * An enumeration of the fields of an Asset that may be requested as a sparse fieldset. Configured to use the java
+     * name of the field for serialization and deserialization
+     */
+    public enum Field {
+        ID("id"),
+        NAME("name"),
+        CREATED_TIMESTAMP("createdTimestamp"),
+        SERVER_URL("serverUrl"),
+        LOCATION("location");
+
+        private static final Map<String, Field> DISPLAY_VALUE_TO_FIELD_MAP;
+
+        static {
+            DISPLAY_VALUE_TO_FIELD_MAP = Stream.of(values())
+                    .collect(toMap(Field::getFieldName, Function.identity()));
+        }
+
+        private final String fieldName;
+
+        Field(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        @JsonCreator
+        public static Field fromString(String fieldName) {
+            return DISPLAY_VALUE_TO_FIELD_MAP.get(fieldName);
+        }
+
+        @JsonValue
+        public String getFieldName() {
+            return fieldName;
+        }
+    }
+
     @Id
     @GeneratedValue
     @Column(nullable = false, updatable = false, unique = true)
@@ -103,19 +158,19 @@ public class Asset implements Identifiable<UUID> {
     @Schema(description = "The unique name of the Asset")
     @NotEmpty
     @Size(min = 1, max = 50)
-    @Pattern(regexp = ValidationUtils.NAME_PATTERN)
+    @ValidName
     private String name;
 
     @Column(name = "created_timestamp", columnDefinition = "TIMESTAMP WITH TIMEZONE", nullable = false)
-    @Temporal(value= TemporalType.TIMESTAMP)
     @Schema(
             type = "string",
             description = "The ISO-8601 timestamp at which the Asset was created",
             format = "date-time"
     )
-    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = ValidationUtils.ISO_8601_DATE_FORMAT)
+    @JsonSerialize(using = Iso8601Timestamps.Serializer.class)
+    @JsonDeserialize(using = Iso8601Timestamps.Deserializer.class)
     @NotNull
-    private Date createdTimestamp;
+    private Instant createdTimestamp;
 
     @Schema(
             type = "string",
@@ -124,5 +179,23 @@ public class Asset implements Identifiable<UUID> {
             maxLength = 1000
     )
     @Column(name = "server_url")
-    private URL serverUrl;
+    @Convert(converter = UriConverter.class)
+    private URI serverUrl;
+
+    @Schema(
+            implementation = GeoPoint.class,
+            description = "The location of the Asset. Omitted if the Asset doesn't have one"
+    )
+    @Column(name = "location", columnDefinition = "geometry(Point, " + GeoPoint.SRID + ")")
+    @JsonSerialize(converter = GeoPoint.FromPoint.class)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Point location;
+
+    /**
+     * Incremented every time the Asset is updated. Not part of the response body, but sent as the Asset's entity tag.
+     */
+    @Version
+    @Column(nullable = false)
+    @JsonIgnore
+    private Long version;
 }
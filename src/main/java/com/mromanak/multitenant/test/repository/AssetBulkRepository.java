@@ -0,0 +1,17 @@
+package com.mromanak.multitenant.test.repository;
+
+import com.mromanak.multitenant.test.model.entity.Asset;
+
+import java.util.List;
+
+/**
+ * Bulk operations for {@link Asset Assets} that bypass the persistence context entirely
+ */
+public interface AssetBulkRepository {
+
+    /**
+     * Inserts new Assets into the current tenant's schema as fast as the database allows. The Assets must already
+     * have IDs, and are not attached to the persistence context.
+     */
+    void insertAll(List<Asset> assets);
+}
@@ -0,0 +1,108 @@
+package com.mromanak.multitenant.test.repository;
+
+import com.mromanak.multitenant.test.model.entity.Asset;
+import org.hibernate.Session;
+import org.locationtech.jts.geom.Geometry;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Implements {@link AssetBulkRepository} on the current tenant's connection.
+ * <p/>
+ * On Postgres, Assets are sent with {@code COPY ... FROM STDIN}, which streams every row in a single round trip and
+ * skips most of the per-statement overhead of {@code INSERT}s. Other databases (i.e. H2 in tests) fall back to a
+ * single batch of {@code INSERT}s. Either way, the table name is left unqualified, so that it resolves to the schema
+ * that {@link com.mromanak.multitenant.test.config.jpa.MultiTenantSchemaConnectionProvider} selected for the
+ * connection.
+ */
+public class AssetBulkRepositoryImpl implements AssetBulkRepository {
+
+    static final String COPY_SQL =
+            "COPY asset (id, name, created_timestamp, server_url, location) FROM STDIN WITH (FORMAT csv)";
+    static final String INSERT_SQL =
+            "INSERT INTO asset (id, name, created_timestamp, server_url, location) VALUES (?, ?, ?, ?, ?)";
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public AssetBulkRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<Asset> assets) {
+        if (assets.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                copyIn(connection.unwrap(PGConnection.class), assets);
+            } else {
+                batchInsert(connection, assets);
+            }
+        });
+    }
+
+    private static void copyIn(PGConnection connection, List<Asset> assets) throws SQLException {
+        StringBuilder csv = new StringBuilder();
+        for (Asset asset : assets) {
+            csv.append(asset.getId()).append(',');
+            appendQuoted(csv, asset.getName()).append(',');
+            csv.append(DateTimeFormatter.ISO_INSTANT.format(asset.getCreatedTimestamp())).append(',');
+            // An unquoted empty field is read as NULL
+            if (asset.getServerUrl() != null) {
+                appendQuoted(csv, asset.getServerUrl().toString());
+            }
+            csv.append(',');
+            if (asset.getLocation() != null) {
+                appendQuoted(csv, toExtendedWkt(asset.getLocation()));
+            }
+            csv.append('\n');
+        }
+
+        try {
+            connection.getCopyAPI().copyIn(COPY_SQL, new StringReader(csv.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder csv, String value) {
+        return csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static void batchInsert(Connection connection, List<Asset> assets) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (Asset asset : assets) {
+                statement.setObject(1, asset.getId());
+                statement.setString(2, asset.getName());
+                statement.setObject(3, asset.getCreatedTimestamp().atOffset(ZoneOffset.UTC));
+                statement.setString(4, asset.getServerUrl() != null ? asset.getServerUrl().toString() : null);
+                statement.setString(5, asset.getLocation() != null ? toExtendedWkt(asset.getLocation()) : null);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Formats a geometry as extended WKT (e.g. {@code SRID=4326;POINT (1 2)}), which both PostGIS and H2 accept
+     * wherever a geometry is expected as text
+     */
+    private static String toExtendedWkt(Geometry geometry) {
+        return "SRID=" + geometry.getSRID() + ";" + geometry.toText();
+    }
+}
@@ -0,0 +1,28 @@
+package com.mromanak.multitenant.test.repository;
+
+import com.mromanak.multitenant.test.model.entity.Asset;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Proximity queries on the locations of {@link Asset Assets}. Assets without a location never match.
+ */
+public interface AssetLocationRepository {
+
+    /**
+     * Finds the Assets located within a longitude/latitude bounding box (including its edges), ordered by ID
+     *
+     * @param lastId The ID of the last Asset that was read, or null to start from the first Asset
+     * @param limit The maximum number of Assets to return
+     */
+    List<Asset> findWithinBox(double minLongitude, double minLatitude, double maxLongitude, double maxLatitude,
+                              UUID lastId, int limit);
+
+    /**
+     * Finds the Assets closest to a longitude/latitude point, closest first
+     *
+     * @param limit The maximum number of Assets to return
+     */
+    List<Asset> findNearest(double longitude, double latitude, int limit);
+}
@@ -0,0 +1,130 @@
+package com.mromanak.multitenant.test.repository;
+
+import com.mromanak.multitenant.test.model.GeoPoint;
+import com.mromanak.multitenant.test.model.entity.Asset;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implements {@link AssetLocationRepository} with native queries on the current tenant's connection.
+ * <p/>
+ * On Postgres, both queries are served by the GiST index on {@code asset.location}: bounding boxes are matched with
+ * PostGIS's {@code &&} operator, and nearest neighbours are found by ordering by its {@code <->} distance operator, which
+ * walks the index outwards from the point instead of measuring the distance to every Asset. PostGIS is installed in the
+ * default schema, which isn't on a tenant connection's search path, so its operators and functions are qualified.
+ * <p/>
+ * Other databases (i.e. H2 in tests) have no {@code <->} operator, so they find nearest neighbours by sorting every
+ * located Asset in memory. That is only suitable for small tables.
+ */
+public class AssetLocationRepositoryImpl implements AssetLocationRepository {
+
+    private static final String POSTGRES_BOX = "public.ST_MakeEnvelope(:minLongitude, :minLatitude, :maxLongitude, "
+            + ":maxLatitude, " + GeoPoint.SRID + ")";
+    private static final String FALLBACK_BOX = "CAST(:box AS GEOMETRY)";
+
+    private static final String WITHIN_BOX_SQL = """
+            SELECT {a.*}
+            FROM asset a
+            WHERE a.location %1$s %2$s
+            %3$s
+            ORDER BY a.id ASC""";
+    private static final String AFTER_LAST_ID_SQL = "AND a.id > :lastId";
+
+    private static final String POSTGRES_NEAREST_SQL = """
+            SELECT {a.*}
+            FROM asset a
+            WHERE a.location IS NOT NULL
+            ORDER BY a.location OPERATOR(public.<->) public.ST_SetSRID(public.ST_MakePoint(:longitude, :latitude), %d)"""
+            .formatted(GeoPoint.SRID);
+    private static final String FALLBACK_NEAREST_SQL = """
+            SELECT {a.*}
+            FROM asset a
+            WHERE a.location IS NOT NULL""";
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public AssetLocationRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<Asset> findWithinBox(double minLongitude, double minLatitude, double maxLongitude, double maxLatitude,
+                                     UUID lastId, int limit) {
+        SessionFactoryImplementor sessionFactory = getSessionFactory();
+        boolean postgres = isPostgres(sessionFactory);
+        String sql = WITHIN_BOX_SQL.formatted(
+                postgres ? "OPERATOR(public.&&)" : "&&",
+                postgres ? POSTGRES_BOX : FALLBACK_BOX,
+                lastId != null ? AFTER_LAST_ID_SQL : ""
+        );
+
+        NativeQuery<Asset> nativeQuery = createQuery(sql).setMaxResults(limit);
+        if (postgres) {
+            nativeQuery.setParameter("minLongitude", minLongitude)
+                    .setParameter("minLatitude", minLatitude)
+                    .setParameter("maxLongitude", maxLongitude)
+                    .setParameter("maxLatitude", maxLatitude);
+        } else {
+            nativeQuery.setParameter("box", "SRID=%d;POLYGON ((%s %s, %s %s, %s %s, %s %s, %s %s))".formatted(
+                    GeoPoint.SRID,
+                    minLongitude, minLatitude,
+                    maxLongitude, minLatitude,
+                    maxLongitude, maxLatitude,
+                    minLongitude, maxLatitude,
+                    minLongitude, minLatitude
+            ));
+        }
+        if (lastId != null) {
+            // Bind the ID the same way Hibernate binds the id column, rather than guessing from the Java type
+            nativeQuery.setParameter("lastId", lastId,
+                    sessionFactory.getMetamodel().entityPersister(Asset.class).getIdentifierType());
+        }
+        return nativeQuery.getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Asset> findNearest(double longitude, double latitude, int limit) {
+        if (isPostgres(getSessionFactory())) {
+            return createQuery(POSTGRES_NEAREST_SQL)
+                    .setParameter("longitude", longitude)
+                    .setParameter("latitude", latitude)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+
+        Point point = new GeoPoint(longitude, latitude).toPoint();
+        return createQuery(FALLBACK_NEAREST_SQL)
+                .getResultStream()
+                .sorted(Comparator.comparingDouble(asset -> asset.getLocation().distance(point)))
+                .limit(limit)
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private NativeQuery<Asset> createQuery(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addEntity("a", Asset.class);
+    }
+
+    private SessionFactoryImplementor getSessionFactory() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+    }
+
+    private static boolean isPostgres(SessionFactoryImplementor sessionFactory) {
+        return sessionFactory.getJdbcServices().getDialect() instanceof PostgreSQL81Dialect;
+    }
+}
@@ -1,16 +1,18 @@
 package com.mromanak.multitenant.test.repository;
 
 import com.mromanak.multitenant.test.model.entity.Asset;
-import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.UUID;
 
 /**
- * A basic {@link PagingAndSortingRepository} for {@link Asset Assets}.
+ * A basic {@link EntityCrudRepository} for {@link Asset Assets}, plus the bulk operations in
+ * {@link AssetBulkRepository}, the single-statement writes in {@link AssetWriteRepository}, the name search in
+ * {@link AssetSearchRepository}, and the proximity queries in {@link AssetLocationRepository}.
  * <p/>
  * TODO: Implement more complex query functionality to show off some Spring Data magic
  */
 @Repository
-public interface AssetRepository extends PagingAndSortingRepository<Asset, UUID> {
+public interface AssetRepository extends EntityCrudRepository<Asset, UUID>, AssetBulkRepository,
+        AssetWriteRepository, AssetSearchRepository, AssetLocationRepository {
 }
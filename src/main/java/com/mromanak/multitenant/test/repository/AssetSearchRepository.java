@@ -0,0 +1,32 @@
+package com.mromanak.multitenant.test.repository;
+
+import com.mromanak.multitenant.test.model.entity.Asset;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ranked name search for {@link Asset Assets}
+ */
+public interface AssetSearchRepository {
+
+    /**
+     * An Asset that matched a search, and how closely it matched
+     *
+     * @param asset The matching Asset
+     * @param score How closely the Asset's name matched the query, between 0 and 1
+     */
+    record Match(Asset asset, float score) {
+    }
+
+    /**
+     * Finds the Assets whose names contain a query (ignoring case), best matches first. Assets with equal scores are
+     * ordered by ID, so that a search can be resumed after the last Match that was read.
+     *
+     * @param query The text to search for
+     * @param lastScore The score of the last Match that was read, or null to start from the best match
+     * @param lastId The ID of the last Match that was read, or null to start from the best match
+     * @param limit The maximum number of Matches to return
+     */
+    List<Match> searchByName(String query, Float lastScore, UUID lastId, int limit);
+}
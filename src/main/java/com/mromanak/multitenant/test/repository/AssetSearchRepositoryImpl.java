@@ -0,0 +1,85 @@
+package com.mromanak.multitenant.test.repository;
+
+import com.mromanak.multitenant.test.model.entity.Asset;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implements {@link AssetSearchRepository} with a native query on the current tenant's connection.
+ * <p/>
+ * On Postgres, names are matched with {@code ILIKE}, which the trigram index on {@code asset.name} serves, and ranked
+ * with {@code pg_trgm}'s {@code similarity()}. Other databases (i.e. H2 in tests) don't have {@code pg_trgm}, so they
+ * rank matches by the fraction of the name that the query covers instead. Either way, the score is cast to
+ * {@code REAL}, so the score of the last Match (a {@code float}) compares equal to itself when a search is resumed.
+ */
+public class AssetSearchRepositoryImpl implements AssetSearchRepository {
+
+    static final String POSTGRES_SCORE = "public.similarity(a.name, :query)";
+    static final String FALLBACK_SCORE = "CAST(CAST(:queryLength AS REAL) / LENGTH(a.name) AS REAL)";
+
+    private static final String SEARCH_SQL = """
+            SELECT {a.*}, %1$s AS score
+            FROM asset a
+            WHERE a.name ILIKE :pattern ESCAPE '\\'
+            %2$s
+            ORDER BY score DESC, a.id ASC""";
+    private static final String AFTER_LAST_MATCH_SQL = """
+            AND (%1$s < CAST(:lastScore AS REAL)
+                OR (%1$s = CAST(:lastScore AS REAL) AND a.id > :lastId))""";
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public AssetSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Match> searchByName(String query, Float lastScore, UUID lastId, int limit) {
+        SessionFactoryImplementor sessionFactory =
+                entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        boolean postgres = sessionFactory.getJdbcServices().getDialect() instanceof PostgreSQL81Dialect;
+        String score = postgres ? POSTGRES_SCORE : FALLBACK_SCORE;
+        boolean resume = lastScore != null && lastId != null;
+        String sql = SEARCH_SQL.formatted(score, resume ? AFTER_LAST_MATCH_SQL.formatted(score) : "");
+
+        NativeQuery<?> nativeQuery = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addEntity("a", Asset.class)
+                .addScalar("score", StandardBasicTypes.FLOAT)
+                .setParameter("pattern", "%" + escapeLikePattern(query) + "%")
+                .setMaxResults(limit);
+        if (postgres) {
+            nativeQuery.setParameter("query", query);
+        } else {
+            nativeQuery.setParameter("queryLength", query.length());
+        }
+        if (resume) {
+            // Bind the ID the same way Hibernate binds the id column, rather than guessing from the Java type
+            nativeQuery.setParameter("lastScore", lastScore, StandardBasicTypes.FLOAT)
+                    .setParameter("lastId", lastId,
+                            sessionFactory.getMetamodel().entityPersister(Asset.class).getIdentifierType());
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (Object result : nativeQuery.getResultList()) {
+            Object[] row = (Object[]) result;
+            matches.add(new Match((Asset) row[0], (Float) row[1]));
+        }
+        return matches;
+    }
+
+    private static String escapeLikePattern(String query) {
+        return query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
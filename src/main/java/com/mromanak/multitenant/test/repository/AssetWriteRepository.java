@@ -0,0 +1,37 @@
+package com.mromanak.multitenant.test.repository;
+
+import com.mromanak.multitenant.test.model.entity.Asset;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Single-statement writes to one {@link Asset} that bypass the persistence context, so the Asset is never loaded.
+ * <p/>
+ * These statements don't touch the second-level cache at all. Callers are responsible for evicting the Asset's entry.
+ */
+public interface AssetWriteRepository {
+
+    /**
+     * Overwrites every column of an existing Asset's row with the state of an Asset object, and increments its version
+     *
+     * @param asset The new state of the Asset, including its ID
+     * @return The Asset's new version, or an empty optional if no Asset exists with the given ID
+     */
+    Optional<Long> overwrite(Asset asset);
+
+    /**
+     * Like {@link #overwrite(Asset)}, but only if the Asset is still at the expected version
+     *
+     * @return The Asset's new version, or an empty optional if no Asset exists with the given ID at the expected
+     * version
+     */
+    Optional<Long> overwrite(Asset asset, long expectedVersion);
+
+    /**
+     * Deletes an Asset's row
+     *
+     * @return Whether an Asset existed with the given ID
+     */
+    boolean remove(UUID id);
+}
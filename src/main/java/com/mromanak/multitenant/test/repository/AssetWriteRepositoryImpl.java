@@ -0,0 +1,108 @@
+package com.mromanak.multitenant.test.repository;
+
+import com.mromanak.multitenant.test.model.entity.Asset;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.LongType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implements {@link AssetWriteRepository} with native statements on the current tenant's connection.
+ * <p/>
+ * An overwrite returns the Asset's new version from the same statement that increments it (and, for a conditional
+ * overwrite, checks the old one): on Postgres with
+ * {@code UPDATE ... RETURNING}, and on other databases (i.e. H2 in tests) by selecting from the {@code FINAL TABLE} of
+ * the {@code UPDATE}. A delete only needs the number of rows it matched. Parameters are bound with the types Hibernate
+ * uses for the same columns, so that the server URL goes through its converter and the location is encoded for the
+ * dialect's geometry type.
+ * <p/>
+ * Every statement is synchronized on {@link #UNMAPPED_QUERY_SPACE}. Without a query space, Hibernate would assume a
+ * native statement could have written to any table, and clear the current tenant's second-level cache partition for
+ * every entity.
+ */
+public class AssetWriteRepositoryImpl implements AssetWriteRepository {
+
+    static final String UNMAPPED_QUERY_SPACE = "asset_write";
+
+    private static final String UPDATE_SQL = """
+            UPDATE asset
+            SET name = :name, created_timestamp = :createdTimestamp, server_url = :serverUrl, location = :location,
+                version = version + 1
+            WHERE id = :id%s""";
+    private static final String AT_VERSION_SQL = " AND version = :expectedVersion";
+    private static final String POSTGRES_OVERWRITE_SQL = "%s\nRETURNING version";
+    private static final String FALLBACK_OVERWRITE_SQL = "SELECT version FROM FINAL TABLE (%s)";
+    private static final String DELETE_SQL = "DELETE FROM asset WHERE id = :id";
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public AssetWriteRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public Optional<Long> overwrite(Asset asset) {
+        return overwrite(asset, (Long) null);
+    }
+
+    @Override
+    @Transactional
+    public Optional<Long> overwrite(Asset asset, long expectedVersion) {
+        return overwrite(asset, Long.valueOf(expectedVersion));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<Long> overwrite(Asset asset, Long expectedVersion) {
+        SessionFactoryImplementor sessionFactory = getSessionFactory();
+        EntityPersister persister = sessionFactory.getMetamodel().entityPersister(Asset.class);
+        String update = UPDATE_SQL.formatted(expectedVersion != null ? AT_VERSION_SQL : "");
+        NativeQuery<Long> query = createQuery(
+                (isPostgres(sessionFactory) ? POSTGRES_OVERWRITE_SQL : FALLBACK_OVERWRITE_SQL).formatted(update))
+                .addScalar("version", LongType.INSTANCE)
+                .setParameter("id", asset.getId(), persister.getIdentifierType())
+                .setParameter("name", asset.getName(), persister.getPropertyType("name"))
+                .setParameter("createdTimestamp", asset.getCreatedTimestamp(),
+                        persister.getPropertyType("createdTimestamp"))
+                .setParameter("serverUrl", asset.getServerUrl(), persister.getPropertyType("serverUrl"))
+                .setParameter("location", asset.getLocation(), persister.getPropertyType("location"));
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion, persister.getVersionType());
+        }
+        List<Long> versions = query.getResultList();
+        return versions.stream().findFirst();
+    }
+
+    @Override
+    @Transactional
+    public boolean remove(UUID id) {
+        EntityPersister persister = getSessionFactory().getMetamodel().entityPersister(Asset.class);
+        return createQuery(DELETE_SQL)
+                .setParameter("id", id, persister.getIdentifierType())
+                .executeUpdate() > 0;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private NativeQuery createQuery(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(UNMAPPED_QUERY_SPACE);
+    }
+
+    private SessionFactoryImplementor getSessionFactory() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+    }
+
+    private static boolean isPostgres(SessionFactoryImplementor sessionFactory) {
+        return sessionFactory.getJdbcServices().getDialect() instanceof PostgreSQL81Dialect;
+    }
+}
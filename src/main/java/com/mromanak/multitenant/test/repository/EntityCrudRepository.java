@@ -0,0 +1,54 @@
+package com.mromanak.multitenant.test.repository;
+
+import com.mromanak.multitenant.test.model.Identifiable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * A {@link PagingAndSortingRepository} with additional operations shared by every entity that the
+ * {@link com.mromanak.multitenant.test.service.EntityCrudService EntityCrudServices} manage.
+ * <p/>
+ * Annotating this interface with {@link NoRepositoryBean @NoRepositoryBean} stops Spring Data from trying to create a
+ * repository for it directly. Instead, its queries are generated once for each interface that extends it, with
+ * {@code #{#entityName}} filled in with the name of that interface's entity.
+ *
+ * @param <E> The entity class
+ * @param <I> The identifier type for the entity class
+ */
+@NoRepositoryBean
+public interface EntityCrudRepository<E extends Identifiable<I>, I> extends PagingAndSortingRepository<E, I> {
+
+    /**
+     * Finds a page of entities without counting them. Unlike {@link PagingAndSortingRepository#findAll(Pageable)}, no
+     * {@code COUNT} query is run; instead, one more entity than the page size is fetched to find out whether there is a
+     * next page.
+     */
+    Slice<E> findAllBy(Pageable pageable);
+
+    /**
+     * Finds which of the given IDs belong to existing entities, without loading the entities themselves
+     *
+     * @return The IDs of the entities that exist, in no particular order
+     */
+    @Query("select e.id from #{#entityName} e where e.id in :ids")
+    List<I> findExistingIds(@Param("ids") Iterable<I> ids);
+
+    /**
+     * Deletes every entity with one of the given IDs with a single {@code DELETE} statement
+     *
+     * @return The number of rows that were deleted
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from #{#entityName} e where e.id in :ids")
+    int removeAllById(@Param("ids") Iterable<I> ids);
+
+}
@@ -0,0 +1,180 @@
+package com.mromanak.multitenant.test.repository;
+
+import com.mromanak.multitenant.test.config.ReactiveProperties;
+import com.mromanak.multitenant.test.config.jpa.CurrentTenantResolver;
+import com.mromanak.multitenant.test.model.GeoPoint;
+import com.mromanak.multitenant.test.model.entity.Asset;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PreDestroy;
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Reads {@link Asset Assets} without blocking, through R2DBC.
+ * <p/>
+ * R2DBC connections are shared by every tenant and have no equivalent of {@link java.sql.Connection#setSchema}, so
+ * instead of switching the schema of a connection, every query names the tenant's table explicitly. The tenant is
+ * resolved by {@link CurrentTenantResolver} when a method is called, rather than when the returned publisher is
+ * subscribed to, since subscribers may run on threads that know nothing about the request.
+ * <p/>
+ * Assets are read into detached {@link Asset} instances, which Hibernate never sees, so they don't touch the
+ * second-level cache.
+ * <p/>
+ * The repository builds (and disposes of) its own connection factory from {@link ReactiveProperties}, rather than
+ * declaring it as a bean, since Spring Boot doesn't configure a JDBC data source once there is a connection factory
+ * bean.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "reactive", name = "enabled", havingValue = "true")
+public class ReactiveAssetRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT a.id, a.name, a.created_timestamp, a.server_url, a.version, %s AS location
+            FROM %s a""";
+    // PostGIS lives in the default schema, which isn't on the search path of a tenant, so its functions are qualified
+    private static final String POSTGRES_LOCATION = "public.ST_AsText(a.location)";
+    private static final String FALLBACK_LOCATION = "CAST(a.location AS VARCHAR)";
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+    private final CurrentTenantResolver currentTenantResolver;
+    private final ReactiveProperties properties;
+    private final String locationColumn;
+    private final WKTReader wktReader = new WKTReader(new GeometryFactory(new PrecisionModel(), GeoPoint.SRID));
+
+    @Autowired
+    public ReactiveAssetRepository(CurrentTenantResolver currentTenantResolver, ReactiveProperties properties) {
+        this.connectionFactory = ConnectionFactoryBuilder.withUrl(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+        this.currentTenantResolver = currentTenantResolver;
+        this.properties = properties;
+        this.locationColumn = connectionFactory.getMetadata().getName().contains("PostgreSQL")
+                ? POSTGRES_LOCATION
+                : FALLBACK_LOCATION;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (connectionFactory instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+
+    /**
+     * Finds the current tenant's Asset with the given ID
+     */
+    public Mono<Asset> findById(UUID id) {
+        return databaseClient.sql(selectSql() + " WHERE a.id = :id")
+                .bind("id", id)
+                .map(this::mapRow)
+                .one();
+    }
+
+    /**
+     * Finds a page of the current tenant's Assets. Assets that have the same value for the sort field are ordered by
+     * ID.
+     *
+     * @param column The name of the column to sort by
+     */
+    public Flux<Asset> findPage(String column, Sort.Direction direction, long offset, int limit) {
+        String orderBy = column.equals("id")
+                ? " ORDER BY a.id " + direction.name()
+                : " ORDER BY a.%s %s, a.id ASC".formatted(column, direction.name());
+        return databaseClient.sql(selectSql() + orderBy + " LIMIT :limit OFFSET :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(this::mapRow)
+                .all();
+    }
+
+    /**
+     * Counts the current tenant's Assets
+     */
+    public Mono<Long> count() {
+        return databaseClient.sql("SELECT COUNT(*) FROM " + currentTable())
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Streams every one of the current tenant's Assets, ordered by ID. Rows are fetched from the database as the
+     * subscriber requests them.
+     */
+    public Flux<Asset> findAll() {
+        int fetchSize = properties.getFetchSize();
+        return databaseClient.sql(selectSql() + " ORDER BY a.id ASC")
+                .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)))
+                .map(this::mapRow)
+                .all();
+    }
+
+    private String selectSql() {
+        return SELECT_SQL.formatted(locationColumn, currentTable());
+    }
+
+    /**
+     * @return The quoted, schema-qualified name of the current tenant's Asset table
+     */
+    private String currentTable() {
+        String schema = currentTenantResolver.resolveCurrentTenantIdentifier();
+        return "\"" + schema.replace("\"", "\"\"") + "\".asset";
+    }
+
+    private Asset mapRow(Row row) {
+        Asset asset = new Asset();
+        asset.setId(row.get("id", UUID.class));
+        asset.setName(row.get("name", String.class));
+        OffsetDateTime createdTimestamp = row.get("created_timestamp", OffsetDateTime.class);
+        asset.setCreatedTimestamp(createdTimestamp != null ? createdTimestamp.toInstant() : null);
+        asset.setServerUrl(parseUri(row.get("server_url", String.class)));
+        asset.setVersion(row.get("version", Long.class));
+        asset.setLocation(parsePoint(row.get("location", String.class)));
+        return asset;
+    }
+
+    private static URI parseUri(String url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            return URI.create(url);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid server URL in the database: " + url, e);
+        }
+    }
+
+    /**
+     * Parses a point from WKT, or from H2's extended WKT, which is prefixed with the SRID
+     */
+    private Point parsePoint(String wkt) {
+        if (wkt == null) {
+            return null;
+        }
+        String text = wkt.startsWith("SRID=") ? wkt.substring(wkt.indexOf(';') + 1) : wkt;
+        try {
+            return (Point) wktReader.read(text);
+        } catch (ParseException | ClassCastException e) {
+            throw new IllegalStateException("Invalid location in the database: " + wkt, e);
+        }
+    }
+}
@@ -1,17 +1,69 @@
 package com.mromanak.multitenant.test.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mromanak.multitenant.test.event.EntityWriteEventPublisher;
+import com.mromanak.multitenant.test.model.BatchResult;
+import com.mromanak.multitenant.test.model.CountMode;
+import com.mromanak.multitenant.test.model.CursorPage;
 import com.mromanak.multitenant.test.model.DtoFor;
+import com.mromanak.multitenant.test.model.FieldRange;
 import com.mromanak.multitenant.test.model.Identifiable;
+import com.mromanak.multitenant.test.model.KeysetCursor;
+import com.mromanak.multitenant.test.model.Versioned;
+import com.mromanak.multitenant.test.repository.EntityCrudRepository;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Implements the basic skeleton of a service that performs CRUD operations for a given entity class
+ * <p/>
+ * Each operation runs in exactly one transaction, so it checks out exactly one connection (and switches that
+ * connection's schema exactly once), no matter how many repository calls it makes. Since open-session-in-view is
+ * disabled, that connection is returned to the pool as soon as the operation returns, before the controller serializes
+ * the result.
+ * <p/>
+ * Read operations use read-only transactions. For those, Spring's {@code HibernateJpaDialect} marks the Hibernate
+ * session as read-only and sets its flush mode to {@code MANUAL}, so Hibernate doesn't keep dirty-checking snapshots of
+ * entities that are only going to be serialized and thrown away.
  *
  * @param <I> The identifier type for the entity class
  * @param <D> The DTO type for the entity class
@@ -20,40 +72,81 @@ import java.util.Optional;
 public abstract class AbstractEntityCrudService<I, D extends DtoFor<I, E>, E extends Identifiable<I>>
         implements EntityCrudService<I, D, E> {
 
-    protected final ObjectMapper objectMapper;
-    protected final PagingAndSortingRepository<E, I> repository;
+    public static final int READ_CHUNK_SIZE = 512;
+
+    private static final String ID_FIELD_NAME = "id";
+
+    protected final EntityCrudRepository<E, I> repository;
+    protected final EntityManager entityManager;
+    protected final EntityCountService countService;
+    protected final EntityWriteEventPublisher writeEventPublisher;
     protected final Class<? extends D> dtoClass;
     protected final Class<? extends E> entityClass;
 
     protected AbstractEntityCrudService(
-            ObjectMapper objectMapper,
-            PagingAndSortingRepository<E, I> repository,
+            EntityCrudRepository<E, I> repository,
+            EntityManager entityManager,
+            EntityCountService countService,
+            EntityWriteEventPublisher writeEventPublisher,
             Class<? extends D> dtoClass,
             Class<? extends E> entityClass
     ) {
-        Objects.requireNonNull(objectMapper, "objectMapper must not be null");
         Objects.requireNonNull(repository, "repository must not be null");
+        Objects.requireNonNull(entityManager, "entityManager must not be null");
+        Objects.requireNonNull(countService, "countService must not be null");
+        Objects.requireNonNull(writeEventPublisher, "writeEventPublisher must not be null");
         Objects.requireNonNull(dtoClass, "dtoClass must not be null");
         Objects.requireNonNull(entityClass, "entityClass must not be null");
 
-        this.objectMapper = objectMapper;
         this.repository = repository;
+        this.entityManager = entityManager;
+        this.countService = countService;
+        this.writeEventPublisher = writeEventPublisher;
         this.dtoClass = dtoClass;
         this.entityClass = entityClass;
     }
 
     /**
-     * Applies the updates represented by a DTO object to an entity object
+     * Copies the state represented by a DTO object onto a new entity object. Implementations should copy fields
+     * directly rather than round-tripping through a serializer, since this is called on every create and update.
+     *
+     * @param dto A DTO containing the desired state of the entity
+     * @return A new, unsaved entity
+     */
+    protected abstract E mapToEntity(D dto);
+
+    /**
+     * Copies the state of an entity object onto a new DTO object
      *
-     * @param updateDto A DTO containing the desired state of the entity
      * @param entity An entity containing the current state of the entity
+     * @return A new DTO
+     */
+    protected abstract D mapToDto(E entity);
+
+    /**
+     * Overwrites the row of an existing entity with the state of an entity object, with a single statement that
+     * doesn't load the existing entity. If the entity is {@link Versioned}, the statement also increments its version,
+     * and the new version is set on the entity object.
+     * <p/>
+     * The statement must leave the second-level cache alone. The caller locks the entity's own entry beforehand.
+     *
+     * @param entity The new state of the entity, including its ID
+     * @return Whether a row was overwritten, i.e. false if no entity exists with the entity object's ID
+     */
+    protected abstract boolean overwrite(E entity);
+
+    /**
+     * Deletes an entity's row with a single statement that doesn't load the entity. Like
+     * {@link #overwrite(Identifiable)}, the statement must leave the second-level cache alone.
+     *
+     * @return Whether a row was deleted, i.e. false if no entity exists with the given ID
      */
-    protected abstract void applyUpdates(D updateDto, E entity);
+    protected abstract boolean remove(I id);
 
     @Override
     public E toEntity(I id, D dto) {
         Objects.requireNonNull(dto, "dto must not be null");
-        E entity = objectMapper.convertValue(dto, entityClass);
+        E entity = mapToEntity(dto);
         entity.setId(id);
         return entity;
     }
@@ -61,52 +154,536 @@ public abstract class AbstractEntityCrudService<I, D extends DtoFor<I, E>, E ext
     @Override
     public D toDto(E entity) {
         Objects.requireNonNull(entity, "entity must not be null");
-        return objectMapper.convertValue(entity, dtoClass);
+        return mapToDto(entity);
     }
 
     @Override
+    @Transactional
     public E create(D dto) {
         Objects.requireNonNull(dto, "dto must not be null");
-        return repository.save(toEntity(dto));
+        E entity = repository.save(toEntity(dto));
+        publishWrite(List.of(entity.getId()));
+        return entity;
+    }
+
+    @Override
+    @Transactional
+    public Iterable<E> createMultiple(Iterable<D> dtos) {
+        Objects.requireNonNull(dtos, "dtos must not be null");
+        List<E> entities = new ArrayList<>();
+        for (D dto : dtos) {
+            entities.add(toEntity(dto));
+        }
+        Iterable<E> saved = repository.saveAll(entities);
+        List<I> ids = new ArrayList<>();
+        saved.forEach(entity -> ids.add(entity.getId()));
+        publishWrite(ids);
+        return saved;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<E> read(I id) {
         Objects.requireNonNull(id, "id must not be null");
         return repository.findById(id);
     }
 
+    /**
+     * Reads a batch of entities. The IDs are looked up in chunks of at most {@value #READ_CHUNK_SIZE}, so no single
+     * query has an unbounded number of parameters. Since the chunk size is a power of two and Hibernate is configured
+     * to pad {@code IN} clauses to the next power of two, every full chunk reuses the same prepared statement.
+     */
     @Override
-    public Iterable<E> readMultiple(Iterable<I> ids) {
+    @Transactional(readOnly = true)
+    public BatchResult<E, I> readMultiple(Iterable<I> ids) {
         Objects.requireNonNull(ids, "ids must not be null");
-        return repository.findAllById(ids);
+        Set<I> uniqueIds = new LinkedHashSet<>();
+        ids.forEach(uniqueIds::add);
+        List<I> requestedIds = new ArrayList<>(uniqueIds);
+
+        Map<I, E> entitiesById = new HashMap<>();
+        for (int from = 0; from < requestedIds.size(); from += READ_CHUNK_SIZE) {
+            List<I> chunk = requestedIds.subList(from, Math.min(from + READ_CHUNK_SIZE, requestedIds.size()));
+            repository.findAllById(chunk).forEach(entity -> entitiesById.put(entity.getId(), entity));
+        }
+
+        List<E> found = new ArrayList<>();
+        List<I> notFound = new ArrayList<>();
+        for (I id : requestedIds) {
+            E entity = entitiesById.get(id);
+            if (entity != null) {
+                found.add(entity);
+            } else {
+                notFound.add(id);
+            }
+        }
+        return new BatchResult<>(found, notFound);
+    }
+
+    /**
+     * Reads a page of entities, counting the total number of entities according to a {@link CountMode}. For every
+     * mode but {@link CountMode#EXACT}, the page is fetched without a {@code COUNT} query. {@link CountMode#NONE}
+     * returns a {@link Slice} that only knows whether there is a next page; the other modes return a {@link Page}.
+     *
+     * @param countMode How the entities should be counted, or null to use the current tenant's configured count mode
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<E> readPage(Pageable pageRequest, CountMode countMode) {
+        Objects.requireNonNull(pageRequest, "pageRequest must not be null");
+        CountMode resolvedCountMode = countMode != null ? countMode : countService.getDefaultCountMode();
+        return switch (resolvedCountMode) {
+            case EXACT -> repository.findAll(pageRequest);
+            case NONE -> repository.findAllBy(pageRequest);
+            default -> PageableExecutionUtils.getPage(
+                    repository.findAllBy(pageRequest).getContent(),
+                    pageRequest,
+                    () -> countService.count(resolvedCountMode, entityClass, repository::count)
+            );
+        };
+    }
+
+    /**
+     * Reads only some fields of an entity. The query selects only the columns of those fields, so the entity is never
+     * instantiated, and the second-level cache is not consulted.
+     *
+     * @param fieldNames The names of the fields to be read, in the order they should appear in the result
+     * @return A map from field name to the field's value (as converted by {@link #mapFieldValue(String, Object)}), or
+     * an empty optional if no entity exists with the given ID
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> readFields(I id, List<String> fieldNames) {
+        Objects.requireNonNull(id, "id must not be null");
+        Objects.requireNonNull(fieldNames, "fieldNames must not be null");
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<? extends E> root = query.from(entityClass);
+        query.multiselect(selections(root, fieldNames))
+                .where(criteriaBuilder.equal(root.get(ID_FIELD_NAME), id));
+
+        return entityManager.createQuery(query)
+                .getResultList()
+                .stream()
+                .findFirst()
+                .map(tuple -> toFieldMap(tuple, fieldNames));
     }
 
+    /**
+     * Reads a page of the entities that lie within every one of a list of {@link FieldRange FieldRanges}. The ranges
+     * are pushed down into the query as {@code WHERE} predicates, so only matching rows are read.
+     * <p/>
+     * The cached and estimated counts are counts of every entity, so they can't be used for a filtered page. For every
+     * mode but {@link CountMode#NONE}, the matching entities are counted exactly instead (which, like the page itself,
+     * can use an index on the filtered field).
+     *
+     * @param filters The ranges to filter by. If empty, this is the same as {@link #readPage(Pageable, CountMode)}.
+     */
     @Override
-    public Page<E> readPage(Pageable pageRequest) {
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public Slice<E> readPage(Pageable pageRequest, CountMode countMode, List<FieldRange<?>> filters) {
+        Objects.requireNonNull(filters, "filters must not be null");
+        if (filters.isEmpty()) {
+            return readPage(pageRequest, countMode);
+        }
         Objects.requireNonNull(pageRequest, "pageRequest must not be null");
-        return repository.findAll(pageRequest);
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = criteriaBuilder.createQuery((Class<E>) entityClass);
+        Root<E> root = query.from((Class<E>) entityClass);
+        query.select(root);
+        return readCriteriaPage(query, root, pageRequest, countMode, filters, entity -> entity);
     }
 
+    /**
+     * Reads only some fields of a page of entities, filtering and counting them the same way as
+     * {@link #readPage(Pageable, CountMode, List)}
+     *
+     * @param fieldNames The names of the fields to be read, in the order they should appear in each result
+     */
     @Override
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> readPageFields(Pageable pageRequest, CountMode countMode,
+                                                     List<FieldRange<?>> filters, List<String> fieldNames) {
+        Objects.requireNonNull(pageRequest, "pageRequest must not be null");
+        Objects.requireNonNull(filters, "filters must not be null");
+        Objects.requireNonNull(fieldNames, "fieldNames must not be null");
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<? extends E> root = query.from(entityClass);
+        query.multiselect(selections(root, fieldNames));
+        return readCriteriaPage(query, root, pageRequest, countMode, filters, tuple -> toFieldMap(tuple, fieldNames));
+    }
+
+    /**
+     * Filters, sorts, and pages a criteria query, and counts its results according to a {@link CountMode}
+     *
+     * @param mapper Converts each result of the query to an element of the page
+     */
+    private <T, R> Slice<R> readCriteriaPage(CriteriaQuery<T> query, Root<? extends E> root, Pageable pageRequest,
+                                             CountMode countMode, List<FieldRange<?>> filters,
+                                             Function<? super T, R> mapper) {
+        CountMode resolvedCountMode = countMode != null ? countMode : countService.getDefaultCountMode();
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        query.where(toPredicates(root, filters))
+                .orderBy(QueryUtils.toOrders(pageRequest.getSort(), root, criteriaBuilder));
+
+        TypedQuery<T> typedQuery = entityManager.createQuery(query);
+        if (pageRequest.isPaged()) {
+            // With no count, one extra row is fetched to find out whether there is a next page
+            int extraRows = resolvedCountMode == CountMode.NONE ? 1 : 0;
+            typedQuery.setFirstResult(Math.toIntExact(pageRequest.getOffset()))
+                    .setMaxResults(pageRequest.getPageSize() + extraRows);
+        }
+        List<R> content = new ArrayList<>();
+        for (T result : typedQuery.getResultList()) {
+            content.add(mapper.apply(result));
+        }
+
+        return switch (resolvedCountMode) {
+            case NONE -> {
+                boolean hasNext = pageRequest.isPaged() && content.size() > pageRequest.getPageSize();
+                List<R> pageContent = hasNext ? content.subList(0, pageRequest.getPageSize()) : content;
+                yield new SliceImpl<>(pageContent, pageRequest, hasNext);
+            }
+            case EXACT -> PageableExecutionUtils.getPage(content, pageRequest, () -> count(filters));
+            default -> PageableExecutionUtils.getPage(
+                    content,
+                    pageRequest,
+                    () -> filters.isEmpty()
+                            ? countService.count(resolvedCountMode, entityClass, repository::count)
+                            : count(filters)
+            );
+        };
+    }
+
+    /**
+     * Counts the entities that lie within every one of a list of ranges
+     */
+    private long count(List<FieldRange<?>> filters) {
+        if (filters.isEmpty()) {
+            return repository.count();
+        }
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<? extends E> root = query.from(entityClass);
+        query.select(criteriaBuilder.count(root)).where(toPredicates(root, filters));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate[] toPredicates(Root<?> root, List<FieldRange<?>> filters) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        List<Predicate> predicates = new ArrayList<>();
+        for (FieldRange<?> filter : filters) {
+            Path<Comparable> path = root.get(filter.fieldName());
+            if (filter.after() != null) {
+                predicates.add(criteriaBuilder.greaterThan(path, (Comparable) filter.after()));
+            }
+            if (filter.before() != null) {
+                predicates.add(criteriaBuilder.lessThan(path, (Comparable) filter.before()));
+            }
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    /**
+     * Converts the value of a field read by {@link #readFields(Object, List)} or
+     * {@link #readPageFields(Pageable, CountMode, List, List)} to the form it should be serialized in. Should be
+     * overridden for fields whose serialized form isn't their Jackson default (e.g. because of a {@code @JsonFormat}).
+     *
+     * @param fieldName The name of the field
+     * @param value The value of the field, as read from the database
+     * @return The value to be serialized
+     */
+    protected Object mapFieldValue(String fieldName, Object value) {
+        return value;
+    }
+
+    private static List<Selection<?>> selections(Root<?> root, List<String> fieldNames) {
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String fieldName : fieldNames) {
+            selections.add(root.get(fieldName).alias(fieldName));
+        }
+        return selections;
+    }
+
+    private Map<String, Object> toFieldMap(Tuple tuple, List<String> fieldNames) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (String fieldName : fieldNames) {
+            fields.put(fieldName, mapFieldValue(fieldName, tuple.get(fieldName)));
+        }
+        return fields;
+    }
+
+    /**
+     * Reads the page of entities that follows a cursor. Instead of {@code OFFSET}, the query seeks past the
+     * {@code (sortField, id)} pair of the last entity the client saw, and the ID breaks ties between entities with the
+     * same sort field value. With an index on {@code (sortField, id)}, the database reads only the rows it returns, so
+     * every page costs the same no matter how far into the sequence it is. One extra row is fetched to find out
+     * whether there is a next page, so no {@code COUNT} query is needed either.
+     * <p/>
+     * The seek is {@code sortField > last OR (sortField = last AND id > lastId)}, which the database can't use to bound
+     * an index scan on its own, so it's paired with the redundant {@code sortField >= last} ({@code <=} for descending
+     * pages). That conjunct becomes the index condition, and the OR only filters the rows that share the last value.
+     * A row value comparison would say the same thing, but JPA criteria queries have no way to express one.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public CursorPage<E> readKeysetPage(KeysetCursor cursor, int pageSize) {
+        Objects.requireNonNull(cursor, "cursor must not be null");
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = criteriaBuilder.createQuery((Class<E>) entityClass);
+        Root<E> root = query.from((Class<E>) entityClass);
+        Path<Comparable> sortPath = root.get(cursor.sortField());
+        Path<Comparable> idPath = root.get(ID_FIELD_NAME);
+        boolean sortById = ID_FIELD_NAME.equals(cursor.sortField());
+        boolean ascending = cursor.direction().isAscending();
+
+        if (!cursor.isAtStart()) {
+            Comparable lastId = parseCursorValue(cursor.lastId(), idPath.getJavaType());
+            Predicate afterLastId = ascending
+                    ? criteriaBuilder.greaterThan(idPath, lastId)
+                    : criteriaBuilder.lessThan(idPath, lastId);
+            if (sortById) {
+                query.where(afterLastId);
+            } else {
+                Comparable lastValue = parseCursorValue(cursor.lastValue(), sortPath.getJavaType());
+                Predicate fromLastValue = ascending
+                        ? criteriaBuilder.greaterThanOrEqualTo(sortPath, lastValue)
+                        : criteriaBuilder.lessThanOrEqualTo(sortPath, lastValue);
+                Predicate afterLastValue = ascending
+                        ? criteriaBuilder.greaterThan(sortPath, lastValue)
+                        : criteriaBuilder.lessThan(sortPath, lastValue);
+                query.where(
+                        fromLastValue,
+                        criteriaBuilder.or(
+                                afterLastValue,
+                                criteriaBuilder.and(criteriaBuilder.equal(sortPath, lastValue), afterLastId)
+                        )
+                );
+            }
+        }
+
+        List<Order> orders = new ArrayList<>();
+        if (!sortById) {
+            orders.add(ascending ? criteriaBuilder.asc(sortPath) : criteriaBuilder.desc(sortPath));
+        }
+        orders.add(ascending ? criteriaBuilder.asc(idPath) : criteriaBuilder.desc(idPath));
+        query.orderBy(orders);
+
+        List<E> results = entityManager.createQuery(query)
+                .setMaxResults(pageSize + 1)
+                .getResultList();
+        if (results.size() <= pageSize) {
+            return new CursorPage<>(results, null);
+        }
+
+        List<E> content = new ArrayList<>(results.subList(0, pageSize));
+        E last = content.get(content.size() - 1);
+        Object lastValue = new BeanWrapperImpl(last).getPropertyValue(cursor.sortField());
+        KeysetCursor nextCursor = cursor.after(formatCursorValue(lastValue), formatCursorValue(last.getId()));
+        return new CursorPage<>(content, nextCursor.encode());
+    }
+
+    protected void publishWrite(Collection<I> ids) {
+        writeEventPublisher.publish(entityClass, ids);
+    }
+
+    /**
+     * Soft-locks an entity's second-level cache entry until the current transaction completes, the same way Hibernate
+     * does before it writes a managed entity. Must be called before a statement writes the entity's row without
+     * loading it. While the lock is held, the entry is never read, and a transaction that read the old row can't put
+     * it back. Once it is released, only a transaction that started after the write can replace the entry.
+     */
+    protected void lockCacheEntry(I id) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMetamodel().entityPersister(entityClass);
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+        Object key = cacheAccess.generateCacheKey(id, persister, session.getFactory(), session.getTenantIdentifier());
+        SoftLock lock = cacheAccess.lockItem(session, key, null);
+        session.getActionQueue().registerProcess(
+                (success, completedSession) -> cacheAccess.unlockItem(completedSession, key, lock));
+    }
+
+    private static String formatCursorValue(Object value) {
+        if (value instanceof Instant instant) {
+            return Long.toString(instant.toEpochMilli());
+        }
+        return String.valueOf(value);
+    }
+
+    private static Comparable<?> parseCursorValue(String value, Class<?> type) {
+        if (String.class.equals(type)) {
+            return value;
+        } else if (UUID.class.equals(type)) {
+            return UUID.fromString(value);
+        } else if (Instant.class.equals(type)) {
+            return Instant.ofEpochMilli(Long.parseLong(value));
+        }
+        throw new IllegalArgumentException("Unsupported cursor value type: " + type.getName());
+    }
+
+    /**
+     * Streams every entity, ordered by ID, from a forward-only database cursor. The JDBC driver fetches
+     * {@code fetchSize} rows from the cursor at a time, and the persistence context is cleared every
+     * {@code clearInterval} entities, so memory use doesn't grow with the number of entities. The second-level cache is
+     * bypassed, so an export doesn't evict every hot entity from it. Entities passed to the consumer are only valid
+     * until the next time the persistence context is cleared.
+     *
+     * @return The number of entities that were streamed
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public long streamAll(int fetchSize, int clearInterval, Consumer<? super E> consumer) {
+        Objects.requireNonNull(consumer, "consumer must not be null");
+        if (fetchSize < 1 || clearInterval < 1) {
+            throw new IllegalArgumentException("fetchSize and clearInterval must be positive");
+        }
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = criteriaBuilder.createQuery((Class<E>) entityClass);
+        Root<E> root = query.from((Class<E>) entityClass);
+        query.select(root).orderBy(criteriaBuilder.asc(root.get(ID_FIELD_NAME)));
+
+        Session session = entityManager.unwrap(Session.class);
+        long count = 0;
+        try (ScrollableResults results = entityManager.createQuery(query)
+                .unwrap(org.hibernate.query.Query.class)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                consumer.accept((E) results.get(0));
+                if (++count % clearInterval == 0) {
+                    session.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Updates an entity at whatever version it's at, with a single statement that overwrites its row without loading
+     * it. Whether the statement matched a row tells whether the entity exists. Only the entity's own second-level
+     * cache entry is invalidated, and the returned entity carries its new version.
+     *
+     * @return The updated entity, or an empty optional if no entity exists with the given ID
+     */
+    @Override
+    @Transactional
     public Optional<E> update(I id, D dto) {
         Objects.requireNonNull(id, "id must not be null");
         Objects.requireNonNull(dto, "dto must not be null");
-        return repository.findById(id)
-                .map((E entity) -> {
-                    applyUpdates(dto, entity);
-                    return repository.save(entity);
-                });
+        E entity = toEntity(id, dto);
+        lockCacheEntry(id);
+        if (!overwrite(entity)) {
+            return Optional.empty();
+        }
+        publishWrite(List.of(id));
+        return Optional.of(entity);
     }
 
+    /**
+     * Updates a batch of entities in chunks of at most {@value #READ_CHUNK_SIZE}, like {@link #readMultiple(Iterable)}.
+     * The existing entities of each chunk are loaded with a single query, and then the new state of each one is merged
+     * into the persistence context. Because every entity is already managed, merging doesn't issue any further
+     * {@code SELECT}s. Each chunk's {@code UPDATE}s are flushed in JDBC batches before the persistence context is
+     * cleared, so memory use doesn't grow with the size of the batch.
+     */
     @Override
+    @Transactional
+    public BatchResult<E, I> updateMultiple(Map<I, D> dtosById) {
+        Objects.requireNonNull(dtosById, "dtosById must not be null");
+        List<I> requestedIds = new ArrayList<>(dtosById.keySet());
+
+        List<E> updated = new ArrayList<>();
+        List<I> notFound = new ArrayList<>();
+        for (int from = 0; from < requestedIds.size(); from += READ_CHUNK_SIZE) {
+            List<I> chunk = requestedIds.subList(from, Math.min(from + READ_CHUNK_SIZE, requestedIds.size()));
+            Map<I, E> existingById = new HashMap<>();
+            repository.findAllById(chunk).forEach(entity -> existingById.put(entity.getId(), entity));
+
+            for (I id : chunk) {
+                E existing = existingById.get(id);
+                if (existing == null) {
+                    notFound.add(id);
+                    continue;
+                }
+                E entity = toEntity(id, dtosById.get(id));
+                // Merging an entity at another version than the managed one is treated as a concurrent modification
+                if (entity instanceof Versioned versioned) {
+                    versioned.setVersion(((Versioned) existing).getVersion());
+                }
+                updated.add(repository.save(entity));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+        publishWrite(updated.stream().map(E::getId).toList());
+        return new BatchResult<>(updated, notFound);
+    }
+
+    /**
+     * Deletes an entity with a single statement that doesn't load it. Whether the statement matched a row tells
+     * whether the entity existed. Unlike a JPQL {@code DELETE}, which would make Hibernate clear the tenant's whole
+     * second-level cache partition for the entity, only the entity's own entry is invalidated.
+     */
+    @Override
+    @Transactional
     public boolean delete(I id) {
         Objects.requireNonNull(id, "id must not be null");
-        var optEntity = repository.findById(id);
-        if (optEntity.isPresent()) {
-            repository.delete(optEntity.get());
-            return true;
+        lockCacheEntry(id);
+        if (!remove(id)) {
+            return false;
+        }
+        publishWrite(List.of(id));
+        return true;
+    }
+
+    /**
+     * Deletes a batch of entities in chunks of at most {@value #READ_CHUNK_SIZE}, like {@link #updateMultiple(Map)}.
+     * Each chunk is looked up and then deleted with one query each, so no single query has an unbounded number of
+     * parameters.
+     */
+    @Override
+    @Transactional
+    public BatchResult<I, I> deleteMultiple(Collection<I> ids) {
+        Objects.requireNonNull(ids, "ids must not be null");
+        List<I> requestedIds = new ArrayList<>(new LinkedHashSet<>(ids));
+
+        List<I> deleted = new ArrayList<>();
+        List<I> notFound = new ArrayList<>();
+        for (int from = 0; from < requestedIds.size(); from += READ_CHUNK_SIZE) {
+            List<I> chunk = requestedIds.subList(from, Math.min(from + READ_CHUNK_SIZE, requestedIds.size()));
+            Set<I> existingIds = new HashSet<>(repository.findExistingIds(chunk));
+            if (!existingIds.isEmpty()) {
+                repository.removeAllById(existingIds);
+            }
+
+            for (I id : chunk) {
+                if (existingIds.contains(id)) {
+                    deleted.add(id);
+                } else {
+                    notFound.add(id);
+                }
+            }
         }
-        return false;
+        publishWrite(deleted);
+        return new BatchResult<>(deleted, notFound);
     }
 }
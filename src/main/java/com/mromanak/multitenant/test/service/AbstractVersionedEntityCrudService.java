@@ -0,0 +1,68 @@
+package com.mromanak.multitenant.test.service;
+
+import com.mromanak.multitenant.test.event.EntityWriteEventPublisher;
+import com.mromanak.multitenant.test.model.DtoFor;
+import com.mromanak.multitenant.test.model.Identifiable;
+import com.mromanak.multitenant.test.model.Versioned;
+import com.mromanak.multitenant.test.repository.EntityCrudRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Extends {@link AbstractEntityCrudService} with conditional updates for {@link Versioned} entities
+ *
+ * @param <I> The identifier type for the entity class
+ * @param <D> The DTO type for the entity class
+ * @param <E> The entity class
+ */
+public abstract class AbstractVersionedEntityCrudService<I, D extends DtoFor<I, E>, E extends Identifiable<I> & Versioned>
+        extends AbstractEntityCrudService<I, D, E> implements VersionedEntityCrudService<I, D, E> {
+
+    protected AbstractVersionedEntityCrudService(
+            EntityCrudRepository<E, I> repository,
+            EntityManager entityManager,
+            EntityCountService countService,
+            EntityWriteEventPublisher writeEventPublisher,
+            Class<? extends D> dtoClass,
+            Class<? extends E> entityClass
+    ) {
+        super(repository, entityManager, countService, writeEventPublisher, dtoClass, entityClass);
+    }
+
+    /**
+     * Like {@link #overwrite(Identifiable)}, but only if the entity's row is still at the expected version
+     *
+     * @return Whether a row was overwritten, i.e. false if no entity exists with the entity object's ID at the expected
+     * version
+     */
+    protected abstract boolean overwrite(E entity, long expectedVersion);
+
+    /**
+     * Updates an entity with a single statement that overwrites its row only if it's still at the expected version.
+     * The existing entity is never loaded, so a stale second-level cache entry can't cause a false conflict. Only if
+     * the statement matches no row does a second query check whether the entity exists at all, to tell a missing
+     * entity from a version conflict.
+     */
+    @Override
+    @Transactional
+    public Optional<E> update(I id, D dto, long expectedVersion) {
+        Objects.requireNonNull(id, "id must not be null");
+        Objects.requireNonNull(dto, "dto must not be null");
+        E entity = toEntity(id, dto);
+        lockCacheEntry(id);
+        if (!overwrite(entity, expectedVersion)) {
+            if (!repository.existsById(id)) {
+                return Optional.empty();
+            }
+            throw new VersionConflictException(String.format(
+                    "The %s entity with ID %s is not at version %d", entityClass.getSimpleName(), id, expectedVersion
+            ));
+        }
+        publishWrite(List.of(id));
+        return Optional.of(entity);
+    }
+}
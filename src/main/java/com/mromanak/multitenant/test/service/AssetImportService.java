@@ -0,0 +1,273 @@
+package com.mromanak.multitenant.test.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mromanak.multitenant.test.config.ImportProperties;
+import com.mromanak.multitenant.test.event.EntityWriteEventPublisher;
+import com.mromanak.multitenant.test.model.ImportResult;
+import com.mromanak.multitenant.test.model.ImportResult.RowError;
+import com.mromanak.multitenant.test.model.dto.AssetDto;
+import com.mromanak.multitenant.test.model.entity.Asset;
+import com.mromanak.multitenant.test.repository.AssetRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * A service that imports streams of {@link Asset Assets}, formatted as either newline-delimited JSON objects or CSV
+ * rows.
+ * <p/>
+ * Rows are read, validated, and mapped one at a time. Valid rows are buffered into chunks, and each chunk is inserted
+ * with {@link AssetRepository#insertAll(List)} in a transaction of its own, so a connection is only checked out while a
+ * chunk is being written rather than for the whole upload. Reading from the request blocks while a chunk is being
+ * written, which keeps a fast client from getting ahead of the database, so memory use is bounded by the chunk size
+ * (and the cap on reported errors) no matter how big the upload is.
+ * <p/>
+ * Since each chunk commits on its own, an import that fails part way through leaves the chunks before the failure in
+ * place.
+ */
+@Service
+public class AssetImportService {
+
+    /**
+     * The formats that Assets may be imported in
+     */
+    public enum Format {
+        /**
+         * One {@link AssetDto} JSON object per line
+         */
+        NDJSON,
+        /**
+         * A header row naming the {@link AssetDto} fields in each column, followed by one row per Asset. Quoted fields
+         * may contain commas and doubled quotes, but not line breaks. An empty, unquoted field is read as null.
+         */
+        CSV
+    }
+
+    private static final Map<String, BiConsumer<AssetDto, String>> CSV_COLUMN_SETTERS = Map.of(
+            "name", AssetDto::setName,
+            "createdTimestamp", AssetDto::setCreatedTimestamp,
+            "serverUrl", AssetDto::setServerUrl
+    );
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("name", "createdTimestamp");
+
+    private final AssetRepository assetRepository;
+    private final EntityCrudService<UUID, AssetDto, Asset> assetService;
+    private final EntityWriteEventPublisher writeEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ImportProperties importProperties;
+
+    @Autowired
+    public AssetImportService(
+            AssetRepository assetRepository,
+            EntityCrudService<UUID, AssetDto, Asset> assetService,
+            EntityWriteEventPublisher writeEventPublisher,
+            PlatformTransactionManager transactionManager,
+            Validator validator,
+            ObjectMapper objectMapper,
+            ImportProperties importProperties
+    ) {
+        this.assetRepository = assetRepository;
+        this.assetService = assetService;
+        this.writeEventPublisher = writeEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.importProperties = importProperties;
+    }
+
+    /**
+     * Imports every valid row in a stream of Assets
+     *
+     * @throws ImportFormatException If the stream can't be read in the given format at all (e.g. a CSV stream with no
+     *                               usable header)
+     */
+    public ImportResult importAssets(Reader reader, Format format) throws IOException {
+        BufferedReader lines = new BufferedReader(reader);
+        ImportResult result = new ImportResult();
+        List<Asset> chunk = new ArrayList<>(importProperties.getChunkSize());
+
+        long lineNumber = 0;
+        List<BiConsumer<AssetDto, String>> csvColumns = null;
+        if (format == Format.CSV) {
+            csvColumns = parseCsvHeader(lines.readLine());
+            lineNumber++;
+        }
+
+        String line;
+        while ((line = lines.readLine()) != null) {
+            long currentLine = ++lineNumber;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            AssetDto dto;
+            try {
+                dto = format == Format.CSV
+                        ? parseCsvRow(line, csvColumns)
+                        : objectMapper.readValue(line, AssetDto.class);
+            } catch (IOException | IllegalArgumentException e) {
+                reject(result, List.of(new RowError(currentLine, null, format == Format.CSV
+                        ? "must be a valid CSV row with " + csvColumns.size() + " columns"
+                        : "must be a valid JSON object")));
+                continue;
+            }
+
+            List<RowError> errors = validator.validate(dto).stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> toRowError(currentLine, violation))
+                    .toList();
+            if (!errors.isEmpty()) {
+                reject(result, errors);
+                continue;
+            }
+
+            // Validation already rejects unparseable timestamps, but a row that slips through mustn't abort the import
+            try {
+                chunk.add(assetService.toEntity(UUID.randomUUID(), dto));
+            } catch (DateTimeParseException e) {
+                reject(result, List.of(new RowError(currentLine, "createdTimestamp",
+                        "must be a valid ISO-8601 date-time")));
+                continue;
+            }
+            if (chunk.size() >= importProperties.getChunkSize()) {
+                writeChunk(result, chunk);
+            }
+        }
+        writeChunk(result, chunk);
+        return result;
+    }
+
+    private void writeChunk(ImportResult result, List<Asset> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            assetRepository.insertAll(chunk);
+            writeEventPublisher.publish(Asset.class, chunk.stream().map(Asset::getId).toList());
+        });
+        result.setImported(result.getImported() + chunk.size());
+        chunk.clear();
+    }
+
+    private void reject(ImportResult result, List<RowError> errors) {
+        result.setRejected(result.getRejected() + 1);
+        for (RowError error : errors) {
+            if (result.getErrors().size() >= importProperties.getMaxReportedErrors()) {
+                return;
+            }
+            result.getErrors().add(error);
+        }
+    }
+
+    private static RowError toRowError(long lineNumber, ConstraintViolation<AssetDto> violation) {
+        return new RowError(lineNumber, violation.getPropertyPath().toString(), violation.getMessage());
+    }
+
+    private static List<BiConsumer<AssetDto, String>> parseCsvHeader(String header) {
+        if (header == null) {
+            throw new ImportFormatException("A CSV import must start with a header row");
+        }
+
+        List<String> columnNames;
+        try {
+            columnNames = parseCsvLine(header);
+        } catch (IllegalArgumentException e) {
+            throw new ImportFormatException("The CSV header row is malformed");
+        }
+
+        List<BiConsumer<AssetDto, String>> columns = new ArrayList<>();
+        Map<String, Integer> columnIndexes = new HashMap<>();
+        for (String columnName : columnNames) {
+            BiConsumer<AssetDto, String> setter = CSV_COLUMN_SETTERS.get(columnName);
+            if (setter == null) {
+                throw new ImportFormatException("Unknown CSV column: " + columnName);
+            }
+            if (columnIndexes.put(columnName, columns.size()) != null) {
+                throw new ImportFormatException("Duplicate CSV column: " + columnName);
+            }
+            columns.add(setter);
+        }
+        for (String requiredColumn : REQUIRED_CSV_COLUMNS) {
+            if (!columnIndexes.containsKey(requiredColumn)) {
+                throw new ImportFormatException("Missing CSV column: " + requiredColumn);
+            }
+        }
+        return columns;
+    }
+
+    private static AssetDto parseCsvRow(String line, List<BiConsumer<AssetDto, String>> columns) {
+        List<String> fields = parseCsvLine(line);
+        if (fields.size() != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " fields, found " + fields.size());
+        }
+
+        AssetDto dto = new AssetDto();
+        for (int i = 0; i < fields.size(); i++) {
+            columns.get(i).accept(dto, fields.get(i));
+        }
+        return dto;
+    }
+
+    /**
+     * Splits a line of RFC 4180 CSV into fields. An empty, unquoted field is returned as null to tell it apart from an
+     * empty quoted field.
+     *
+     * @throws IllegalArgumentException If a quoted field is not terminated, or is followed by anything but a comma
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            field.setLength(0);
+            if (i < line.length() && line.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i >= line.length()) {
+                        throw new IllegalArgumentException("Unterminated quoted field");
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < line.length() && line.charAt(i) != ',') {
+                    throw new IllegalArgumentException("Unexpected character after quoted field");
+                }
+                fields.add(field.toString());
+            } else {
+                int end = line.indexOf(',', i);
+                String value = line.substring(i, end < 0 ? line.length() : end);
+                fields.add(value.isEmpty() ? null : value);
+                i = end < 0 ? line.length() : end;
+            }
+
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.mromanak.multitenant.test.service;
+
+import com.mromanak.multitenant.test.model.CursorPage;
+import com.mromanak.multitenant.test.model.KeysetCursor;
+import com.mromanak.multitenant.test.model.entity.Asset;
+import com.mromanak.multitenant.test.repository.AssetRepository;
+import com.mromanak.multitenant.test.repository.AssetSearchRepository.Match;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A service that searches for {@link Asset Assets} by name or by location.
+ * <p/>
+ * Name search results are keyset paginated like {@link EntityCrudService#readKeysetPage(KeysetCursor, int)}, except
+ * that the sequence is always sorted by how closely each Asset matches the query (best first), so a cursor holds the
+ * score and ID of the last Asset on the previous page. A cursor doesn't remember the query it was issued for; resuming
+ * it with another query skips every match scored higher than the last one the client saw.
+ * <p/>
+ * Bounding box results are keyset paginated by ID, with the same cursors as an ID-sorted
+ * {@link EntityCrudService#readKeysetPage(KeysetCursor, int)}. Nearest neighbour results aren't paginated; clients ask
+ * for as many as they need.
+ */
+@Service
+public class AssetSearchService {
+
+    /**
+     * The sort field of every search cursor
+     */
+    public static final String SCORE_SORT_FIELD = "score";
+
+    /**
+     * The sort field of every bounding box cursor
+     */
+    public static final String ID_SORT_FIELD = Asset.SortField.ID.getFieldName();
+
+    private final AssetRepository assetRepository;
+
+    @Autowired
+    public AssetSearchService(AssetRepository assetRepository) {
+        Objects.requireNonNull(assetRepository, "assetRepository must not be null");
+        this.assetRepository = assetRepository;
+    }
+
+    /**
+     * Creates a cursor positioned before the best match of a search
+     */
+    public static KeysetCursor startCursor() {
+        return KeysetCursor.start(SCORE_SORT_FIELD, Sort.Direction.DESC);
+    }
+
+    /**
+     * Creates a cursor positioned before the first Asset in a bounding box
+     */
+    public static KeysetCursor startBoxCursor() {
+        return KeysetCursor.start(ID_SORT_FIELD, Sort.Direction.ASC);
+    }
+
+    /**
+     * Finds a page of the Assets whose names contain a query (ignoring case). One extra match is fetched to find out
+     * whether there is a next page.
+     *
+     * @param cursor The nextCursor of the previous page, or a {@link #startCursor()}
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Asset> search(String query, KeysetCursor cursor, int pageSize) {
+        Objects.requireNonNull(query, "query must not be null");
+        Objects.requireNonNull(cursor, "cursor must not be null");
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+
+        List<Match> matches = cursor.isAtStart()
+                ? assetRepository.searchByName(query, null, null, pageSize + 1)
+                : assetRepository.searchByName(query, Float.valueOf(cursor.lastValue()),
+                        UUID.fromString(cursor.lastId()), pageSize + 1);
+
+        List<Asset> content = new ArrayList<>();
+        for (Match match : matches.subList(0, Math.min(pageSize, matches.size()))) {
+            content.add(match.asset());
+        }
+        if (matches.size() <= pageSize) {
+            return new CursorPage<>(content, null);
+        }
+
+        Match last = matches.get(pageSize - 1);
+        KeysetCursor nextCursor = cursor.after(Float.toString(last.score()), last.asset().getId().toString());
+        return new CursorPage<>(content, nextCursor.encode());
+    }
+
+    /**
+     * Finds a page of the Assets located within a longitude/latitude bounding box (including its edges), ordered by ID.
+     * One extra Asset is fetched to find out whether there is a next page.
+     *
+     * @param cursor The nextCursor of the previous page, or a {@link #startBoxCursor()}
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Asset> findWithinBox(double minLongitude, double minLatitude, double maxLongitude,
+                                           double maxLatitude, KeysetCursor cursor, int pageSize) {
+        Objects.requireNonNull(cursor, "cursor must not be null");
+        if (!ID_SORT_FIELD.equals(cursor.sortField()) || cursor.direction() != Sort.Direction.ASC) {
+            throw new IllegalArgumentException("cursor must be sorted by ascending ID");
+        }
+        if (minLongitude > maxLongitude || minLatitude > maxLatitude) {
+            throw new IllegalArgumentException("The minimum of the box must not be greater than its maximum");
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+
+        UUID lastId = cursor.isAtStart() ? null : UUID.fromString(cursor.lastId());
+        List<Asset> assets = assetRepository.findWithinBox(minLongitude, minLatitude, maxLongitude, maxLatitude,
+                lastId, pageSize + 1);
+        if (assets.size() <= pageSize) {
+            return new CursorPage<>(assets, null);
+        }
+
+        String id = assets.get(pageSize - 1).getId().toString();
+        return new CursorPage<>(new ArrayList<>(assets.subList(0, pageSize)), cursor.after(id, id).encode());
+    }
+
+    /**
+     * Finds the Assets closest to a longitude/latitude point, closest first. Distances are measured in degrees, so
+     * they're only approximately geographic, but are good enough to rank nearby Assets.
+     */
+    @Transactional(readOnly = true)
+    public List<Asset> findNearest(double longitude, double latitude, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        return assetRepository.findNearest(longitude, latitude, count);
+    }
+}
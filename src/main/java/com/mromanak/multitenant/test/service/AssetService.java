@@ -1,30 +1,97 @@
 package com.mromanak.multitenant.test.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mromanak.multitenant.test.event.EntityWriteEventPublisher;
+import com.mromanak.multitenant.test.model.GeoPoint;
+import com.mromanak.multitenant.test.model.Iso8601Timestamps;
 import com.mromanak.multitenant.test.model.dto.AssetDto;
 import com.mromanak.multitenant.test.model.entity.Asset;
+import com.mromanak.multitenant.test.repository.AssetRepository;
+import org.locationtech.jts.geom.Point;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Service;
 
+import javax.persistence.EntityManager;
+import java.net.URI;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * A service that performs basic CRUD operations for {@link Asset Assets}.
+ * <p/>
+ * Mapping between {@link AssetDto AssetDtos} and {@link Asset Assets} is done by hand, one field at a time. Timestamps
+ * go through {@link Iso8601Timestamps}, the same as when an {@link Asset} is serialized by Jackson, without building an
+ * intermediate token buffer on every request.
  */
 @Service
-public class AssetService extends AbstractEntityCrudService<UUID, AssetDto, Asset> {
+public class AssetService extends AbstractVersionedEntityCrudService<UUID, AssetDto, Asset> {
+
+    private final AssetRepository assetRepository;
 
     @Autowired
-    public AssetService(ObjectMapper objectMapper, PagingAndSortingRepository<Asset, UUID> repository) {
-        super(objectMapper, repository, AssetDto.class, Asset.class);
+    public AssetService(
+            AssetRepository repository,
+            EntityManager entityManager,
+            EntityCountService countService,
+            EntityWriteEventPublisher writeEventPublisher
+    ) {
+        super(repository, entityManager, countService, writeEventPublisher, AssetDto.class, Asset.class);
+        this.assetRepository = repository;
+    }
+
+    @Override
+    protected Asset mapToEntity(AssetDto dto) {
+        Asset entity = new Asset();
+        entity.setName(dto.getName());
+        entity.setCreatedTimestamp(Iso8601Timestamps.parse(dto.getCreatedTimestamp()));
+        entity.setServerUrl(dto.getServerUrl() != null ? URI.create(dto.getServerUrl()) : null);
+        entity.setLocation(dto.getLocation() != null ? dto.getLocation().toPoint() : null);
+        return entity;
+    }
+
+    @Override
+    protected AssetDto mapToDto(Asset entity) {
+        AssetDto dto = new AssetDto();
+        dto.setName(entity.getName());
+        dto.setCreatedTimestamp(Iso8601Timestamps.format(entity.getCreatedTimestamp()));
+        dto.setServerUrl(entity.getServerUrl() != null ? entity.getServerUrl().toString() : null);
+        dto.setLocation(GeoPoint.of(entity.getLocation()));
+        return dto;
+    }
+
+    @Override
+    protected boolean overwrite(Asset entity) {
+        return setVersion(entity, assetRepository.overwrite(entity));
+    }
+
+    @Override
+    protected boolean overwrite(Asset entity, long expectedVersion) {
+        return setVersion(entity, assetRepository.overwrite(entity, expectedVersion));
+    }
+
+    @Override
+    protected boolean remove(UUID id) {
+        return assetRepository.remove(id);
+    }
+
+    private static boolean setVersion(Asset entity, Optional<Long> version) {
+        version.ifPresent(entity::setVersion);
+        return version.isPresent();
     }
 
+    /**
+     * Formats timestamps, URLs, and locations the same way {@link #mapToDto(Asset)} does, so a sparse fieldset
+     * serializes them exactly as the full Asset would
+     */
     @Override
-    protected void applyUpdates(AssetDto updateDto, Asset entity) {
-        Asset updateEntity = toEntity(updateDto);
-        entity.setName(updateEntity.getName());
-        entity.setCreatedTimestamp(updateEntity.getCreatedTimestamp());
-        entity.setServerUrl(updateEntity.getServerUrl());
+    protected Object mapFieldValue(String fieldName, Object value) {
+        if (value instanceof Instant timestamp) {
+            return Iso8601Timestamps.format(timestamp);
+        } else if (value instanceof URI uri) {
+            return uri.toString();
+        } else if (value instanceof Point point) {
+            return GeoPoint.of(point);
+        }
+        return value;
     }
 }
@@ -0,0 +1,151 @@
+package com.mromanak.multitenant.test.service;
+
+import com.mromanak.multitenant.test.config.PagingProperties;
+import com.mromanak.multitenant.test.config.jpa.CurrentTenantResolver;
+import com.mromanak.multitenant.test.event.EntityWriteEvent;
+import com.mromanak.multitenant.test.model.CountMode;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.persistence.EntityManager;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts the entities of the current tenant according to a {@link CountMode}.
+ * <p/>
+ * Cached counts are kept per tenant and entity class, and are dropped as soon as an {@link EntityWriteEvent} for that
+ * tenant and entity class commits. Each cache entry is guarded by a generation number that is bumped on every write,
+ * so a count that was started before a write committed can't be cached after the write has invalidated the entry.
+ */
+@Service
+@Slf4j
+public class EntityCountService {
+
+    private static final String ESTIMATE_QUERY =
+            "select cast(c.reltuples as bigint) from pg_catalog.pg_class c where c.oid = to_regclass(:tableName)";
+
+    private final EntityManager entityManager;
+    private final CurrentTenantResolver currentTenantResolver;
+    private final PagingProperties pagingProperties;
+    private final Map<CountKey, CachedCount> cachedCounts = new ConcurrentHashMap<>();
+    private final Map<CountKey, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> tableNames = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EntityCountService(
+            EntityManager entityManager,
+            CurrentTenantResolver currentTenantResolver,
+            PagingProperties pagingProperties
+    ) {
+        this.entityManager = entityManager;
+        this.currentTenantResolver = currentTenantResolver;
+        this.pagingProperties = pagingProperties;
+    }
+
+    /**
+     * @return The count mode configured for the current tenant
+     */
+    public CountMode getDefaultCountMode() {
+        return pagingProperties.getCountMode(currentTenantResolver.resolveCurrentTenantIdentifier());
+    }
+
+    /**
+     * Counts the current tenant's entities of a given class. Must be called inside a transaction.
+     *
+     * @param countMode How the entities should be counted. Must not be {@link CountMode#NONE}
+     * @param entityClass The entity class
+     * @param exactCount Counts the entities exactly
+     */
+    public long count(CountMode countMode, Class<?> entityClass, LongSupplier exactCount) {
+        Objects.requireNonNull(countMode, "countMode must not be null");
+        Objects.requireNonNull(entityClass, "entityClass must not be null");
+        Objects.requireNonNull(exactCount, "exactCount must not be null");
+
+        return switch (countMode) {
+            case EXACT -> exactCount.getAsLong();
+            case ESTIMATED -> estimateCount(entityClass, exactCount);
+            case CACHED -> cachedCount(entityClass, exactCount);
+            case NONE -> throw new IllegalArgumentException("Entities cannot be counted with count mode NONE");
+        };
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityWrite(EntityWriteEvent event) {
+        CountKey key = new CountKey(event.tenantId(), event.entityClass());
+        generation(key).incrementAndGet();
+        cachedCounts.remove(key);
+    }
+
+    /**
+     * Drops every cached count, e.g. after invalidation messages from other nodes may have been missed
+     */
+    public void evictAll() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        cachedCounts.clear();
+    }
+
+    /**
+     * Uses the row count that Postgres keeps in {@code pg_class} for the query planner. It is refreshed by
+     * {@code ANALYZE} and autovacuum, so it can drift from the true count between runs, but reading it costs the same
+     * no matter how big the table is.
+     */
+    private long estimateCount(Class<?> entityClass, LongSupplier exactCount) {
+        SessionFactoryImplementor sessionFactory =
+                entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        if (!(sessionFactory.getJdbcServices().getDialect() instanceof PostgreSQL81Dialect)) {
+            return exactCount.getAsLong();
+        }
+
+        String tableName = currentTenantResolver.resolveCurrentTenantIdentifier() + "." + tableNames.computeIfAbsent(
+                entityClass,
+                key -> ((AbstractEntityPersister) sessionFactory.getMetamodel().entityPersister(key)).getTableName()
+        );
+        Object estimate = entityManager.createNativeQuery(ESTIMATE_QUERY)
+                .setParameter("tableName", tableName)
+                .getSingleResult();
+
+        // Tables that have never been analyzed report -1 (or 0 before Postgres 14), so count those exactly
+        if (!(estimate instanceof Number number) || number.longValue() <= 0) {
+            log.debug("No row count estimate available for {}, counting exactly", tableName);
+            return exactCount.getAsLong();
+        }
+        return number.longValue();
+    }
+
+    private long cachedCount(Class<?> entityClass, LongSupplier exactCount) {
+        CountKey key = new CountKey(currentTenantResolver.resolveCurrentTenantIdentifier(), entityClass);
+        CachedCount cachedCount = cachedCounts.get(key);
+        if (cachedCount != null && cachedCount.expiresAtNanos() - System.nanoTime() > 0) {
+            return cachedCount.count();
+        }
+
+        AtomicLong generation = generation(key);
+        long startingGeneration = generation.get();
+        long count = exactCount.getAsLong();
+        long expiresAtNanos = System.nanoTime() + pagingProperties.getCountCacheTtl().toNanos();
+        cachedCounts.compute(key, (k, existing) -> generation.get() == startingGeneration
+                ? new CachedCount(count, expiresAtNanos)
+                : existing);
+        return count;
+    }
+
+    private AtomicLong generation(CountKey key) {
+        return generations.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    private record CountKey(String tenantId, Class<?> entityClass) {
+    }
+
+    private record CachedCount(long count, long expiresAtNanos) {
+    }
+}
@@ -1,11 +1,20 @@
 package com.mromanak.multitenant.test.service;
 
+import com.mromanak.multitenant.test.model.BatchResult;
+import com.mromanak.multitenant.test.model.CountMode;
+import com.mromanak.multitenant.test.model.CursorPage;
 import com.mromanak.multitenant.test.model.DtoFor;
+import com.mromanak.multitenant.test.model.FieldRange;
 import com.mromanak.multitenant.test.model.Identifiable;
-import org.springframework.data.domain.Page;
+import com.mromanak.multitenant.test.model.KeysetCursor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Defines a contract for a service that performs basic CRUD operations for a given entity class.
@@ -28,13 +37,30 @@ public interface EntityCrudService<I, D extends DtoFor<I, E>, E extends Identifi
 
     E create(D dto);
 
+    Iterable<E> createMultiple(Iterable<D> dtos);
+
     Optional<E> read(I id);
 
-    Iterable<E> readMultiple(Iterable<I> ids);
+    BatchResult<E, I> readMultiple(Iterable<I> ids);
+
+    Slice<E> readPage(Pageable pageRequest, CountMode countMode);
+
+    Optional<Map<String, Object>> readFields(I id, List<String> fieldNames);
+
+    Slice<E> readPage(Pageable pageRequest, CountMode countMode, List<FieldRange<?>> filters);
 
-    Page<E> readPage(Pageable pageRequest);
+    Slice<Map<String, Object>> readPageFields(Pageable pageRequest, CountMode countMode, List<FieldRange<?>> filters,
+                                              List<String> fieldNames);
+
+    CursorPage<E> readKeysetPage(KeysetCursor cursor, int pageSize);
+
+    long streamAll(int fetchSize, int clearInterval, Consumer<? super E> consumer);
 
     Optional<E> update(I id, D dto);
 
+    BatchResult<E, I> updateMultiple(Map<I, D> dtosById);
+
     boolean delete(I id);
+
+    BatchResult<I, I> deleteMultiple(Collection<I> ids);
 }
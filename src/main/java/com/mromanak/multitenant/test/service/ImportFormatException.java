@@ -0,0 +1,11 @@
+package com.mromanak.multitenant.test.service;
+
+/**
+ * Thrown when a stream of entities to be imported can't be read at all, as opposed to when individual rows are invalid
+ */
+public class ImportFormatException extends RuntimeException {
+
+    public ImportFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,76 @@
+package com.mromanak.multitenant.test.service;
+
+import com.mromanak.multitenant.test.model.entity.Asset;
+import com.mromanak.multitenant.test.repository.ReactiveAssetRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A service that reads {@link Asset Assets} without blocking. It mirrors the reads of {@link AssetService}, but reads
+ * through {@link ReactiveAssetRepository}, and so never uses the second-level cache, the response cache, or the
+ * tenants' configured count modes: every page is counted exactly.
+ */
+@Service
+@ConditionalOnProperty(prefix = "reactive", name = "enabled", havingValue = "true")
+public class ReactiveAssetService {
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            Asset.SortField.ID.getFieldName(), "id",
+            Asset.SortField.NAME.getFieldName(), "name",
+            Asset.SortField.CREATED_TIMESTAMP.getFieldName(), "created_timestamp"
+    );
+
+    private final ReactiveAssetRepository repository;
+
+    @Autowired
+    public ReactiveAssetService(ReactiveAssetRepository repository) {
+        Objects.requireNonNull(repository, "repository must not be null");
+        this.repository = repository;
+    }
+
+    public Mono<Asset> read(UUID id) {
+        Objects.requireNonNull(id, "id must not be null");
+        return repository.findById(id);
+    }
+
+    /**
+     * Reads a page of Assets and counts every Asset at the same time
+     *
+     * @param pageRequest The page to read. May be sorted by at most one {@link Asset.SortField}, and is sorted by ID if
+     *                    it isn't sorted
+     */
+    public Mono<Page<Asset>> readPage(Pageable pageRequest) {
+        Objects.requireNonNull(pageRequest, "pageRequest must not be null");
+        Sort.Order order = pageRequest.getSort().stream()
+                .findFirst()
+                .orElse(Sort.Order.asc(Asset.SortField.ID.getFieldName()));
+        String column = SORT_COLUMNS.get(order.getProperty());
+        if (column == null) {
+            throw new IllegalArgumentException("Assets can't be sorted by " + order.getProperty());
+        }
+
+        return Mono.zip(
+                repository.findPage(column, order.getDirection(), pageRequest.getOffset(), pageRequest.getPageSize())
+                        .collectList(),
+                repository.count()
+        ).map(pageAndCount -> new PageImpl<>(pageAndCount.getT1(), pageRequest, pageAndCount.getT2()));
+    }
+
+    /**
+     * Streams every Asset, ordered by ID
+     */
+    public Flux<Asset> streamAll() {
+        return repository.findAll();
+    }
+}
@@ -0,0 +1,308 @@
+package com.mromanak.multitenant.test.service;
+
+import com.mromanak.multitenant.test.config.ResponseCacheProperties;
+import com.mromanak.multitenant.test.config.jpa.CurrentTenantResolver;
+import com.mromanak.multitenant.test.event.EntityWriteEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches serialized JSON responses, keyed by tenant and request, so that repeated reads skip the database and Jackson.
+ * <p/>
+ * Response bodies are stored in direct buffers, outside the Java heap, so a large cache doesn't add to the work of the
+ * garbage collector. A direct buffer's memory is released once the buffer has been garbage collected, so
+ * {@code -XX:MaxDirectMemorySize} must leave some headroom above the configured size.
+ * <p/>
+ * Each tenant's responses are kept in a separate partition, with its own lock, so tenants don't contend with each
+ * other. The total size of all partitions is bounded. When a response doesn't fit, the least recently used responses
+ * of the tenant that cached it are evicted first, so one busy tenant can't evict every other tenant's responses. Other
+ * tenants' responses are only evicted once that tenant has none left.
+ * <p/>
+ * Every committed {@link EntityWriteEvent} (local or remote) drops all of the cached responses of its tenant, by
+ * dropping its partition. Each tenant has a generation number that is bumped on every write, so a response that was
+ * read before a write committed can't be cached after the write has dropped the tenant's responses.
+ */
+@Service
+public class ResponseCache {
+
+    public static final String GETS_COUNTER = "multitenant.response.cache.gets";
+    public static final String SIZE_GAUGE = "multitenant.response.cache.size";
+
+    private final ResponseCacheProperties properties;
+    private final CurrentTenantResolver currentTenantResolver;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Map<String, Counter[]> counters = new ConcurrentHashMap<>();
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    @Autowired
+    public ResponseCache(
+            ResponseCacheProperties properties,
+            CurrentTenantResolver currentTenantResolver,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.currentTenantResolver = currentTenantResolver;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge(SIZE_GAUGE, this, ResponseCache::getTotalBytes);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public boolean isGzipped() {
+        return properties.isGzip();
+    }
+
+    /**
+     * @return The current tenant's generation number, to be passed to {@link #put} once the response has been read
+     */
+    public long currentGeneration() {
+        return generation(currentTenantResolver.resolveCurrentTenantIdentifier()).get();
+    }
+
+    /**
+     * Looks up a cached response of the current tenant
+     *
+     * @param request Identifies the request, e.g. by the ID or page parameters it asked for
+     * @param acceptsGzip Whether the client accepts gzipped responses. If it doesn't, gzipped responses are decompressed
+     */
+    public Optional<CachedResponse> get(String request, boolean acceptsGzip) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+
+        String tenantId = currentTenantResolver.resolveCurrentTenantIdentifier();
+        Partition partition = partitions.get(tenantId);
+        Entry entry = partition != null ? partition.get(request) : null;
+        if (entry == null) {
+            counter(tenantId, false).increment();
+            return Optional.empty();
+        }
+        counter(tenantId, true).increment();
+
+        // The buffer is never written after it was cached, so it can be copied outside of the lock
+        ByteBuffer buffer = entry.body().duplicate();
+        byte[] body = new byte[buffer.remaining()];
+        buffer.get(body);
+        if (entry.gzipped() && !acceptsGzip) {
+            return Optional.of(new CachedResponse(gunzip(body), false, entry.entityTag()));
+        }
+        return Optional.of(new CachedResponse(body, entry.gzipped(), entry.entityTag()));
+    }
+
+    /**
+     * Caches a response of the current tenant, unless the tenant's entities have been written since the response was
+     * read
+     *
+     * @param request Identifies the request, e.g. by the ID or page parameters it asked for
+     * @param generation The tenant's generation number from before the response was read
+     * @param json The serialized response
+     * @param entityTag The response's entity tag, or null
+     */
+    public void put(String request, long generation, byte[] json, String entityTag) {
+        Objects.requireNonNull(request, "request must not be null");
+        Objects.requireNonNull(json, "json must not be null");
+        if (!isEnabled()) {
+            return;
+        }
+
+        byte[] body = properties.isGzip() ? gzip(json) : json;
+        long maxBytes = properties.getMaxSize().toBytes();
+        if (body.length > maxBytes) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(body.length).put(body).flip().asReadOnlyBuffer();
+
+        String tenantId = currentTenantResolver.resolveCurrentTenantIdentifier();
+        AtomicLong tenantGeneration = generation(tenantId);
+        Partition partition = partitions.computeIfAbsent(tenantId, key -> new Partition());
+        synchronized (partition) {
+            // Checked under the partition's lock, so a partition that has been dropped is never written to
+            if (tenantGeneration.get() != generation || partition.isDropped()) {
+                return;
+            }
+            totalBytes.addAndGet(partition.put(request, new Entry(buffer, properties.isGzip(), entityTag)));
+        }
+
+        while (totalBytes.get() > maxBytes) {
+            if (!evictLeastRecentlyUsed(partition)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Evicts the least recently used response of a partition, or if it's empty, of any other partition
+     *
+     * @return Whether a response was evicted
+     */
+    private boolean evictLeastRecentlyUsed(Partition preferred) {
+        if (evictLeastRecentlyUsedFrom(preferred)) {
+            return true;
+        }
+        for (Partition partition : partitions.values()) {
+            if (partition != preferred && evictLeastRecentlyUsedFrom(partition)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean evictLeastRecentlyUsedFrom(Partition partition) {
+        long evictedBytes = partition.evictLeastRecentlyUsed();
+        totalBytes.addAndGet(-evictedBytes);
+        return evictedBytes > 0;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityWrite(EntityWriteEvent event) {
+        evictTenant(event.tenantId());
+    }
+
+    /**
+     * Drops every cached response of a tenant, without touching any other tenant's partition
+     */
+    public void evictTenant(String tenantId) {
+        generation(tenantId).incrementAndGet();
+        Partition partition = partitions.remove(tenantId);
+        if (partition != null) {
+            totalBytes.addAndGet(-partition.drop());
+        }
+    }
+
+    /**
+     * Drops every cached response of every tenant
+     */
+    public void evictAll() {
+        generations.keySet().forEach(this::evictTenant);
+    }
+
+    public long getTotalBytes() {
+        return totalBytes.get();
+    }
+
+    private AtomicLong generation(String tenantId) {
+        return generations.computeIfAbsent(tenantId, key -> new AtomicLong());
+    }
+
+    private Counter counter(String tenantId, boolean hit) {
+        Counter[] tenantCounters = counters.computeIfAbsent(tenantId, key -> new Counter[]{
+                meterRegistry.counter(GETS_COUNTER, "tenant", key, "result", "miss"),
+                meterRegistry.counter(GETS_COUNTER, "tenant", key, "result", "hit")
+        });
+        return tenantCounters[hit ? 1 : 0];
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) {
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gzipInputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A cached response
+     *
+     * @param body The serialized response
+     * @param gzipped Whether the body is gzipped
+     * @param entityTag The response's entity tag, or null
+     */
+    public record CachedResponse(byte[] body, boolean gzipped, String entityTag) {
+    }
+
+    /**
+     * The cached responses of one tenant, keyed by request. Guarded by its own lock.
+     */
+    private static class Partition {
+
+        // Iterates from least to most recently used
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long bytes;
+        private boolean dropped;
+
+        synchronized Entry get(String request) {
+            return entries.get(request);
+        }
+
+        synchronized boolean isDropped() {
+            return dropped;
+        }
+
+        /**
+         * @return The number of bytes the partition grew by
+         */
+        synchronized long put(String request, Entry entry) {
+            Entry previous = entries.put(request, entry);
+            long added = entry.size() - (previous != null ? previous.size() : 0);
+            bytes += added;
+            return added;
+        }
+
+        /**
+         * @return The number of bytes evicted, or 0 if the partition is empty
+         */
+        synchronized long evictLeastRecentlyUsed() {
+            Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+            if (!leastRecentlyUsed.hasNext()) {
+                return 0;
+            }
+            long evicted = leastRecentlyUsed.next().size();
+            leastRecentlyUsed.remove();
+            bytes -= evicted;
+            return evicted;
+        }
+
+        /**
+         * Evicts every response, and stops the partition from accepting new ones
+         *
+         * @return The number of bytes evicted
+         */
+        synchronized long drop() {
+            long evicted = bytes;
+            entries.clear();
+            bytes = 0;
+            dropped = true;
+            return evicted;
+        }
+    }
+
+    private record Entry(ByteBuffer body, boolean gzipped, String entityTag) {
+
+        long size() {
+            return body.capacity();
+        }
+    }
+}
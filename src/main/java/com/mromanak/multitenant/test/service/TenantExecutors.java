@@ -0,0 +1,133 @@
+package com.mromanak.multitenant.test.service;
+
+import com.mromanak.multitenant.test.config.AsyncProperties;
+import com.mromanak.multitenant.test.config.jpa.CurrentTenantResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quantics.multitenant.TenantContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs work on a bounded executor of the current tenant, so that one tenant's slow requests can only tie up that
+ * tenant's threads, rather than the servlet container's.
+ * <p/>
+ * Each tenant's executor is created the first time it's used, with a fixed number of threads and a bounded queue. Work
+ * submitted while both are full is rejected instead of waiting. The tenant and security context of the submitting
+ * thread are carried over to the thread that runs the work, and removed from it afterwards.
+ * <p/>
+ * The request attributes are deliberately not carried over: work may still be running after the caller gave up on it
+ * and the container recycled the request. Anything the work needs from the request has to be copied out of it before
+ * the work is submitted.
+ */
+@Service
+public class TenantExecutors {
+
+    public static final String REJECTIONS_COUNTER = "multitenant.async.rejections";
+
+    private final AsyncProperties properties;
+    private final CurrentTenantResolver currentTenantResolver;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ThreadPoolExecutor> executors = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TenantExecutors(
+            AsyncProperties properties,
+            CurrentTenantResolver currentTenantResolver,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.currentTenantResolver = currentTenantResolver;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public Duration getTimeout() {
+        return properties.getTimeout();
+    }
+
+    /**
+     * Runs a task on the current tenant's executor. If the returned future has already completed (e.g. because the
+     * caller gave up waiting for it) by the time a thread picks the task up, the task is skipped.
+     *
+     * @return A future that completes with the task's result, or exceptionally with a
+     * {@link RejectedExecutionException} if the tenant's executor is full
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        String tenant = currentTenantResolver.resolveCurrentTenantIdentifier();
+        String tenantId = TenantContext.getTenantId();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor(tenant).execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                TenantContext.setTenantId(tenantId);
+                SecurityContextHolder.setContext(securityContext);
+                try {
+                    future.complete(task.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    SecurityContextHolder.clearContext();
+                    TenantContext.clear();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter(REJECTIONS_COUNTER, "tenant", tenant).increment();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    private ThreadPoolExecutor executor(String tenant) {
+        return executors.computeIfAbsent(tenant, this::createExecutor);
+    }
+
+    private ThreadPoolExecutor createExecutor(String tenant) {
+        int threads = properties.getThreadsPerTenant();
+        BlockingQueue<Runnable> queue = properties.getQueueCapacity() > 0
+                ? new ArrayBlockingQueue<>(properties.getQueueCapacity())
+                : new SynchronousQueue<>();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES, queue,
+                threadFactory(tenant), new ThreadPoolExecutor.AbortPolicy());
+        // Idle tenants shouldn't hold on to threads
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ThreadFactory threadFactory(String tenant) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "async-" + tenant + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
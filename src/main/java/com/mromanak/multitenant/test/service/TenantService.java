@@ -1,5 +1,8 @@
 package com.mromanak.multitenant.test.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mromanak.multitenant.test.config.TenantCacheProperties;
 import com.mromanak.multitenant.test.model.entity.Tenant;
 import com.mromanak.multitenant.test.repository.TenantRepository;
 import io.quantics.multitenant.tenantdetails.TenantSchemaDetailsService;
@@ -7,19 +10,32 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A service that performs basic CRUD operations for {@link Tenant Tenants}. Used by
  * {@code multitenant-oauth2-spring-boot-starter} to access information about the tenants that the application supports
+ * <p/>
+ * Every authenticated request looks up its tenant by issuer, so those lookups are cached. Tenants that don't exist
+ * aren't cached, so a tenant that is added later is picked up by the next request that needs it. The cache must be
+ * dropped with {@link #evictCache()} whenever {@code public.tenant} changes. It is bounded in size, and its entries
+ * expire as configured by {@link TenantCacheProperties}, so that a change is picked up eventually even when no
+ * eviction message arrives (e.g. when cache invalidation is disabled).
  */
 @Service
 public class TenantService implements TenantSchemaDetailsService {
 
     private final TenantRepository repository;
+    private final Cache<String, Tenant> tenantsByIssuer;
+    private final AtomicLong generation = new AtomicLong();
 
     @Autowired
-    public TenantService(TenantRepository repository) {
+    public TenantService(TenantRepository repository, TenantCacheProperties cacheProperties) {
         this.repository = repository;
+        this.tenantsByIssuer = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaxSize())
+                .expireAfterWrite(cacheProperties.getExpireAfterWrite())
+                .build();
     }
 
     public Iterable<Tenant> getAll() {
@@ -32,7 +48,22 @@ public class TenantService implements TenantSchemaDetailsService {
 
     @Override
     public Optional<Tenant> getByIssuer(String issuer) {
-        return repository.findByIssuer(issuer);
+        Tenant tenant = tenantsByIssuer.getIfPresent(issuer);
+        if (tenant != null) {
+            return Optional.of(tenant);
+        }
+
+        // Don't cache a tenant that was read before the cache was evicted, since it may already be stale
+        long startingGeneration = generation.get();
+        Optional<Tenant> maybeTenant = repository.findByIssuer(issuer);
+        maybeTenant.ifPresent(found -> tenantsByIssuer.asMap().compute(issuer, (key, existing) ->
+                generation.get() == startingGeneration ? found : existing));
+        return maybeTenant;
+    }
+
+    public void evictCache() {
+        generation.incrementAndGet();
+        tenantsByIssuer.invalidateAll();
     }
 
 }
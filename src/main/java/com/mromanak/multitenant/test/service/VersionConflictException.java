@@ -0,0 +1,11 @@
+package com.mromanak.multitenant.test.service;
+
+/**
+ * Thrown when a conditional update is rejected because the entity's current version isn't the expected one
+ */
+public class VersionConflictException extends RuntimeException {
+
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
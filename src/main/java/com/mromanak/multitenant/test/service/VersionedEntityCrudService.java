@@ -0,0 +1,25 @@
+package com.mromanak.multitenant.test.service;
+
+import com.mromanak.multitenant.test.model.DtoFor;
+import com.mromanak.multitenant.test.model.Identifiable;
+import com.mromanak.multitenant.test.model.Versioned;
+
+import java.util.Optional;
+
+/**
+ * An {@link EntityCrudService} for {@link Versioned} entities, which can also update an entity only if it is still at
+ * the version a client last saw
+ *
+ * @param <I> The identifier type for the entity class
+ * @param <D> The DTO type for the entity class
+ * @param <E> The entity class
+ */
+public interface VersionedEntityCrudService<I, D extends DtoFor<I, E>, E extends Identifiable<I> & Versioned>
+        extends EntityCrudService<I, D, E> {
+
+    /**
+     * @return The updated entity, with its new version, or an empty optional if no entity exists with the given ID
+     * @throws VersionConflictException If the entity exists, but isn't at the expected version
+     */
+    Optional<E> update(I id, D dto, long expectedVersion);
+}
@@ -18,6 +18,10 @@ public abstract class ValidationUtils {
     public static final String ISO_8601_DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
     public static final String ISO_8601_DATE_EXAMPLE_OBJECT = "1970-01-01T00:00:00.000Z";
 
+    // An If-Match header value that names a single strong entity tag produced from an entity version, or any version
+    public static final String IF_MATCH_PATTERN = "^(\\*|\"[0-9]{1,18}\")$";
+    public static final String IF_MATCH_EXAMPLE_OBJECT = "\"0\"";
+
     // Derived from org.hibernate.validator.constraintvalidators.RegexpURLValidator.URL_REGEX with a hardcoded protocol
     public static final String HTTPS_URL_PATTERN =
             "^https:(?:\\\\/\\\\/(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\\\._~\\\\x{A0}-\\\\x{D7FF}\\\\x{F900}-\\\\x{FDCF}\\\\x{FDF0}-\\\\x{FFEF}\\\\x{10000}-\\\\x{1FFFD}\\\\x{20000}-\\\\x{2FFFD}\\\\x{30000}-\\\\x{3FFFD}\\\\x{40000}-\\\\x{4FFFD}\\\\x{50000}-\\\\x{5FFFD}\\\\x{60000}-\\\\x{6FFFD}\\\\x{70000}-\\\\x{7FFFD}\\\\x{80000}-\\\\x{8FFFD}\\\\x{90000}-\\\\x{9FFFD}\\\\x{A0000}-\\\\x{AFFFD}\\\\x{B0000}-\\\\x{BFFFD}\\\\x{C0000}-\\\\x{CFFFD}\\\\x{D0000}-\\\\x{DFFFD}\\\\x{E1000}-\\\\x{EFFFD}!\\\\$&'\\\\(\\\\)\\\\*\\\\+,;=:])*@)?((?:\\\\[(?:(?:(?:[0-9a-f]{1,4}:){6}(?:[0-9a-f]{1,4}:[0-9a-f]{1,4}|(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])(?:\\\\.(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])){3})|::(?:[0-9a-f]{1,4}:){5}(?:[0-9a-f]{1,4}:[0-9a-f]{1,4}|(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])(?:\\\\.(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])){3})|(?:[0-9a-f]{1,4})?::(?:[0-9a-f]{1,4}:){4}(?:[0-9a-f]{1,4}:[0-9a-f]{1,4}|(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])(?:\\\\.(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])){3})|(?:[0-9a-f]{1,4}:[0-9a-f]{1,4})?::(?:[0-9a-f]{1,4}:){3}(?:[0-9a-f]{1,4}:[0-9a-f]{1,4}|(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])(?:\\\\.(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])){3})|(?:(?:[0-9a-f]{1,4}:){0,2}[0-9a-f]{1,4})?::(?:[0-9a-f]{1,4}:){2}(?:[0-9a-f]{1,4}:[0-9a-f]{1,4}|(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])(?:\\\\.(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])){3})|(?:(?:[0-9a-f]{1,4}:){0,3}[0-9a-f]{1,4})?::[0-9a-f]{1,4}:(?:[0-9a-f]{1,4}:[0-9a-f]{1,4}|(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])(?:\\\\.(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])){3})|(?:(?:[0-9a-f]{1,4}:){0,4}[0-9a-f]{1,4})?::(?:[0-9a-f]{1,4}:[0-9a-f]{1,4}|(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])(?:\\\\.(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])){3})|(?:(?:[0-9a-f]{1,4}:){0,5}[0-9a-f]{1,4})?::[0-9a-f]{1,4}|(?:(?:[0-9a-f]{1,4}:){0,6}[0-9a-f]{1,4})?::)|v[0-9a-f]+[-a-z0-9\\\\._~!\\\\$&'\\\\(\\\\)\\\\*\\\\+,;=:]+)\\\\]|(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])(?:\\\\.(?:[0-9]|[1-9][0-9]|1[0-9][0-9]|2[0-4][0-9]|25[0-5])){3}|(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\\\._~\\\\x{A0}-\\\\x{D7FF}\\\\x{F900}-\\\\x{FDCF}\\\\x{FDF0}-\\\\x{FFEF}\\\\x{10000}-\\\\x{1FFFD}\\\\x{20000}-\\\\x{2FFFD}\\\\x{30000}-\\\\x{3FFFD}\\\\x{40000}-\\\\x{4FFFD}\\\\x{50000}-\\\\x{5FFFD}\\\\x{60000}-\\\\x{6FFFD}\\\\x{70000}-\\\\x{7FFFD}\\\\x{80000}-\\\\x{8FFFD}\\\\x{90000}-\\\\x{9FFFD}\\\\x{A0000}-\\\\x{AFFFD}\\\\x{B0000}-\\\\x{BFFFD}\\\\x{C0000}-\\\\x{CFFFD}\\\\x{D0000}-\\\\x{DFFFD}\\\\x{E1000}-\\\\x{EFFFD}!\\\\$&'\\\\(\\\\)\\\\*\\\\+,;=@])*))(?::([0-9]*))?(?:\\\\/(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\\\._~\\\\x{A0}-\\\\x{D7FF}\\\\x{F900}-\\\\x{FDCF}\\\\x{FDF0}-\\\\x{FFEF}\\\\x{10000}-\\\\x{1FFFD}\\\\x{20000}-\\\\x{2FFFD}\\\\x{30000}-\\\\x{3FFFD}\\\\x{40000}-\\\\x{4FFFD}\\\\x{50000}-\\\\x{5FFFD}\\\\x{60000}-\\\\x{6FFFD}\\\\x{70000}-\\\\x{7FFFD}\\\\x{80000}-\\\\x{8FFFD}\\\\x{90000}-\\\\x{9FFFD}\\\\x{A0000}-\\\\x{AFFFD}\\\\x{B0000}-\\\\x{BFFFD}\\\\x{C0000}-\\\\x{CFFFD}\\\\x{D0000}-\\\\x{DFFFD}\\\\x{E1000}-\\\\x{EFFFD}!\\\\$&'\\\\(\\\\)\\\\*\\\\+,;=:@]))*)*|\\\\/(?:(?:(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\\\._~\\\\x{A0}-\\\\x{D7FF}\\\\x{F900}-\\\\x{FDCF}\\\\x{FDF0}-\\\\x{FFEF}\\\\x{10000}-\\\\x{1FFFD}\\\\x{20000}-\\\\x{2FFFD}\\\\x{30000}-\\\\x{3FFFD}\\\\x{40000}-\\\\x{4FFFD}\\\\x{50000}-\\\\x{5FFFD}\\\\x{60000}-\\\\x{6FFFD}\\\\x{70000}-\\\\x{7FFFD}\\\\x{80000}-\\\\x{8FFFD}\\\\x{90000}-\\\\x{9FFFD}\\\\x{A0000}-\\\\x{AFFFD}\\\\x{B0000}-\\\\x{BFFFD}\\\\x{C0000}-\\\\x{CFFFD}\\\\x{D0000}-\\\\x{DFFFD}\\\\x{E1000}-\\\\x{EFFFD}!\\\\$&'\\\\(\\\\)\\\\*\\\\+,;=:@]))+)(?:\\\\/(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\\\._~\\\\x{A0}-\\\\x{D7FF}\\\\x{F900}-\\\\x{FDCF}\\\\x{FDF0}-\\\\x{FFEF}\\\\x{10000}-\\\\x{1FFFD}\\\\x{20000}-\\\\x{2FFFD}\\\\x{30000}-\\\\x{3FFFD}\\\\x{40000}-\\\\x{4FFFD}\\\\x{50000}-\\\\x{5FFFD}\\\\x{60000}-\\\\x{6FFFD}\\\\x{70000}-\\\\x{7FFFD}\\\\x{80000}-\\\\x{8FFFD}\\\\x{90000}-\\\\x{9FFFD}\\\\x{A0000}-\\\\x{AFFFD}\\\\x{B0000}-\\\\x{BFFFD}\\\\x{C0000}-\\\\x{CFFFD}\\\\x{D0000}-\\\\x{DFFFD}\\\\x{E1000}-\\\\x{EFFFD}!\\\\$&'\\\\(\\\\)\\\\*\\\\+,;=:@]))*)*)?|(?:(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\\\._~\\\\x{A0}-\\\\x{D7FF}\\\\x{F900}-\\\\x{FDCF}\\\\x{FDF0}-\\\\x{FFEF}\\\\x{10000}-\\\\x{1FFFD}\\\\x{20000}-\\\\x{2FFFD}\\\\x{30000}-\\\\x{3FFFD}\\\\x{40000}-\\\\x{4FFFD}\\\\x{50000}-\\\\x{5FFFD}\\\\x{60000}-\\\\x{6FFFD}\\\\x{70000}-\\\\x{7FFFD}\\\\x{80000}-\\\\x{8FFFD}\\\\x{90000}-\\\\x{9FFFD}\\\\x{A0000}-\\\\x{AFFFD}\\\\x{B0000}-\\\\x{BFFFD}\\\\x{C0000}-\\\\x{CFFFD}\\\\x{D0000}-\\\\x{DFFFD}\\\\x{E1000}-\\\\x{EFFFD}!\\\\$&'\\\\(\\\\)\\\\*\\\\+,;=:@]))+)(?:\\\\/(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\\\._~\\\\x{A0}-\\\\x{D7FF}\\\\x{F900}-\\\\x{FDCF}\\\\x{FDF0}-\\\\x{FFEF}\\\\x{10000}-\\\\x{1FFFD}\\\\x{20000}-\\\\x{2FFFD}\\\\x{30000}-\\\\x{3FFFD}\\\\x{40000}-\\\\x{4FFFD}\\\\x{50000}-\\\\x{5FFFD}\\\\x{60000}-\\\\x{6FFFD}\\\\x{70000}-\\\\x{7FFFD}\\\\x{80000}-\\\\x{8FFFD}\\\\x{90000}-\\\\x{9FFFD}\\\\x{A0000}-\\\\x{AFFFD}\\\\x{B0000}-\\\\x{BFFFD}\\\\x{C0000}-\\\\x{CFFFD}\\\\x{D0000}-\\\\x{DFFFD}\\\\x{E1000}-\\\\x{EFFFD}!\\\\$&'\\\\(\\\\)\\\\*\\\\+,;=:@]))*)*|(?!(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\\\._~\\\\x{A0}-\\\\x{D7FF}\\\\x{F900}-\\\\x{FDCF}\\\\x{FDF0}-\\\\x{FFEF}\\\\x{10000}-\\\\x{1FFFD}\\\\x{20000}-\\\\x{2FFFD}\\\\x{30000}-\\\\x{3FFFD}\\\\x{40000}-\\\\x{4FFFD}\\\\x{50000}-\\\\x{5FFFD}\\\\x{60000}-\\\\x{6FFFD}\\\\x{70000}-\\\\x{7FFFD}\\\\x{80000}-\\\\x{8FFFD}\\\\x{90000}-\\\\x{9FFFD}\\\\x{A0000}-\\\\x{AFFFD}\\\\x{B0000}-\\\\x{BFFFD}\\\\x{C0000}-\\\\x{CFFFD}\\\\x{D0000}-\\\\x{DFFFD}\\\\x{E1000}-\\\\x{EFFFD}!\\\\$&'\\\\(\\\\)\\\\*\\\\+,;=:@])))(?:\\\\?(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\\\._~\\\\x{A0}-\\\\x{D7FF}\\\\x{F900}-\\\\x{FDCF}\\\\x{FDF0}-\\\\x{FFEF}\\\\x{10000}-\\\\x{1FFFD}\\\\x{20000}-\\\\x{2FFFD}\\\\x{30000}-\\\\x{3FFFD}\\\\x{40000}-\\\\x{4FFFD}\\\\x{50000}-\\\\x{5FFFD}\\\\x{60000}-\\\\x{6FFFD}\\\\x{70000}-\\\\x{7FFFD}\\\\x{80000}-\\\\x{8FFFD}\\\\x{90000}-\\\\x{9FFFD}\\\\x{A0000}-\\\\x{AFFFD}\\\\x{B0000}-\\\\x{BFFFD}\\\\x{C0000}-\\\\x{CFFFD}\\\\x{D0000}-\\\\x{DFFFD}\\\\x{E1000}-\\\\x{EFFFD}!\\\\$&'\\\\(\\\\)\\\\*\\\\+,;=:@])|[\\\\x{E000}-\\\\x{F8FF}\\\\x{F0000}-\\\\x{FFFFD}|\\\\x{100000}-\\\\x{10FFFD}\\\\/\\\\?])*)?(?:\\\\#(?:(?:%[0-9a-f][0-9a-f]|[-a-z0-9\\\\._~\\\\x{A0}-\\\\x{D7FF}\\\\x{F900}-\\\\x{FDCF}\\\\x{FDF0}-\\\\x{FFEF}\\\\x{10000}-\\\\x{1FFFD}\\\\x{20000}-\\\\x{2FFFD}\\\\x{30000}-\\\\x{3FFFD}\\\\x{40000}-\\\\x{4FFFD}\\\\x{50000}-\\\\x{5FFFD}\\\\x{60000}-\\\\x{6FFFD}\\\\x{70000}-\\\\x{7FFFD}\\\\x{80000}-\\\\x{8FFFD}\\\\x{90000}-\\\\x{9FFFD}\\\\x{A0000}-\\\\x{AFFFD}\\\\x{B0000}-\\\\x{BFFFD}\\\\x{C0000}-\\\\x{CFFFD}\\\\x{D0000}-\\\\x{DFFFD}\\\\x{E1000}-\\\\x{EFFFD}!\\\\$&'\\\\(\\\\)\\\\*\\\\+,;=:@])|[\\\\/\\\\?])*)?$";
@@ -0,0 +1,27 @@
+package com.mromanak.multitenant.test.validation.annotation;
+
+import com.mromanak.multitenant.test.validation.validator.AssetCursorValidator;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.*;
+
+/**
+ * Validation annotation to ensure that a string is a {@link com.mromanak.multitenant.test.model.KeysetCursor} that was
+ * issued for a sequence of {@link com.mromanak.multitenant.test.model.entity.Asset Assets}
+ */
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Constraint(
+        validatedBy = {AssetCursorValidator.class}
+)
+public @interface ValidAssetCursor {
+
+    String message() default "must be a cursor returned by a previous request for a page of Assets";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+}
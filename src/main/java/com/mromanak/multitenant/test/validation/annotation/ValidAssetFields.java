@@ -0,0 +1,27 @@
+package com.mromanak.multitenant.test.validation.annotation;
+
+import com.mromanak.multitenant.test.validation.validator.AssetFieldsValidator;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.*;
+
+/**
+ * Validation annotation to ensure that a string is a comma-separated list of the enumerated values of
+ * {@link com.mromanak.multitenant.test.model.entity.Asset.Field Asset.Field}
+ */
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Constraint(
+        validatedBy = {AssetFieldsValidator.class}
+)
+public @interface ValidAssetFields {
+
+    String message() default "must be a comma-separated list of the enumerated fields of an Asset";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+}
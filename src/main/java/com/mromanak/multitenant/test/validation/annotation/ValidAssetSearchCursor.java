@@ -0,0 +1,27 @@
+package com.mromanak.multitenant.test.validation.annotation;
+
+import com.mromanak.multitenant.test.validation.validator.AssetSearchCursorValidator;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.*;
+
+/**
+ * Validation annotation to ensure that a string is a {@link com.mromanak.multitenant.test.model.KeysetCursor} that was
+ * issued for an {@link com.mromanak.multitenant.test.model.entity.Asset Asset} search
+ */
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Constraint(
+        validatedBy = {AssetSearchCursorValidator.class}
+)
+public @interface ValidAssetSearchCursor {
+
+    String message() default "must be a cursor issued by a previous Asset search";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+}
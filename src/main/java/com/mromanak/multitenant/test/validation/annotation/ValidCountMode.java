@@ -0,0 +1,27 @@
+package com.mromanak.multitenant.test.validation.annotation;
+
+import com.mromanak.multitenant.test.validation.validator.CountModeValidator;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.*;
+
+/**
+ * Validation annotation to ensure that a string maps to one of the enumerated values of
+ * {@link com.mromanak.multitenant.test.model.CountMode CountMode}
+ */
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Constraint(
+        validatedBy = {CountModeValidator.class}
+)
+public @interface ValidCountMode {
+
+    String message() default "must be one of the enumerated count modes";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+}
@@ -0,0 +1,28 @@
+package com.mromanak.multitenant.test.validation.annotation;
+
+import com.mromanak.multitenant.test.validation.validator.HttpsUrlValidator;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.*;
+
+/**
+ * Validation annotation to ensure that a string is a URL with the https protocol. Accepts exactly the strings that
+ * {@link org.hibernate.validator.constraints.URL @URL(protocol = "https")} accepts and that are also valid
+ * {@link java.net.URI URIs}, which is how server URLs are stored
+ */
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Constraint(
+        validatedBy = {HttpsUrlValidator.class}
+)
+public @interface ValidHttpsUrl {
+
+    String message() default "must be a valid URL";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+}
@@ -0,0 +1,30 @@
+package com.mromanak.multitenant.test.validation.annotation;
+
+import com.mromanak.multitenant.test.validation.ValidationUtils;
+import com.mromanak.multitenant.test.validation.validator.Iso8601DateTimeValidator;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.*;
+
+/**
+ * Validation annotation to ensure that a string is an ISO-8601 date-time in the format described by
+ * {@link ValidationUtils#ISO_8601_DATE_PATTERN}
+ * <p/>
+ * Checked by hand rather than with a regular expression, but accepts exactly the same strings
+ */
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Constraint(
+        validatedBy = {Iso8601DateTimeValidator.class}
+)
+public @interface ValidIso8601DateTime {
+
+    String message() default "must be a valid ISO-8601 date-time";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+}
@@ -0,0 +1,36 @@
+package com.mromanak.multitenant.test.validation.annotation;
+
+import com.mromanak.multitenant.test.validation.ValidationUtils;
+import com.mromanak.multitenant.test.validation.validator.NameValidator;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.*;
+
+/**
+ * Validation annotation to ensure that a string matches {@link ValidationUtils#NAME_PATTERN}: a letter followed by any
+ * number of ASCII word characters, whitespace, hyphens, and periods
+ * <p/>
+ * Checked by hand rather than with a regular expression, but accepts exactly the same strings
+ */
+@Target({ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Constraint(
+        validatedBy = {NameValidator.class}
+)
+public @interface ValidName {
+
+    String message() default "must match \"{regexp}\"";
+
+    /**
+     * The regular expression this constraint is equivalent to. Only used to build the default message, which is the
+     * same one {@link javax.validation.constraints.Pattern @Pattern} would produce
+     */
+    String regexp() default ValidationUtils.NAME_PATTERN;
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+}
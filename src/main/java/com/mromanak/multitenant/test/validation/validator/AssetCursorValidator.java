@@ -0,0 +1,46 @@
+package com.mromanak.multitenant.test.validation.validator;
+
+import com.mromanak.multitenant.test.model.KeysetCursor;
+import com.mromanak.multitenant.test.model.entity.Asset;
+import com.mromanak.multitenant.test.validation.annotation.ValidAssetCursor;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import java.util.UUID;
+
+/**
+ * A {@link ConstraintValidator} that checks whether a string can be decoded to a {@link KeysetCursor} whose sort field
+ * is one of the enumerated values of {@link Asset.SortField Asset.SortField} and whose position holds values of the
+ * right type for that sort field
+ */
+public class AssetCursorValidator implements ConstraintValidator<ValidAssetCursor, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext constraintValidatorContext) {
+        if (value == null) {
+            return true;
+        }
+
+        try {
+            KeysetCursor cursor = KeysetCursor.decode(value);
+            Asset.SortField sortField = Asset.SortField.fromString(cursor.sortField());
+            if (sortField == null) {
+                return false;
+            }
+            if (cursor.isAtStart()) {
+                return true;
+            }
+
+            UUID.fromString(cursor.lastId());
+            switch (sortField) {
+                case ID -> UUID.fromString(cursor.lastValue());
+                case CREATED_TIMESTAMP -> Long.parseLong(cursor.lastValue());
+                default -> {
+                }
+            }
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
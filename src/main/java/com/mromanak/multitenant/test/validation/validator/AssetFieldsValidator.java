@@ -0,0 +1,28 @@
+package com.mromanak.multitenant.test.validation.validator;
+
+import com.mromanak.multitenant.test.model.entity.Asset;
+import com.mromanak.multitenant.test.validation.annotation.ValidAssetFields;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * A {@link ConstraintValidator} that checks whether a string is a comma-separated list of the enumerated values of
+ * {@link Asset.Field Asset.Field}. Blank elements (e.g. from a trailing comma) are not allowed.
+ */
+public class AssetFieldsValidator implements ConstraintValidator<ValidAssetFields, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext constraintValidatorContext) {
+        if (value == null) {
+            return true;
+        }
+
+        for (String fieldName : value.split(",", -1)) {
+            if (Asset.Field.fromString(fieldName.trim()) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package com.mromanak.multitenant.test.validation.validator;
+
+import com.mromanak.multitenant.test.model.KeysetCursor;
+import com.mromanak.multitenant.test.service.AssetSearchService;
+import com.mromanak.multitenant.test.validation.annotation.ValidAssetSearchCursor;
+import org.springframework.data.domain.Sort;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import java.util.UUID;
+
+/**
+ * A {@link ConstraintValidator} that checks whether a string can be decoded to a {@link KeysetCursor} that is sorted
+ * by descending search score, and whose position holds a score and a UUID
+ */
+public class AssetSearchCursorValidator implements ConstraintValidator<ValidAssetSearchCursor, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext constraintValidatorContext) {
+        if (value == null) {
+            return true;
+        }
+
+        try {
+            KeysetCursor cursor = KeysetCursor.decode(value);
+            if (!AssetSearchService.SCORE_SORT_FIELD.equals(cursor.sortField())
+                    || cursor.direction() != Sort.Direction.DESC) {
+                return false;
+            }
+            if (cursor.isAtStart()) {
+                return true;
+            }
+
+            UUID.fromString(cursor.lastId());
+            float score = Float.parseFloat(cursor.lastValue());
+            return score >= 0 && score <= 1;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.mromanak.multitenant.test.validation.validator;
+
+import com.mromanak.multitenant.test.model.CountMode;
+import com.mromanak.multitenant.test.validation.annotation.ValidCountMode;
+
+import java.util.Optional;
+
+/**
+ * A {@link javax.validation.ConstraintValidator} that checks whether a string maps to one of the enumerated values of
+ * {@link CountMode}
+ */
+public class CountModeValidator extends AbstractEnumValidator<ValidCountMode, CountMode> {
+
+    @Override
+    protected Optional<CountMode> parseEnum(String value) {
+        return Optional.ofNullable(CountMode.fromString(value));
+    }
+}
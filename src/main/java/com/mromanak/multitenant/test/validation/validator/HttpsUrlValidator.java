@@ -0,0 +1,102 @@
+package com.mromanak.multitenant.test.validation.validator;
+
+import com.mromanak.multitenant.test.validation.annotation.ValidHttpsUrl;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+
+/**
+ * A {@link ConstraintValidator} that checks whether a string is a URL with the https protocol, accepting exactly what
+ * {@link org.hibernate.validator.constraints.URL @URL(protocol = "https")} does, as long as it's also a valid
+ * {@link URI}
+ * <p/>
+ * Those checks build a {@link URL} and a {@link URI} from every value, which costs a few allocations and, for an invalid
+ * value, an exception. Most server URLs are plain, lower-case {@code https://host[:port][/path]} strings that both are
+ * certain to accept, so those are recognized with a single scan over the characters. Anything else (user info, IPv6
+ * hosts, escapes, fragments, non-ASCII characters, other protocols, ...) falls back to building both
+ */
+public class HttpsUrlValidator implements ConstraintValidator<ValidHttpsUrl, CharSequence> {
+
+    private static final String PREFIX = "https://";
+    private static final int MAX_PORT_DIGITS = 5;
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext constraintValidatorContext) {
+        if (value == null || value.length() == 0) {
+            return true;
+        }
+        return isPlainHttpsUrl(value) || isHttpsUrl(value.toString());
+    }
+
+    private static boolean isPlainHttpsUrl(CharSequence value) {
+        int length = value.length();
+        if (length <= PREFIX.length()) {
+            return false;
+        }
+        for (int i = 0; i < PREFIX.length(); i++) {
+            if (value.charAt(i) != PREFIX.charAt(i)) {
+                return false;
+            }
+        }
+
+        int i = PREFIX.length();
+        while (i < length && isHostCharacter(value.charAt(i))) {
+            i++;
+        }
+        if (i == PREFIX.length()) {
+            return false;
+        }
+
+        if (i < length && value.charAt(i) == ':') {
+            int portStart = ++i;
+            while (i < length && i - portStart < MAX_PORT_DIGITS && isDigit(value.charAt(i))) {
+                i++;
+            }
+            if (i == portStart) {
+                return false;
+            }
+        }
+
+        if (i == length) {
+            return true;
+        }
+        char separator = value.charAt(i);
+        if (separator != '/' && separator != '?') {
+            return false;
+        }
+        for (; i < length; i++) {
+            if (!isPathOrQueryCharacter(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHttpsUrl(String value) {
+        try {
+            new URI(value);
+            return "https".equals(new URL(value).getProtocol());
+        } catch (URISyntaxException | MalformedURLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @return Whether a character may appear unescaped in the path or query of a URI (RFC 3986 section 3.3 and 3.4)
+     */
+    private static boolean isPathOrQueryCharacter(char c) {
+        return isHostCharacter(c) || "_~!$&'()*+,;=:@/?".indexOf(c) >= 0;
+    }
+
+    private static boolean isHostCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c) || c == '-' || c == '.';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,89 @@
+package com.mromanak.multitenant.test.validation.validator;
+
+import com.mromanak.multitenant.test.model.Iso8601Timestamps;
+import com.mromanak.multitenant.test.validation.ValidationUtils;
+import com.mromanak.multitenant.test.validation.annotation.ValidIso8601DateTime;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * A {@link ConstraintValidator} that checks whether a string matches {@link ValidationUtils#ISO_8601_DATE_PATTERN}
+ * without running a regular expression, and can be parsed by {@link Iso8601Timestamps#parse(String)}
+ * <p/>
+ * Rather than parsing the value, each field is range-checked against what the parser accepts, so anything this accepts
+ * can be parsed wherever it's used. That rejects fields that are out of range (e.g. month 13), as well as the {@code |}
+ * that the pattern accepts as the sign of the offset because {@code [+|-]} is a character class. Like the parser, it
+ * accepts days 29-31 in any month (they're clamped to the end of the month) and {@code 24:00:00.000} (the start of
+ * the next day).
+ */
+public class Iso8601DateTimeValidator implements ConstraintValidator<ValidIso8601DateTime, CharSequence> {
+
+    // Every '0' stands for any ASCII digit, every other character has to appear as-is
+    private static final String LOCAL_DATE_TIME_LAYOUT = "0000-00-00T00:00:00.000";
+    private static final String OFFSET_LAYOUT = "00:00";
+    private static final int MAX_OFFSET_MINUTES = 18 * 60;
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext constraintValidatorContext) {
+        if (value == null) {
+            return true;
+        }
+
+        int offsetStart = LOCAL_DATE_TIME_LAYOUT.length();
+        if (!matchesLayout(value, 0, LOCAL_DATE_TIME_LAYOUT)) {
+            return false;
+        }
+        if (value.length() == offsetStart + 1) {
+            return value.charAt(offsetStart) == 'Z' && isInRange(value);
+        }
+        if (value.length() != offsetStart + 1 + OFFSET_LAYOUT.length()) {
+            return false;
+        }
+        char sign = value.charAt(offsetStart);
+        return (sign == '+' || sign == '-') && matchesLayout(value, offsetStart + 1, OFFSET_LAYOUT)
+                && isInRange(value) && isOffsetInRange(value, offsetStart + 1);
+    }
+
+    private static boolean isInRange(CharSequence value) {
+        int month = number(value, 5, 2);
+        int day = number(value, 8, 2);
+        int hour = number(value, 11, 2);
+        int minute = number(value, 14, 2);
+        int second = number(value, 17, 2);
+        int millisecond = number(value, 20, 3);
+        return number(value, 0, 4) > 0
+                && month >= 1 && month <= 12
+                && day >= 1 && day <= 31
+                && (hour < 24 || hour == 24 && minute == 0 && second == 0 && millisecond == 0)
+                && minute < 60
+                && second < 60;
+    }
+
+    private static boolean isOffsetInRange(CharSequence value, int start) {
+        int minutes = number(value, start + 3, 2);
+        return minutes < 60 && number(value, start, 2) * 60 + minutes <= MAX_OFFSET_MINUTES;
+    }
+
+    private static int number(CharSequence value, int start, int length) {
+        int number = 0;
+        for (int i = start; i < start + length; i++) {
+            number = number * 10 + value.charAt(i) - '0';
+        }
+        return number;
+    }
+
+    private static boolean matchesLayout(CharSequence value, int start, String layout) {
+        if (value.length() < start + layout.length()) {
+            return false;
+        }
+        for (int i = 0; i < layout.length(); i++) {
+            char expected = layout.charAt(i);
+            char actual = value.charAt(start + i);
+            if (expected == '0' ? actual < '0' || actual > '9' : actual != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
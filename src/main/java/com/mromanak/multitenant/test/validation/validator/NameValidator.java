@@ -0,0 +1,52 @@
+package com.mromanak.multitenant.test.validation.validator;
+
+import com.mromanak.multitenant.test.validation.ValidationUtils;
+import com.mromanak.multitenant.test.validation.annotation.ValidName;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * A {@link ConstraintValidator} that checks whether a string matches {@link ValidationUtils#NAME_PATTERN} without
+ * running a regular expression
+ * <p/>
+ * The first code point has to be a letter (which is what {@code \p{javaLetter}} means). Every character after it has to
+ * be in {@code [\w\s-_.]}, which Java reads as the ASCII word characters, the ASCII whitespace characters, and the
+ * literal characters {@code -}, {@code _}, and {@code .}
+ */
+public class NameValidator implements ConstraintValidator<ValidName, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext constraintValidatorContext) {
+        if (value == null) {
+            return true;
+        }
+
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+
+        int first = Character.codePointAt(value, 0);
+        if (!Character.isLetter(first)) {
+            return false;
+        }
+        for (int i = Character.charCount(first); i < length; i++) {
+            if (!isNameCharacter(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isNameCharacter(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '_'
+                || c == '-'
+                || c == '.'
+                || c == ' '
+                || (c >= '\t' && c <= '\r');
+    }
+}
@@ -0,0 +1,13 @@
+CREATE OR REPLACE FUNCTION public.notify_tenant_change() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM pg_notify('cache_invalidation', 'T');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tenant_change_notify
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE
+    ON public.tenant
+    FOR EACH STATEMENT
+EXECUTE FUNCTION public.notify_tenant_change();
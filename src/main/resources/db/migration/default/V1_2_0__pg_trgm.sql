@@ -0,0 +1,3 @@
+-- Trigram matching backs the Asset name search. Extensions are installed per database, not per schema, so it's
+-- installed once into the default schema, and tenant migrations and queries refer to its objects with a public. prefix.
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
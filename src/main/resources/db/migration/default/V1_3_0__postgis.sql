@@ -0,0 +1,3 @@
+-- PostGIS backs Asset locations. Like pg_trgm, it's installed once into the default schema, and tenant migrations and
+-- queries refer to its types, functions, and operators with a public. prefix.
+CREATE EXTENSION IF NOT EXISTS postgis WITH SCHEMA public;
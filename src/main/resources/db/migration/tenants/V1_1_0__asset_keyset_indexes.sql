@@ -0,0 +1,5 @@
+-- Supports keyset pagination of Assets, which seeks past the last (sort field, id) pair a client has seen. The id
+-- column breaks ties between Assets with the same sort field value, so it's the last column of each index. Postgres
+-- can scan these indexes in either direction, so they serve both ascending and descending pages.
+CREATE INDEX idx_asset_name_id ON asset (name, id);
+CREATE INDEX idx_asset_created_timestamp_id ON asset (created_timestamp, id);
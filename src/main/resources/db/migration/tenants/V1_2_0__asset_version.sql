@@ -0,0 +1,3 @@
+-- The version of each Asset, incremented on every update and used as its entity tag. Existing Assets start at 0.
+ALTER TABLE asset
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
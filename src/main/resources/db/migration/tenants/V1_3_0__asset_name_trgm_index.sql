@@ -0,0 +1,3 @@
+-- Supports substring (and so prefix) matching of Asset names with ILIKE '%query%'. A trigram index can only narrow
+-- down the rows for patterns with at least one full trigram, which is why search queries must be 3+ characters long.
+CREATE INDEX idx_asset_name_trgm ON asset USING gin (name public.gin_trgm_ops);
@@ -0,0 +1,4 @@
+-- Locations are optional, longitude/latitude points. The GiST index serves both bounding box (&&) and nearest neighbour
+-- (<->) queries.
+ALTER TABLE asset ADD COLUMN location public.geometry(Point, 4326);
+CREATE INDEX idx_asset_location ON asset USING gist (location);
@@ -1,8 +1,29 @@
 package com.mromanak.multitenant.test.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mromanak.multitenant.test.config.AsyncProperties;
+import com.mromanak.multitenant.test.config.PagingProperties;
+import com.mromanak.multitenant.test.config.ResponseCacheProperties;
+import com.mromanak.multitenant.test.config.jpa.MultiTenantSchemaConnectionProvider;
+import com.mromanak.multitenant.test.config.security.AuthConfig;
+import com.mromanak.multitenant.test.event.CacheInvalidationHandler;
+import com.mromanak.multitenant.test.event.CacheInvalidationMessage;
+import com.mromanak.multitenant.test.model.CountMode;
+import com.mromanak.multitenant.test.model.GeoPoint;
+import com.mromanak.multitenant.test.model.KeysetCursor;
 import com.mromanak.multitenant.test.model.dto.AssetDto;
+import com.mromanak.multitenant.test.model.dto.AssetUpdateDto;
 import com.mromanak.multitenant.test.model.entity.Asset;
+import com.mromanak.multitenant.test.service.AbstractEntityCrudService;
+import com.mromanak.multitenant.test.service.ResponseCache;
+import com.mromanak.multitenant.test.service.TenantExecutors;
+import io.quantics.multitenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -10,17 +31,39 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
-
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -42,9 +85,49 @@ public class AssetControllerIT extends AbstractControllerIT {
     @MockBean
     protected JwtDecoder mockJwtDecoder;
 
+    protected final MeterRegistry meterRegistry;
+    protected final PagingProperties pagingProperties;
+    protected final EntityManagerFactory entityManagerFactory;
+    protected final CacheInvalidationHandler cacheInvalidationHandler;
+    protected final JdbcTemplate jdbcTemplate;
+    protected final ResponseCache responseCache;
+    protected final ResponseCacheProperties responseCacheProperties;
+    protected final AsyncProperties asyncProperties;
+    protected final TenantExecutors tenantExecutors;
+
     @Autowired
-    protected AssetControllerIT(MockMvc mockMvc, ObjectMapper objectMapper) {
+    protected AssetControllerIT(
+            MockMvc mockMvc,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            PagingProperties pagingProperties,
+            EntityManagerFactory entityManagerFactory,
+            CacheInvalidationHandler cacheInvalidationHandler,
+            JdbcTemplate jdbcTemplate,
+            ResponseCache responseCache,
+            ResponseCacheProperties responseCacheProperties,
+            AsyncProperties asyncProperties,
+            TenantExecutors tenantExecutors
+    ) {
         super(mockMvc, objectMapper);
+        this.meterRegistry = meterRegistry;
+        this.pagingProperties = pagingProperties;
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheInvalidationHandler = cacheInvalidationHandler;
+        this.jdbcTemplate = jdbcTemplate;
+        this.responseCache = responseCache;
+        this.responseCacheProperties = responseCacheProperties;
+        this.asyncProperties = asyncProperties;
+        this.tenantExecutors = tenantExecutors;
+    }
+
+    /**
+     * The test data is recreated by SQL scripts before each test, behind Hibernate's back, so anything left in the
+     * second-level cache (or any other cache) by the previous test would be stale
+     */
+    @BeforeEach
+    public void evictCaches() {
+        cacheInvalidationHandler.evictAll();
     }
 
     @Override
@@ -52,6 +135,27 @@ public class AssetControllerIT extends AbstractControllerIT {
         return mockJwtDecoder;
     }
 
+    protected long getConnectionCheckoutCount(String tenant) {
+        Timer timer = meterRegistry.find(MultiTenantSchemaConnectionProvider.CONNECTION_HOLD_TIMER)
+                .tag("tenant", tenant)
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    protected double getSecondLevelCacheHitCount(String tenant) {
+        FunctionCounter counter = meterRegistry.find("cache.gets")
+                .tags("cache", Asset.class.getName(), "tenant", tenant, "result", "hit")
+                .functionCounter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    protected double getResponseCacheHitCount(String tenant) {
+        Counter counter = meterRegistry.find(ResponseCache.GETS_COUNTER)
+                .tags("tenant", tenant, "result", "hit")
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
     @Nested
     @DisplayName("POST /asset")
     public class PostAssetTests {
@@ -81,7 +185,7 @@ public class AssetControllerIT extends AbstractControllerIT {
             assertThat(arquebusResponseBody.getId(), is(not(nullValue())));
             assertThat(arquebusResponseBody.getName(), is(equalTo(arquebusRequestBody.getName())));
             assertThat(arquebusResponseBody.getCreatedTimestamp(),
-                    is(equalTo(parseDateFromString(arquebusRequestBody.getCreatedTimestamp()))));
+                    is(equalTo(parseInstantFromString(arquebusRequestBody.getCreatedTimestamp()))));
             assertThat(arquebusResponseBody.getServerUrl().toString(), is(equalTo(arquebusRequestBody.getServerUrl())));
 
             var balamMvcResult = sendPostRequestWithToken(PATH, balamRequestBody, BALAM_JWT)
@@ -92,7 +196,7 @@ public class AssetControllerIT extends AbstractControllerIT {
             assertThat(balamResponseBody.getId(), is(not(nullValue())));
             assertThat(balamResponseBody.getName(), is(equalTo(balamRequestBody.getName())));
             assertThat(balamResponseBody.getCreatedTimestamp(),
-                    is(equalTo(parseDateFromString(balamRequestBody.getCreatedTimestamp()))));
+                    is(equalTo(parseInstantFromString(balamRequestBody.getCreatedTimestamp()))));
             assertThat(balamResponseBody.getServerUrl().toString(), is(equalTo(balamRequestBody.getServerUrl())));
         }
 
@@ -191,6 +295,286 @@ public class AssetControllerIT extends AbstractControllerIT {
         }
     }
 
+    @Nested
+    @DisplayName("POST /asset/batch")
+    public class PostAssetBatchTests {
+
+        private static final String PATH = "/asset/batch";
+
+        @Test
+        @DisplayName("Should return status 200 for a valid request")
+        public void shouldReturn200ForValidRequest() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            var firstRequestBody = new AssetDto();
+            firstRequestBody.setName("V.I Freud");
+            firstRequestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            firstRequestBody.setServerUrl("https://arquebus.space/locksmith");
+
+            var secondRequestBody = new AssetDto();
+            secondRequestBody.setName("V.II Snail");
+            secondRequestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            secondRequestBody.setServerUrl("https://arquebus.space/open-face");
+
+            var mvcResult = sendPostRequestWithToken(PATH, List.of(firstRequestBody, secondRequestBody), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andReturn();
+            var responseBody = getContentAs(mvcResult, Asset[].class);
+
+            assertThat(responseBody.length, is(equalTo(2)));
+            assertThat(responseBody[0].getId(), is(not(nullValue())));
+            assertThat(responseBody[0].getName(), is(equalTo(firstRequestBody.getName())));
+            assertThat(responseBody[1].getId(), is(not(nullValue())));
+            assertThat(responseBody[1].getName(), is(equalTo(secondRequestBody.getName())));
+
+            sendGetRequestWithToken("/asset", ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(3));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for an invalid item in the request body")
+        public void shouldReturn400ForInvalidRequestBody() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            var validRequestBody = new AssetDto();
+            validRequestBody.setName("V.I Freud");
+            validRequestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            validRequestBody.setServerUrl("https://arquebus.space/locksmith");
+
+            var invalidRequestBody = new AssetDto();
+            invalidRequestBody.setName("V.II Snail");
+            invalidRequestBody.setCreatedTimestamp("not-a-timestamp");
+            invalidRequestBody.setServerUrl("https://arquebus.space/open-face");
+
+            sendPostRequestWithToken(PATH, List.of(validRequestBody, invalidRequestBody), ARQUEBUS_JWT)
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "The provided request parameters were invalid",
+                                "validationErrors": [
+                                    {
+                                        "field": "createAssets.assets[1].createdTimestamp",
+                                        "message": "must be a valid ISO-8601 date-time"
+                                    }
+                                ]
+                            }"""));
+
+            sendGetRequestWithToken("/asset", ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(1));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for an empty request body")
+        public void shouldReturn400ForEmptyRequestBody() throws Exception {
+            registerArquebusJwtWithRoles(List.of("write:asset"));
+
+            sendPostRequestWithToken(PATH, List.of(), ARQUEBUS_JWT)
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "The provided request parameters were invalid",
+                                "validationErrors": [
+                                    {
+                                        "field": "createAssets.assets",
+                                        "message": "size must be between 1 and 5000"
+                                    }
+                                ]
+                            }"""));
+        }
+
+        @Test
+        @DisplayName("Should return status 403 for inadequate permissions")
+        // TODO: Implement documented error response body
+        public void shouldReturn403ForInadequatePermissions() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            var requestBody = new AssetDto();
+            requestBody.setName("V.I Freud");
+            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            requestBody.setServerUrl("https://arquebus.space/locksmith");
+
+            sendPostRequestWithToken(PATH, List.of(requestBody), ARQUEBUS_JWT)
+                    .andExpect(status().isForbidden())
+                    .andExpect(content().string(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /asset/import")
+    public class PostAssetImportTests {
+
+        private static final String PATH = "/asset/import";
+
+        @Test
+        @DisplayName("Should import valid NDJSON rows and report invalid ones")
+        public void shouldImportValidNdjsonRows() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            var requestBody = """
+                    {"name": "V.I Freud", "createdTimestamp": "1970-01-01T00:00:00.000Z", "serverUrl": "https://arquebus.space/locksmith"}
+                    {"name": "V.II Snail", "createdTimestamp": "not-a-timestamp"}
+                    {"name": "V.III Tormenta",
+
+                    {"name": "V.V Hound", "createdTimestamp": "1970-01-01T00:00:00.000Z"}
+                    {"name": "V.VI Maeterlinck", "createdTimestamp": "1970-01-01T00:00:00.000Z"}
+                    """;
+
+            mockMvc.perform(
+                            post(PATH).contentType("application/x-ndjson")
+                                    .content(requestBody)
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().json("""
+                            {
+                                "imported": 3,
+                                "rejected": 2,
+                                "errors": [
+                                    {
+                                        "line": 2,
+                                        "field": "createdTimestamp",
+                                        "message": "must be a valid ISO-8601 date-time"
+                                    },
+                                    {
+                                        "line": 3,
+                                        "field": null,
+                                        "message": "must be a valid JSON object"
+                                    }
+                                ]
+                            }""", true));
+
+            sendGetRequestWithToken("/asset", ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(4));
+        }
+
+        @Test
+        @DisplayName("Should reject rows with out-of-range timestamps without aborting the import")
+        public void shouldRejectOutOfRangeTimestamps() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            var requestBody = """
+                    {"name": "V.I Freud", "createdTimestamp": "1970-01-01T00:00:00.000Z"}
+                    {"name": "V.II Snail", "createdTimestamp": "2020-13-45T00:00:00.000Z"}
+                    {"name": "V.III Tormenta", "createdTimestamp": "1970-01-01T00:00:00.000|05:00"}
+                    {"name": "V.V Hound", "createdTimestamp": "1970-01-01T00:00:00.000Z"}
+                    """;
+
+            mockMvc.perform(
+                            post(PATH).contentType("application/x-ndjson")
+                                    .content(requestBody)
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().json("""
+                            {
+                                "imported": 2,
+                                "rejected": 2,
+                                "errors": [
+                                    {
+                                        "line": 2,
+                                        "field": "createdTimestamp",
+                                        "message": "must be a valid ISO-8601 date-time"
+                                    },
+                                    {
+                                        "line": 3,
+                                        "field": "createdTimestamp",
+                                        "message": "must be a valid ISO-8601 date-time"
+                                    }
+                                ]
+                            }""", true));
+
+            sendGetRequestWithToken("/asset", ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(3));
+        }
+
+        @Test
+        @DisplayName("Should import valid CSV rows and report invalid ones")
+        public void shouldImportValidCsvRows() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            var requestBody = """
+                    serverUrl,name,createdTimestamp
+                    "https://arquebus.space/lock,smith","V.I Freud",1970-01-01T00:00:00.000Z
+                    ,V.II Snail,1970-01-01T00:00:00.000Z
+                    https://arquebus.space/tormenta,V.III Tormenta
+                    http://arquebus.space/hound,V.V Hound,1970-01-01T00:00:00.000Z
+                    """;
+
+            mockMvc.perform(
+                            post(PATH).contentType("text/csv")
+                                    .content(requestBody)
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().json("""
+                            {
+                                "imported": 2,
+                                "rejected": 2,
+                                "errors": [
+                                    {
+                                        "line": 4,
+                                        "field": null,
+                                        "message": "must be a valid CSV row with 3 columns"
+                                    },
+                                    {
+                                        "line": 5,
+                                        "field": "serverUrl",
+                                        "message": "must be a valid URL"
+                                    }
+                                ]
+                            }""", true));
+
+            var mvcResult = mockMvc.perform(
+                            get("/asset").queryParam("sortField", "name")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(3))
+                    .andReturn();
+            var page = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+
+            assertThat(page.path("content").get(0).path("serverUrl").asText(),
+                    is(equalTo("https://arquebus.space/lock,smith")));
+            assertThat(page.path("content").get(1).path("serverUrl").isNull(), is(true));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for a CSV header with unknown columns")
+        public void shouldReturn400ForUnknownCsvColumn() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            mockMvc.perform(
+                            post(PATH).contentType("text/csv")
+                                    .content("name,createdTimestamp,color\n")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "Unknown CSV column: color"
+                            }"""));
+        }
+
+        @Test
+        @DisplayName("Should return status 403 for inadequate permissions")
+        // TODO: Implement documented error response body
+        public void shouldReturn403ForInadequatePermissions() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            mockMvc.perform(
+                            post(PATH).contentType("text/csv")
+                                    .content("name,createdTimestamp\nV.I Freud,1970-01-01T00:00:00.000Z\n")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().isForbidden())
+                    .andExpect(content().string(""));
+        }
+    }
+
     @Nested
     @DisplayName("GET /asset")
     public class GetAssetTests {
@@ -281,6 +665,207 @@ public class AssetControllerIT extends AbstractControllerIT {
                             }"""));
         }
 
+        @Test
+        @DisplayName("Should omit the total count when count mode is none")
+        public void shouldOmitTotalCountForCountModeNone() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            mockMvc.perform(
+                            get(PATH).queryParam("countMode", "none")
+                                    .queryParam("pageSize", "1")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.content[0].id").value(ARQUEBUS_TEST_ASSET_ID))
+                    .andExpect(jsonPath("$.last").value(true))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andExpect(jsonPath("$.totalPages").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should count exactly when count mode is estimated and the database keeps no statistics")
+        public void shouldCountExactlyForCountModeEstimatedWithoutStatistics() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            mockMvc.perform(
+                            get(PATH).queryParam("countMode", "estimated")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(1));
+        }
+
+        @Test
+        @DisplayName("Should invalidate the cached count when count mode is cached and an Asset is written")
+        public void shouldInvalidateCachedCountOnWrite() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            // Skip the page-size shortcut, which can work out the total from the page alone
+            var request = get(PATH).queryParam("countMode", "cached")
+                    .queryParam("pageSize", "1")
+                    .queryParam("pageNumber", "1")
+                    .with(bearerToken(ARQUEBUS_JWT));
+            mockMvc.perform(request)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(1));
+
+            var requestBody = new AssetDto();
+            requestBody.setName("V.I Freud");
+            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            requestBody.setServerUrl("https://arquebus.space/locksmith");
+            sendPostRequestWithToken(PATH, requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            mockMvc.perform(request)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(2));
+        }
+
+        @Test
+        @DisplayName("Should use the tenant's configured count mode when none is requested")
+        public void shouldUseTenantCountMode() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("read:asset"));
+
+            pagingProperties.getTenantCountModes().put("balam", CountMode.NONE);
+            try {
+                sendGetRequestWithToken(PATH, BALAM_JWT)
+                        .andExpect(status().is2xxSuccessful())
+                        .andExpect(jsonPath("$.totalElements").doesNotExist());
+                sendGetRequestWithToken(PATH, ARQUEBUS_JWT)
+                        .andExpect(status().is2xxSuccessful())
+                        .andExpect(jsonPath("$.totalElements").value(1));
+            } finally {
+                pagingProperties.getTenantCountModes().remove("balam");
+            }
+        }
+
+        @Test
+        @DisplayName("Should return only the requested fields of each Asset")
+        public void shouldReturnOnlyRequestedFields() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            mockMvc.perform(
+                            get(PATH).queryParam("fields", "name, id,name")
+                                    .queryParam("countMode", "exact")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                    .andExpect(content().json("""
+                            {
+                                "content": [
+                                    {
+                                        "name": "V.IV Rusty",
+                                        "id": "7471da05-d4ba-4531-ab64-755b94c88635"
+                                    }
+                                ],
+                                "totalElements": 1,
+                                "last": true
+                            }"""))
+                    .andExpect(jsonPath("$.content[0].*", hasSize(2)));
+        }
+
+        @Test
+        @DisplayName("Should sort and page sparse fieldsets like full Assets")
+        public void shouldSortAndPageSparseFieldsets() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            var requestBody = new AssetDto();
+            requestBody.setName("V.I Freud");
+            requestBody.setCreatedTimestamp("1971-01-01T00:00:00.000Z");
+            requestBody.setServerUrl("https://arquebus.space/locksmith");
+            sendPostRequestWithToken(PATH, requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            mockMvc.perform(
+                            get(PATH).queryParam("fields", "createdTimestamp,serverUrl")
+                                    .queryParam("sortField", "createdTimestamp")
+                                    .queryParam("sortDirection", "desc")
+                                    .queryParam("pageSize", "1")
+                                    .queryParam("countMode", "none")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].createdTimestamp").value("1971-01-01T00:00:00.000Z"))
+                    .andExpect(jsonPath("$.content[0].serverUrl").value("https://arquebus.space/locksmith"))
+                    .andExpect(jsonPath("$.content[0].name").doesNotExist())
+                    .andExpect(jsonPath("$.last").value(false))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should only return and count the Assets created within the requested range")
+        public void shouldFilterByCreatedTimestampRange() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            List<AssetDto> requestBody = new ArrayList<>();
+            for (String year : List.of("1971", "1972", "1973")) {
+                var asset = new AssetDto();
+                asset.setName("V.I Freud " + year);
+                asset.setCreatedTimestamp(year + "-01-01T00:00:00.000Z");
+                asset.setServerUrl("https://arquebus.space/locksmith");
+                requestBody.add(asset);
+            }
+            sendPostRequestWithToken("/asset/batch", requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            for (String countMode : List.of("exact", "cached", "estimated")) {
+                mockMvc.perform(
+                                get(PATH).queryParam("createdAfter", "1971-01-01T00:00:00.000Z")
+                                        .queryParam("createdBefore", "1973-01-01T00:00:00.000+00:00")
+                                        .queryParam("countMode", countMode)
+                                        .with(bearerToken(ARQUEBUS_JWT))
+                        )
+                        .andExpect(status().is2xxSuccessful())
+                        .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"")))
+                        .andExpect(jsonPath("$.content", hasSize(1)))
+                        .andExpect(jsonPath("$.content[0].name").value("V.I Freud 1972"))
+                        .andExpect(jsonPath("$.totalElements").value(1));
+            }
+
+            mockMvc.perform(
+                            get(PATH).queryParam("createdAfter", "1970-06-01T00:00:00.000-05:00")
+                                    .queryParam("sortField", "createdTimestamp")
+                                    .queryParam("fields", "name")
+                                    .queryParam("pageSize", "2")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.content[0].name").value("V.I Freud 1971"))
+                    .andExpect(jsonPath("$.content[1].name").value("V.I Freud 1972"))
+                    .andExpect(jsonPath("$.totalElements").value(3));
+        }
+
+        @Test
+        @DisplayName("Should return status 304 if the page hasn't changed since its ETag was issued")
+        public void shouldReturn304ForUnchangedPage() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            String eTag = sendGetRequestWithToken(PATH, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"")))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(PATH).header(HttpHeaders.IF_NONE_MATCH, eTag).with(bearerToken(ARQUEBUS_JWT)))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            var requestBody = new AssetDto();
+            requestBody.setName("V.I Freud");
+            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            requestBody.setServerUrl("https://arquebus.space/locksmith");
+            sendPostRequestWithToken(PATH, requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            mockMvc.perform(get(PATH).header(HttpHeaders.IF_NONE_MATCH, eTag).with(bearerToken(ARQUEBUS_JWT)))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(equalTo(eTag))))
+                    .andExpect(jsonPath("$.totalElements").value(2));
+        }
+
         @Test
         @DisplayName("Should return status 400 for invalid URL parameters")
         public void shouldReturn400ForInvalidUrlParameters() throws Exception {
@@ -291,6 +876,9 @@ public class AssetControllerIT extends AbstractControllerIT {
                                     .queryParam("pageSize", "1000000")
                                     .queryParam("sortField", "serverUrl")
                                     .queryParam("sortDirection", "sideways")
+                                    .queryParam("countMode", "approximate")
+                                    .queryParam("createdAfter", "1970-01-01")
+                                    .queryParam("createdBefore", "yesterday")
                                     .with(bearerToken(ARQUEBUS_JWT))
                     )
                     .andExpect(status().is(400))
@@ -313,10 +901,46 @@ public class AssetControllerIT extends AbstractControllerIT {
                                     {
                                         "field": "getAssetPage.pageSize",
                                         "message": "must be less than or equal to 100"
-                                    }
-                                ]
-                            }"""));
+                                    },
+                                    {
+                                        "field": "getAssetPage.countMode",
+                                        "message": "must be one of the enumerated count modes"
+                                    },
+                                    {
+                                        "field": "getAssetPage.createdAfter",
+                                        "message": "must be a valid ISO-8601 date-time"
+                                    },
+                                    {
+                                        "field": "getAssetPage.createdBefore",
+                                        "message": "must be a valid ISO-8601 date-time"
+                                    }
+                                ]
+                            }"""));
+
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for timestamps that are laid out correctly but out of range")
+        public void shouldReturn400ForOutOfRangeTimestamps() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
 
+            sendGetRequestWithToken(PATH + "?createdAfter=2020-13-45T00:00:00.000Z"
+                    + "&createdBefore=2020-01-01T00:00:00.000|05:00", ARQUEBUS_JWT)
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "The provided request parameters were invalid",
+                                "validationErrors": [
+                                    {
+                                        "field": "getAssetPage.createdAfter",
+                                        "message": "must be a valid ISO-8601 date-time"
+                                    },
+                                    {
+                                        "field": "getAssetPage.createdBefore",
+                                        "message": "must be a valid ISO-8601 date-time"
+                                    }
+                                ]
+                            }"""));
         }
 
         @Test
@@ -350,79 +974,62 @@ public class AssetControllerIT extends AbstractControllerIT {
     }
 
     @Nested
-    @DisplayName("GET /asset/{id}")
-    public class GetAssetByIdTests {
+    @DisplayName("GET /asset/scroll")
+    public class GetAssetScrollTests {
 
-        private static final String PATH_TEMPLATE = "/asset/%s";
+        private static final String PATH = "/asset/scroll";
 
         @Test
-        @DisplayName("Should return status 200 for a valid request")
-        public void shouldReturn200ForValidRequest() throws Exception {
-            registerAllTenantJwtsWithRoles(List.of("read:asset"));
+        @DisplayName("Should return every Asset exactly once, in order, when following cursors")
+        public void shouldReturnEveryAssetInOrder() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+            createArquebusAssets("V.I Freud", "V.II Snail", "V.III Tormenta", "V.V Hound");
 
-            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
-                    .andExpect(status().is2xxSuccessful())
-                    .andExpect(content().json("""
-                            {
-                                "id": "%s",
-                                "name": "V.IV Rusty",
-                                "createdTimestamp": "1970-01-01T00:00:00.000Z",
-                                "serverUrl": "https://arquebus.space/steel-haze"
-                            }""".formatted(ARQUEBUS_TEST_ASSET_ID)
-                    ));
+            List<String> names = scrollAssetNames("name", "desc");
 
-            sendGetRequestWithToken(PATH_TEMPLATE.formatted(BALAM_TEST_ASSET_ID), BALAM_JWT)
-                    .andExpect(status().is2xxSuccessful())
-                    .andExpect(content().json("""
-                            {
-                                "id": "%s",
-                                "name": "G5 Iguazu",
-                                "createdTimestamp": "1970-01-01T00:00:00.000Z",
-                                "serverUrl": "https://balam.space/head-bringer"
-                            }""".formatted(BALAM_TEST_ASSET_ID)
-                    ));
+            assertThat(names, is(equalTo(List.of("V.V Hound", "V.IV Rusty", "V.III Tormenta", "V.II Snail",
+                    "V.I Freud"))));
+        }
+
+        @Test
+        @DisplayName("Should break ties between equal sort field values using the ID")
+        public void shouldBreakTiesUsingId() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+            // Every Asset shares the seeded Asset's timestamp
+            createArquebusAssets("V.I Freud", "V.II Snail", "V.III Tormenta", "V.V Hound");
+
+            List<String> names = scrollAssetNames("createdTimestamp", "asc");
+
+            assertThat(names.size(), is(equalTo(5)));
+            assertThat(Set.copyOf(names), is(equalTo(Set.of("V.I Freud", "V.II Snail", "V.III Tormenta",
+                    "V.IV Rusty", "V.V Hound"))));
         }
 
         @Test
         @DisplayName("Should return status 400 for invalid URL parameters")
         public void shouldReturn400ForInvalidUrlParameters() throws Exception {
-            registerAllTenantJwtsWithRoles(List.of("read:asset"));
+            registerArquebusJwtWithRoles(List.of("read:asset"));
 
-            sendGetRequestWithToken(PATH_TEMPLATE.formatted("notAUuid"), ARQUEBUS_JWT)
-                    .andExpect(status().isBadRequest())
+            mockMvc.perform(
+                            get(PATH).queryParam("cursor", "not-a-cursor")
+                                    .queryParam("pageSize", "0")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is(400))
                     .andExpect(content().json("""
                             {
                                 "errorMessage": "The provided request parameters were invalid",
                                 "validationErrors": [
                                     {
-                                        "field": "getAsset.id",
-                                        "message": "must be a valid UUID"
+                                        "field": "scrollAssets.cursor",
+                                        "message": "must be a cursor returned by a previous request for a page of Assets"
+                                    },
+                                    {
+                                        "field": "scrollAssets.pageSize",
+                                        "message": "must be greater than or equal to 1"
                                     }
                                 ]
-                            }"""
-                    ));
-        }
-
-        @Test
-        @DisplayName("Should return status 401 for invalid authentication")
-        // TODO: Implement documented error response body
-        public void shouldReturn401ForInvalidAuthentication() throws Exception {
-            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), UNKNOWN_TENANT_JWT)
-                    .andExpect(status().isUnauthorized())
-                    .andExpect(header().string("WWW-Authenticate",
-                            containsString("Bearer error=\"invalid_token\"")))
-                    .andExpect(header().string("WWW-Authenticate",
-                            containsString("Unknown tenant: https://idp.example.org/unknown-tenant")))
-                    .andExpect(content().string(""));
-        }
-
-        @Test
-        @DisplayName("Should return status 401 for missing authentication")
-        // TODO: Implement documented error response body
-        public void shouldReturn401ForMissingAuthentication() throws Exception {
-            mockMvc.perform(get(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID)))
-                    .andExpect(status().isUnauthorized())
-                    .andExpect(content().string(""));
+                            }"""));
         }
 
         @Test
@@ -431,335 +1038,2311 @@ public class AssetControllerIT extends AbstractControllerIT {
         public void shouldReturn403ForInadequatePermissions() throws Exception {
             registerArquebusJwtWithRoles(Collections.emptyList());
 
-            var path = "/asset/%s".formatted(ARQUEBUS_TEST_ASSET_ID);
-
-            sendGetRequestWithToken(path, ARQUEBUS_JWT)
+            sendGetRequestWithToken(PATH, ARQUEBUS_JWT)
                     .andExpect(status().isForbidden())
                     .andExpect(content().string(""));
         }
 
-        @Test
-        @DisplayName("Should return status 404 if entity with ID does not exist")
-        // TODO: Implement documented error response body
-        public void shouldReturn404ForNonexistentId() throws Exception {
-            registerArquebusJwtWithRoles(List.of("read:asset"));
-
-            var nonexistentId = "4776b07b-3018-41b7-898b-3a97c07db8d8";
-
-            sendGetRequestWithToken(PATH_TEMPLATE.formatted(nonexistentId), ARQUEBUS_JWT)
-                    .andExpect(status().isNotFound())
-                    .andExpect(content().json("""
-                            {
-                                "errorMessage": "No Asset entity found with ID %s"
-                            }""".formatted(nonexistentId)
-                    ));
+        private void createArquebusAssets(String... names) throws Exception {
+            List<AssetDto> requestBody = new ArrayList<>();
+            for (String name : names) {
+                var asset = new AssetDto();
+                asset.setName(name);
+                asset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+                asset.setServerUrl("https://arquebus.space/" + UUID.randomUUID());
+                requestBody.add(asset);
+            }
+            sendPostRequestWithToken("/asset/batch", requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
         }
 
-        @Test
-        @DisplayName("Should return status 404 if entity with ID exists in different tenant")
-        public void shouldReturn404ForCrossTenantId() throws Exception {
-            registerAllTenantJwtsWithRoles(List.of("read:asset"));
-
-            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), BALAM_JWT)
-                    .andExpect(status().isNotFound())
-                    .andExpect(content().json("""
-                            {
-                                "errorMessage": "No Asset entity found with ID %s"
-                            }""".formatted(ARQUEBUS_TEST_ASSET_ID)
-                    ));
-
-            sendGetRequestWithToken(PATH_TEMPLATE.formatted(BALAM_TEST_ASSET_ID), ARQUEBUS_JWT)
-                    .andExpect(status().isNotFound())
-                    .andExpect(content().json("""
-                            {
-                                "errorMessage": "No Asset entity found with ID %s"
-                            }""".formatted(BALAM_TEST_ASSET_ID)
-                    ));
+        private List<String> scrollAssetNames(String sortField, String sortDirection) throws Exception {
+            List<String> names = new ArrayList<>();
+            String cursor = null;
+            do {
+                var request = get(PATH).queryParam("pageSize", "2").with(bearerToken(ARQUEBUS_JWT));
+                if (cursor == null) {
+                    request.queryParam("sortField", sortField).queryParam("sortDirection", sortDirection);
+                } else {
+                    request.queryParam("cursor", cursor);
+                }
+                var mvcResult = mockMvc.perform(request)
+                        .andExpect(status().is2xxSuccessful())
+                        .andReturn();
+                var page = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+
+                assertThat(page.path("content").size(), is(lessThanOrEqualTo(2)));
+                page.path("content").forEach(asset -> names.add(asset.path("name").asText()));
+                cursor = page.path("nextCursor").isNull() ? null : page.path("nextCursor").asText();
+            } while (cursor != null);
+            return names;
         }
     }
 
     @Nested
-    @DisplayName("PUT /asset/{id}")
-    public class PutAssetTests {
+    @DisplayName("GET /asset/search")
+    public class GetAssetSearchTests {
 
-        private static final String PATH_TEMPLATE = "/asset/%s";
+        private static final String PATH = "/asset/search";
 
         @Test
-        @DisplayName("Should return status 200 for a valid request")
-        public void shouldReturn200ForValidRequest() throws Exception {
-            registerAllTenantJwtsWithRoles(List.of("write:asset"));
+        @DisplayName("Should return every matching Asset exactly once, best match first, when following cursors")
+        public void shouldReturnEveryMatchRankedBySimilarity() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+            createArquebusAssets("V.I Freud", "V.II Snail", "V.III Tormenta", "V.V Hound");
+
+            List<String> names = searchAssetNames("v.i");
+
+            assertThat(names.size(), is(equalTo(4)));
+            assertThat(Set.copyOf(names), is(equalTo(Set.of("V.I Freud", "V.II Snail", "V.III Tormenta",
+                    "V.IV Rusty"))));
+            assertThat(names.get(0), is(equalTo("V.I Freud")));
+            assertThat(names.get(3), is(equalTo("V.III Tormenta")));
+        }
 
-            var arquebusRequestBody = new AssetDto();
-            arquebusRequestBody.setName("V.IV Rusty");
-            arquebusRequestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
-            arquebusRequestBody.setServerUrl("https://arquebus.space/steel-haze-ortus");
+        @Test
+        @DisplayName("Should match LIKE wildcards in the query literally")
+        public void shouldMatchWildcardsLiterally() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
 
-            var balamRequestBody = new AssetDto();
-            balamRequestBody.setName("G5 Iguazu");
-            balamRequestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
-            balamRequestBody.setServerUrl("https://balam.space/mind-gamma");
+            assertThat(searchAssetNames("V_IV"), is(equalTo(List.of())));
+            assertThat(searchAssetNames("%%%"), is(equalTo(List.of())));
+            assertThat(searchAssetNames("Rusty"), is(equalTo(List.of("V.IV Rusty"))));
+        }
 
-            sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), arquebusRequestBody, ARQUEBUS_JWT)
-                    .andExpect(status().is2xxSuccessful())
-                    .andExpect(content().json("""
-                            {
-                                "id": "%s",
-                                "name": "%s",
-                                "createdTimestamp": "%s",
-                                "serverUrl": "%s"
-                            }"""
-                            .formatted(
-                                    ARQUEBUS_TEST_ASSET_ID,
-                                    arquebusRequestBody.getName(),
-                                    arquebusRequestBody.getCreatedTimestamp(),
-                                    arquebusRequestBody.getServerUrl()
-                            )));
+        @Test
+        @DisplayName("Should only return the Assets of the requesting tenant")
+        public void shouldOnlyReturnRequestingTenantsAssets() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("read:asset"));
 
-            sendPutRequestWithToken(PATH_TEMPLATE.formatted(BALAM_TEST_ASSET_ID), balamRequestBody, BALAM_JWT)
+            mockMvc.perform(get(PATH).queryParam("q", "Rusty").with(bearerToken(BALAM_JWT)))
                     .andExpect(status().is2xxSuccessful())
-                    .andExpect(content().json("""
-                            {
-                                "id": "%s",
-                                "name": "%s",
-                                "createdTimestamp": "%s",
-                                "serverUrl": "%s"
-                            }"""
-                            .formatted(
-                                    BALAM_TEST_ASSET_ID,
-                                    balamRequestBody.getName(),
-                                    balamRequestBody.getCreatedTimestamp(),
-                                    balamRequestBody.getServerUrl()
-                            )));
+                    .andExpect(jsonPath("$.content", hasSize(0)))
+                    .andExpect(jsonPath("$.nextCursor").value(nullValue()));
         }
 
         @Test
         @DisplayName("Should return status 400 for invalid URL parameters")
         public void shouldReturn400ForInvalidUrlParameters() throws Exception {
-            registerArquebusJwtWithRoles(List.of("write:asset"));
-
-            var requestBody = new AssetDto();
-            requestBody.setName("V.IV Rusty");
-            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
-            requestBody.setServerUrl("https://arquebus.space/steel-haze-ortus");
+            registerArquebusJwtWithRoles(List.of("read:asset"));
 
-            sendPutRequestWithToken(PATH_TEMPLATE.formatted("notAUuid"), requestBody, ARQUEBUS_JWT)
-                    .andExpect(status().isBadRequest())
+            String scrollCursor = KeysetCursor.start("name", Sort.Direction.ASC).encode();
+            mockMvc.perform(
+                            get(PATH).queryParam("q", "V.")
+                                    .queryParam("cursor", scrollCursor)
+                                    .queryParam("pageSize", "0")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is(400))
                     .andExpect(content().json("""
                             {
                                 "errorMessage": "The provided request parameters were invalid",
                                 "validationErrors": [
                                     {
-                                        "field": "updateAsset.id",
-                                        "message": "must be a valid UUID"
-                                    }
-                                ]
-                            }"""));
-        }
-
-        @Test
-        @DisplayName("Should return status 400 for an invalid request body")
-        public void shouldReturn400ForInvalidRequestBody() throws Exception {
-            registerArquebusJwtWithRoles(List.of("write:asset"));
-
-            var requestBody = new AssetDto();
-            requestBody.setName("");
-            requestBody.setCreatedTimestamp("notATimestamp");
-            requestBody.setServerUrl("notAUrl");
-
-            sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), requestBody, ARQUEBUS_JWT)
-                    .andExpect(status().isBadRequest())
-                    .andExpect(content().json("""
-                            {
-                                "errorMessage": "The provided request body was invalid",
-                                "validationErrors": [
-                                    {
-                                        "field": "requestBody.name",
-                                        "message": "size must be between 1 and 50"
-                                    },
-                                    {
-                                        "field": "requestBody.name",
-                                        "message": "must match \\"^\\\\p{javaLetter}[\\\\w\\\\s-_.]*$\\""
-                                    },
-                                    {
-                                        "field": "requestBody.name",
-                                        "message": "must not be empty"
+                                        "field": "searchAssets.q",
+                                        "message": "size must be between 3 and 50"
                                     },
                                     {
-                                        "field": "requestBody.createdTimestamp",
-                                        "message": "must be a valid ISO-8601 date-time"
+                                        "field": "searchAssets.cursor",
+                                        "message": "must be a cursor issued by a previous Asset search"
                                     },
                                     {
-                                        "field": "requestBody.serverUrl",
-                                        "message": "must be a valid URL"
+                                        "field": "searchAssets.pageSize",
+                                        "message": "must be greater than or equal to 1"
                                     }
                                 ]
                             }"""));
         }
 
         @Test
-        @DisplayName("Should return status 401 for invalid authentication")
+        @DisplayName("Should return status 403 for inadequate permissions")
         // TODO: Implement documented error response body
-        public void shouldReturn401ForInvalidAuthentication() throws Exception {
-            var requestBody = new AssetDto();
-            requestBody.setName("V.IV Rusty");
-            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
-            requestBody.setServerUrl("https://arquebus.space/steel-haze-ortus");
+        public void shouldReturn403ForInadequatePermissions() throws Exception {
+            registerArquebusJwtWithRoles(Collections.emptyList());
 
-            sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), requestBody, UNKNOWN_TENANT_JWT)
-                    .andExpect(status().isUnauthorized())
-                    .andExpect(header().string("WWW-Authenticate",
-                            containsString("Bearer error=\"invalid_token\"")))
-                    .andExpect(header().string("WWW-Authenticate",
-                            containsString("Unknown tenant: https://idp.example.org/unknown-tenant")))
+            mockMvc.perform(get(PATH).queryParam("q", "Rusty").with(bearerToken(ARQUEBUS_JWT)))
+                    .andExpect(status().isForbidden())
                     .andExpect(content().string(""));
         }
 
-        @Test
-        @DisplayName("Should return status 403 for missing authentication")
-        // TODO: Implement documented error response body
-        public void shouldReturn403ForMissingAuthentication() throws Exception {
+        private void createArquebusAssets(String... names) throws Exception {
+            List<AssetDto> requestBody = new ArrayList<>();
+            for (String name : names) {
+                var asset = new AssetDto();
+                asset.setName(name);
+                asset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+                asset.setServerUrl("https://arquebus.space/" + UUID.randomUUID());
+                requestBody.add(asset);
+            }
+            sendPostRequestWithToken("/asset/batch", requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+        }
+
+        private List<String> searchAssetNames(String query) throws Exception {
+            List<String> names = new ArrayList<>();
+            String cursor = null;
+            do {
+                var request = get(PATH).queryParam("q", query)
+                        .queryParam("pageSize", "2")
+                        .with(bearerToken(ARQUEBUS_JWT));
+                if (cursor != null) {
+                    request.queryParam("cursor", cursor);
+                }
+                var mvcResult = mockMvc.perform(request)
+                        .andExpect(status().is2xxSuccessful())
+                        .andReturn();
+                var page = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+
+                assertThat(page.path("content").size(), is(lessThanOrEqualTo(2)));
+                page.path("content").forEach(asset -> names.add(asset.path("name").asText()));
+                cursor = page.path("nextCursor").isNull() ? null : page.path("nextCursor").asText();
+            } while (cursor != null);
+            return names;
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /asset/within and GET /asset/nearest")
+    public class AssetLocationTests {
+
+        @Test
+        @DisplayName("Should store and return the location of an Asset")
+        public void shouldStoreAndReturnLocation() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+            var asset = new AssetDto();
+            asset.setName("V.II Snail");
+            asset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            asset.setLocation(new GeoPoint(-122.4194, 37.7749));
+
+            var mvcResult = sendPostRequestWithToken("/asset", asset, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.location.longitude").value(-122.4194))
+                    .andExpect(jsonPath("$.location.latitude").value(37.7749))
+                    .andReturn();
+            String id = objectMapper.readTree(mvcResult.getResponse().getContentAsString()).path("id").asText();
+
+            mockMvc.perform(get("/asset/" + id).with(bearerToken(ARQUEBUS_JWT)))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.location.longitude").value(-122.4194))
+                    .andExpect(jsonPath("$.location.latitude").value(37.7749));
+            mockMvc.perform(get("/asset/" + id).queryParam("fields", "name,location").with(bearerToken(ARQUEBUS_JWT)))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().json("""
+                            {
+                                "name": "V.II Snail",
+                                "location": {
+                                    "longitude": -122.4194,
+                                    "latitude": 37.7749
+                                }
+                            }""", true));
+            mockMvc.perform(get("/asset/" + ARQUEBUS_TEST_ASSET_ID).with(bearerToken(ARQUEBUS_JWT)))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.location").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should update and clear the location of an Asset")
+        public void shouldUpdateAndClearLocation() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+            var asset = new AssetDto();
+            asset.setName("V.IV Rusty");
+            asset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            asset.setServerUrl("https://arquebus.space/steel-haze");
+            asset.setLocation(new GeoPoint(139.6917, 35.6895));
+
+            sendPutRequestWithToken("/asset/" + ARQUEBUS_TEST_ASSET_ID, asset, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+            mockMvc.perform(get("/asset/" + ARQUEBUS_TEST_ASSET_ID).with(bearerToken(ARQUEBUS_JWT)))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.location.longitude").value(139.6917))
+                    .andExpect(jsonPath("$.location.latitude").value(35.6895));
+
+            asset.setLocation(null);
+            sendPutRequestWithToken("/asset/" + ARQUEBUS_TEST_ASSET_ID, asset, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+            mockMvc.perform(get("/asset/" + ARQUEBUS_TEST_ASSET_ID).with(bearerToken(ARQUEBUS_JWT)))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.location").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should return every Asset within a box exactly once, ordered by ID, when following cursors")
+        public void shouldReturnEveryAssetWithinBox() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+            createArquebusAssets(Map.of(
+                    "V.I Freud", new GeoPoint(1.0, 1.0),
+                    "V.II Snail", new GeoPoint(2.0, 2.0),
+                    "V.III Tormenta", new GeoPoint(3.0, 3.0),
+                    "V.V Hound", new GeoPoint(5.0, 3.0),
+                    "V.VI Swinburne", new GeoPoint(-1.0, 2.0)
+            ));
+
+            List<String> names = new ArrayList<>();
+            List<String> ids = new ArrayList<>();
+            String cursor = null;
+            do {
+                var request = get("/asset/within").queryParam("minLongitude", "1")
+                        .queryParam("minLatitude", "0")
+                        .queryParam("maxLongitude", "3")
+                        .queryParam("maxLatitude", "3")
+                        .queryParam("pageSize", "2")
+                        .with(bearerToken(ARQUEBUS_JWT));
+                if (cursor != null) {
+                    request.queryParam("cursor", cursor);
+                }
+                var mvcResult = mockMvc.perform(request)
+                        .andExpect(status().is2xxSuccessful())
+                        .andReturn();
+                var page = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+
+                assertThat(page.path("content").size(), is(lessThanOrEqualTo(2)));
+                page.path("content").forEach(asset -> {
+                    names.add(asset.path("name").asText());
+                    ids.add(asset.path("id").asText());
+                });
+                cursor = page.path("nextCursor").isNull() ? null : page.path("nextCursor").asText();
+            } while (cursor != null);
+
+            assertThat(Set.copyOf(names), is(equalTo(Set.of("V.I Freud", "V.II Snail", "V.III Tormenta"))));
+            assertThat(names.size(), is(equalTo(3)));
+            assertThat(ids, is(equalTo(ids.stream().sorted().toList())));
+        }
+
+        @Test
+        @DisplayName("Should return the Assets nearest to a point, closest first")
+        public void shouldReturnNearestAssets() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+            createArquebusAssets(Map.of(
+                    "V.I Freud", new GeoPoint(10.0, 10.0),
+                    "V.II Snail", new GeoPoint(2.0, 2.0),
+                    "V.III Tormenta", new GeoPoint(-4.0, 0.0),
+                    "V.V Hound", new GeoPoint(0.5, -0.5)
+            ));
+
+            mockMvc.perform(
+                            get("/asset/nearest").queryParam("longitude", "0")
+                                    .queryParam("latitude", "0")
+                                    .queryParam("count", "3")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$", hasSize(3)))
+                    .andExpect(jsonPath("$[0].name").value("V.V Hound"))
+                    .andExpect(jsonPath("$[1].name").value("V.II Snail"))
+                    .andExpect(jsonPath("$[2].name").value("V.III Tormenta"));
+        }
+
+        @Test
+        @DisplayName("Should only return the located Assets of the requesting tenant")
+        public void shouldOnlyReturnRequestingTenantsAssets() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("read:asset", "write:asset"));
+            createArquebusAssets(Map.of("V.II Snail", new GeoPoint(2.0, 2.0)));
+
+            mockMvc.perform(
+                            get("/asset/within").queryParam("minLongitude", "-180")
+                                    .queryParam("minLatitude", "-90")
+                                    .queryParam("maxLongitude", "180")
+                                    .queryParam("maxLatitude", "90")
+                                    .with(bearerToken(BALAM_JWT))
+                    )
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.content", hasSize(0)))
+                    .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+            mockMvc.perform(
+                            get("/asset/nearest").queryParam("longitude", "2")
+                                    .queryParam("latitude", "2")
+                                    .with(bearerToken(BALAM_JWT))
+                    )
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$", hasSize(0)));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for invalid URL parameters")
+        public void shouldReturn400ForInvalidUrlParameters() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            mockMvc.perform(
+                            get("/asset/within").queryParam("minLongitude", "-181")
+                                    .queryParam("minLatitude", "0")
+                                    .queryParam("maxLongitude", "0")
+                                    .queryParam("maxLatitude", "91")
+                                    .queryParam("pageSize", "101")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is(400))
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "The provided request parameters were invalid",
+                                "validationErrors": [
+                                    {
+                                        "field": "getAssetsWithinBox.minLongitude",
+                                        "message": "must be greater than or equal to -180"
+                                    },
+                                    {
+                                        "field": "getAssetsWithinBox.maxLatitude",
+                                        "message": "must be less than or equal to 90"
+                                    },
+                                    {
+                                        "field": "getAssetsWithinBox.pageSize",
+                                        "message": "must be less than or equal to 100"
+                                    }
+                                ]
+                            }"""));
+            mockMvc.perform(
+                            get("/asset/within").queryParam("minLongitude", "10")
+                                    .queryParam("minLatitude", "0")
+                                    .queryParam("maxLongitude", "-10")
+                                    .queryParam("maxLatitude", "10")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is(400));
+            mockMvc.perform(
+                            get("/asset/within").queryParam("minLongitude", "0")
+                                    .queryParam("minLatitude", "0")
+                                    .queryParam("maxLongitude", "10")
+                                    .queryParam("maxLatitude", "10")
+                                    .queryParam("cursor", KeysetCursor.start("name", Sort.Direction.ASC).encode())
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is(400));
+            mockMvc.perform(
+                            get("/asset/nearest").queryParam("longitude", "0")
+                                    .queryParam("latitude", "-91")
+                                    .queryParam("count", "0")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(status().is(400))
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "The provided request parameters were invalid",
+                                "validationErrors": [
+                                    {
+                                        "field": "getNearestAssets.latitude",
+                                        "message": "must be greater than or equal to -90"
+                                    },
+                                    {
+                                        "field": "getNearestAssets.count",
+                                        "message": "must be greater than or equal to 1"
+                                    }
+                                ]
+                            }"""));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for an invalid location")
+        public void shouldReturn400ForInvalidLocation() throws Exception {
+            registerArquebusJwtWithRoles(List.of("write:asset"));
+            var asset = new AssetDto();
+            asset.setName("V.II Snail");
+            asset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            asset.setLocation(new GeoPoint(200.0, null));
+
+            sendPostRequestWithToken("/asset", asset, ARQUEBUS_JWT)
+                    .andExpect(status().is(400));
+        }
+
+        @Test
+        @DisplayName("Should return status 403 for inadequate permissions")
+        // TODO: Implement documented error response body
+        public void shouldReturn403ForInadequatePermissions() throws Exception {
+            registerArquebusJwtWithRoles(Collections.emptyList());
+
+            mockMvc.perform(get("/asset/nearest").queryParam("longitude", "0")
+                            .queryParam("latitude", "0")
+                            .with(bearerToken(ARQUEBUS_JWT)))
+                    .andExpect(status().isForbidden())
+                    .andExpect(content().string(""));
+        }
+
+        private void createArquebusAssets(Map<String, GeoPoint> locationsByName) throws Exception {
+            List<AssetDto> requestBody = new ArrayList<>();
+            locationsByName.forEach((name, location) -> {
+                var asset = new AssetDto();
+                asset.setName(name);
+                asset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+                asset.setLocation(location);
+                requestBody.add(asset);
+            });
+            sendPostRequestWithToken("/asset/batch", requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /asset/export")
+    public class GetAssetExportTests {
+
+        private static final String PATH = "/asset/export";
+
+        @Test
+        @DisplayName("Should return every Asset as newline-delimited JSON, ordered by ID")
+        public void shouldReturnEveryAssetAsNdjson() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            List<AssetDto> requestBody = new ArrayList<>();
+            for (String name : List.of("V.I Freud", "V.II Snail", "V.III Tormenta", "V.V Hound")) {
+                var asset = new AssetDto();
+                asset.setName(name);
+                asset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+                asset.setServerUrl("https://arquebus.space/" + UUID.randomUUID());
+                requestBody.add(asset);
+            }
+            sendPostRequestWithToken("/asset/batch", requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            var mvcResult = sendGetRequestWithToken(PATH, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                    .andReturn();
+            var lines = mvcResult.getResponse().getContentAsString().split("\n");
+
+            var exportedIds = new ArrayList<String>();
+            var exportedNames = new ArrayList<String>();
+            for (String line : lines) {
+                var asset = objectMapper.readValue(line, Asset.class);
+                exportedIds.add(asset.getId().toString());
+                exportedNames.add(asset.getName());
+            }
+            var expectedIds = new ArrayList<>(exportedIds);
+            Collections.sort(expectedIds);
+
+            assertThat(lines.length, is(equalTo(5)));
+            assertThat(Set.copyOf(exportedNames), is(equalTo(Set.of("V.I Freud", "V.II Snail", "V.III Tormenta",
+                    "V.IV Rusty", "V.V Hound"))));
+            assertThat(exportedIds, is(equalTo(expectedIds)));
+        }
+
+        @Test
+        @DisplayName("Should only return the Assets of the requesting tenant")
+        public void shouldOnlyReturnAssetsOfRequestingTenant() throws Exception {
+            registerBalamJwtWithRoles(List.of("read:asset"));
+
+            var mvcResult = sendGetRequestWithToken(PATH, BALAM_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andReturn();
+
+            assertThat(mvcResult.getResponse().getContentAsString(), is(equalTo("""
+                    {"id":"b74df32a-99c9-482c-87ca-eccc7013197f","name":"G5 Iguazu",\
+                    "createdTimestamp":"1970-01-01T00:00:00.000Z","serverUrl":"https://balam.space/head-bringer"}
+                    """)));
+        }
+
+        @Test
+        @DisplayName("Should return status 403 for inadequate permissions")
+        // TODO: Implement documented error response body
+        public void shouldReturn403ForInadequatePermissions() throws Exception {
+            registerArquebusJwtWithRoles(Collections.emptyList());
+
+            sendGetRequestWithToken(PATH, ARQUEBUS_JWT)
+                    .andExpect(status().isForbidden())
+                    .andExpect(content().string(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /asset/{id}")
+    public class GetAssetByIdTests {
+
+        private static final String PATH_TEMPLATE = "/asset/%s";
+
+        @Test
+        @DisplayName("Should return status 200 for a valid request")
+        public void shouldReturn200ForValidRequest() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("read:asset"));
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().json("""
+                            {
+                                "id": "%s",
+                                "name": "V.IV Rusty",
+                                "createdTimestamp": "1970-01-01T00:00:00.000Z",
+                                "serverUrl": "https://arquebus.space/steel-haze"
+                            }""".formatted(ARQUEBUS_TEST_ASSET_ID)
+                    ));
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(BALAM_TEST_ASSET_ID), BALAM_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().json("""
+                            {
+                                "id": "%s",
+                                "name": "G5 Iguazu",
+                                "createdTimestamp": "1970-01-01T00:00:00.000Z",
+                                "serverUrl": "https://balam.space/head-bringer"
+                            }""".formatted(BALAM_TEST_ASSET_ID)
+                    ));
+        }
+
+        @Test
+        @DisplayName("Should serve repeated requests from the second-level cache")
+        public void shouldServeRepeatedRequestsFromCache() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+            double hitsBefore = getSecondLevelCacheHitCount("arquebus");
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty"));
+
+            assertThat(getSecondLevelCacheHitCount("arquebus"), is(equalTo(hitsBefore + 1)));
+        }
+
+        @Test
+        @DisplayName("Should not serve a cached Asset to a different tenant")
+        public void shouldNotServeCachedAssetToDifferentTenant() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("read:asset"));
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), BALAM_JWT)
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should not serve a cached Asset after it was updated")
+        public void shouldNotServeCachedAssetAfterUpdate() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty"));
+
             var requestBody = new AssetDto();
-            requestBody.setName("V.IV Rusty");
+            requestBody.setName("V.IV Rusty Updated");
             requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
-            requestBody.setServerUrl("https://arquebus.space/steel-haze-ortus");
+            requestBody.setServerUrl("https://arquebus.space/steel-haze");
+            sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty Updated"));
+        }
+
+        @Test
+        @DisplayName("Should keep serving other cached Assets after one is updated or deleted")
+        public void shouldKeepServingOtherCachedAssetsAfterWrite() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            var requestBody = new AssetDto();
+            requestBody.setName("V.IV Rusty Updated");
+            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            requestBody.setServerUrl("https://arquebus.space/steel-haze");
+            String otherId = getContentAs(
+                    sendPostRequestWithToken("/asset", requestBody, ARQUEBUS_JWT)
+                            .andExpect(status().is2xxSuccessful())
+                            .andReturn(),
+                    Asset.class
+            ).getId().toString();
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            sendPutRequestWithToken(PATH_TEMPLATE.formatted(otherId), requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+            double hitsBefore = getSecondLevelCacheHitCount("arquebus");
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty"));
+            assertThat(getSecondLevelCacheHitCount("arquebus"), is(equalTo(hitsBefore + 1)));
+
+            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(otherId), ARQUEBUS_JWT)
+                    .andExpect(status().isNoContent());
+            hitsBefore = getSecondLevelCacheHitCount("arquebus");
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty"));
+            assertThat(getSecondLevelCacheHitCount("arquebus"), is(equalTo(hitsBefore + 1)));
+        }
+
+        @Test
+        @DisplayName("Should return the Asset's version as its ETag")
+        public void shouldReturnVersionAsETag() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                    .andExpect(jsonPath("$.version").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should return status 304 if the Asset hasn't been modified since its ETag was issued")
+        public void shouldReturn304ForUnmodifiedAsset() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            mockMvc.perform(get(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID))
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                            .with(bearerToken(ARQUEBUS_JWT)))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                    .andExpect(content().string(""));
+
+            var requestBody = new AssetDto();
+            requestBody.setName("V.IV Rusty Updated");
+            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            requestBody.setServerUrl("https://arquebus.space/steel-haze");
+            sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            mockMvc.perform(get(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID))
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                            .with(bearerToken(ARQUEBUS_JWT)))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty Updated"));
+        }
+
+        @Test
+        @DisplayName("Should return only the requested fields of the Asset")
+        public void shouldReturnOnlyRequestedFields() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("read:asset"));
+
+            mockMvc.perform(get(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID))
+                            .queryParam("fields", "id,createdTimestamp")
+                            .with(bearerToken(ARQUEBUS_JWT)))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                    .andExpect(content().json("""
+                            {
+                                "id": "%s",
+                                "createdTimestamp": "1970-01-01T00:00:00.000Z"
+                            }""".formatted(ARQUEBUS_TEST_ASSET_ID), true));
+
+            mockMvc.perform(get(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID))
+                            .queryParam("fields", "serverUrl")
+                            .with(bearerToken(BALAM_JWT)))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for an invalid list of fields")
+        public void shouldReturn400ForInvalidFields() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            for (String fields : List.of("", "id,", "id,version", "name;id")) {
+                mockMvc.perform(get(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID))
+                                .queryParam("fields", fields)
+                                .with(bearerToken(ARQUEBUS_JWT)))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.validationErrors", hasSize(1)))
+                        .andExpect(jsonPath("$.validationErrors[0].field").value("getAsset.fields"))
+                        .andExpect(jsonPath("$.validationErrors[0].message")
+                                .value("must be a comma-separated list of the enumerated fields of an Asset"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for invalid URL parameters")
+        public void shouldReturn400ForInvalidUrlParameters() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("read:asset"));
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted("notAUuid"), ARQUEBUS_JWT)
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "The provided request parameters were invalid",
+                                "validationErrors": [
+                                    {
+                                        "field": "getAsset.id",
+                                        "message": "must be a valid UUID"
+                                    }
+                                ]
+                            }"""
+                    ));
+        }
+
+        @Test
+        @DisplayName("Should return status 401 for invalid authentication")
+        // TODO: Implement documented error response body
+        public void shouldReturn401ForInvalidAuthentication() throws Exception {
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), UNKNOWN_TENANT_JWT)
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(header().string("WWW-Authenticate",
+                            containsString("Bearer error=\"invalid_token\"")))
+                    .andExpect(header().string("WWW-Authenticate",
+                            containsString("Unknown tenant: https://idp.example.org/unknown-tenant")))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return status 401 for missing authentication")
+        // TODO: Implement documented error response body
+        public void shouldReturn401ForMissingAuthentication() throws Exception {
+            mockMvc.perform(get(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID)))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return status 403 for inadequate permissions")
+        // TODO: Implement documented error response body
+        public void shouldReturn403ForInadequatePermissions() throws Exception {
+            registerArquebusJwtWithRoles(Collections.emptyList());
+
+            var path = "/asset/%s".formatted(ARQUEBUS_TEST_ASSET_ID);
+
+            sendGetRequestWithToken(path, ARQUEBUS_JWT)
+                    .andExpect(status().isForbidden())
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return status 404 if entity with ID does not exist")
+        // TODO: Implement documented error response body
+        public void shouldReturn404ForNonexistentId() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            var nonexistentId = "4776b07b-3018-41b7-898b-3a97c07db8d8";
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(nonexistentId), ARQUEBUS_JWT)
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "No Asset entity found with ID %s"
+                            }""".formatted(nonexistentId)
+                    ));
+        }
+
+        @Test
+        @DisplayName("Should return status 404 if entity with ID exists in different tenant")
+        public void shouldReturn404ForCrossTenantId() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("read:asset"));
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), BALAM_JWT)
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "No Asset entity found with ID %s"
+                            }""".formatted(ARQUEBUS_TEST_ASSET_ID)
+                    ));
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(BALAM_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "No Asset entity found with ID %s"
+                            }""".formatted(BALAM_TEST_ASSET_ID)
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /asset/lookup")
+    public class PostAssetLookupTests {
+
+        private static final String PATH = "/asset/lookup";
+
+        @Test
+        @DisplayName("Should return status 200 with results in request order and missing IDs marked")
+        public void shouldReturn200ForValidRequest() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            var nonexistentId = "bb4a7634-3563-42d6-b946-c16808d1ec4c";
+
+            sendPostRequestWithToken(PATH,
+                    List.of(nonexistentId, ARQUEBUS_TEST_ASSET_ID, BALAM_TEST_ASSET_ID, ARQUEBUS_TEST_ASSET_ID),
+                    ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().json("""
+                            {
+                                "results": [
+                                    {
+                                        "id": "%s",
+                                        "name": "V.IV Rusty",
+                                        "createdTimestamp": "1970-01-01T00:00:00.000Z",
+                                        "serverUrl": "https://arquebus.space/steel-haze"
+                                    }
+                                ],
+                                "notFound": ["%s", "%s"]
+                            }""".formatted(ARQUEBUS_TEST_ASSET_ID, nonexistentId, BALAM_TEST_ASSET_ID), true));
+        }
+
+        @Test
+        @DisplayName("Should return status 200 for more IDs than fit in a single query")
+        public void shouldReturn200ForMultipleChunks() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            var ids = new ArrayList<String>();
+            for (int i = 0; i < AbstractEntityCrudService.READ_CHUNK_SIZE * 2; i++) {
+                ids.add(UUID.randomUUID().toString());
+            }
+            ids.add(ARQUEBUS_TEST_ASSET_ID);
+
+            sendPostRequestWithToken(PATH, ids, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.results.length()").value(1))
+                    .andExpect(jsonPath("$.results[0].id").value(ARQUEBUS_TEST_ASSET_ID))
+                    .andExpect(jsonPath("$.notFound.length()").value(AbstractEntityCrudService.READ_CHUNK_SIZE * 2));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for an invalid ID in the request body")
+        public void shouldReturn400ForInvalidRequestBody() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            sendPostRequestWithToken(PATH, List.of("notAUuid"), ARQUEBUS_JWT)
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "The provided request parameters were invalid",
+                                "validationErrors": [
+                                    {
+                                        "field": "getAssets.ids[0].<list element>",
+                                        "message": "must be a valid UUID"
+                                    }
+                                ]
+                            }"""));
+        }
+
+        @Test
+        @DisplayName("Should return status 403 for inadequate permissions")
+        // TODO: Implement documented error response body
+        public void shouldReturn403ForInadequatePermissions() throws Exception {
+            registerArquebusJwtWithRoles(Collections.emptyList());
+
+            sendPostRequestWithToken(PATH, List.of(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().isForbidden())
+                    .andExpect(content().string(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("PUT /asset/{id}")
+    public class PutAssetTests {
+
+        private static final String PATH_TEMPLATE = "/asset/%s";
+
+        @Test
+        @DisplayName("Should return status 200 for a valid request")
+        public void shouldReturn200ForValidRequest() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("write:asset"));
+
+            var arquebusRequestBody = new AssetDto();
+            arquebusRequestBody.setName("V.IV Rusty");
+            arquebusRequestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            arquebusRequestBody.setServerUrl("https://arquebus.space/steel-haze-ortus");
+
+            var balamRequestBody = new AssetDto();
+            balamRequestBody.setName("G5 Iguazu");
+            balamRequestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            balamRequestBody.setServerUrl("https://balam.space/mind-gamma");
+
+            sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), arquebusRequestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().json("""
+                            {
+                                "id": "%s",
+                                "name": "%s",
+                                "createdTimestamp": "%s",
+                                "serverUrl": "%s"
+                            }"""
+                            .formatted(
+                                    ARQUEBUS_TEST_ASSET_ID,
+                                    arquebusRequestBody.getName(),
+                                    arquebusRequestBody.getCreatedTimestamp(),
+                                    arquebusRequestBody.getServerUrl()
+                            )));
+
+            sendPutRequestWithToken(PATH_TEMPLATE.formatted(BALAM_TEST_ASSET_ID), balamRequestBody, BALAM_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().json("""
+                            {
+                                "id": "%s",
+                                "name": "%s",
+                                "createdTimestamp": "%s",
+                                "serverUrl": "%s"
+                            }"""
+                            .formatted(
+                                    BALAM_TEST_ASSET_ID,
+                                    balamRequestBody.getName(),
+                                    balamRequestBody.getCreatedTimestamp(),
+                                    balamRequestBody.getServerUrl()
+                            )));
+        }
+
+        @Test
+        @DisplayName("Should persist the updated state of the entity")
+        public void shouldPersistUpdatedState() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            var requestBody = new AssetDto();
+            requestBody.setName("V.IV Rusty Ortus");
+            requestBody.setCreatedTimestamp("2023-08-25T12:34:56.789+09:00");
+            requestBody.setServerUrl("https://arquebus.space/steel-haze-ortus");
+
+            sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().json("""
+                            {
+                                "id": "%s",
+                                "name": "V.IV Rusty Ortus",
+                                "createdTimestamp": "2023-08-25T03:34:56.789Z",
+                                "serverUrl": "https://arquebus.space/steel-haze-ortus"
+                            }""".formatted(ARQUEBUS_TEST_ASSET_ID)));
+        }
+
+        @Test
+        @DisplayName("Should check out exactly one connection per request")
+        public void shouldCheckOutOneConnectionPerRequest() throws Exception {
+            registerArquebusJwtWithRoles(List.of("write:asset"));
+
+            var requestBody = new AssetDto();
+            requestBody.setName("V.IV Rusty");
+            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            requestBody.setServerUrl("https://arquebus.space/steel-haze-ortus");
+
+            long checkoutsBefore = getConnectionCheckoutCount("arquebus");
+
+            sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            assertThat(getConnectionCheckoutCount("arquebus"), is(equalTo(checkoutsBefore + 1)));
+        }
+
+        @Test
+        @DisplayName("Should update the Asset if it is at the version in If-Match")
+        public void shouldUpdateIfVersionMatches() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            mockMvc.perform(putWithIfMatch(ARQUEBUS_TEST_ASSET_ID, "V.IV Rusty Updated", "\"0\""))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty Updated"));
+
+            mockMvc.perform(putWithIfMatch(ARQUEBUS_TEST_ASSET_ID, "V.IV Rusty Updated Again", "*"))
+                    .andExpect(status().is2xxSuccessful());
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty Updated Again"));
+        }
+
+        @Test
+        @DisplayName("Should return the Asset's new version as its ETag after an unconditional update")
+        public void shouldReturnNewVersionAsETagForUnconditionalUpdate() throws Exception {
+            registerArquebusJwtWithRoles(List.of("write:asset"));
+
+            var requestBody = new AssetDto();
+            requestBody.setName("V.IV Rusty Updated");
+            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            requestBody.setServerUrl("https://arquebus.space/steel-haze");
+
+            String eTag = sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), requestBody,
+                    ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(putWithIfMatch(ARQUEBUS_TEST_ASSET_ID, "V.IV Rusty Updated Again", eTag))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+        }
+
+        @Test
+        @DisplayName("Should return status 412 if the Asset isn't at the version in If-Match")
+        public void shouldReturn412IfVersionDoesNotMatch() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            mockMvc.perform(putWithIfMatch(ARQUEBUS_TEST_ASSET_ID, "V.IV Rusty Updated", "\"0\""))
+                    .andExpect(status().is2xxSuccessful());
+
+            mockMvc.perform(putWithIfMatch(ARQUEBUS_TEST_ASSET_ID, "V.IV Rusty Overwritten", "\"0\""))
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "The Asset entity with ID %s has been modified since the provided entity tag was issued"
+                            }""".formatted(ARQUEBUS_TEST_ASSET_ID)));
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty Updated"));
+        }
+
+        @Test
+        @DisplayName("Should check If-Match against the database rather than a cached Asset")
+        public void shouldCheckIfMatchAgainstDatabase() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+            // Updating the Asset behind the application's back leaves version 0 in the second-level cache
+            jdbcTemplate.update("UPDATE arquebus.asset SET version = 1 WHERE id = ?",
+                    UUID.fromString(ARQUEBUS_TEST_ASSET_ID));
+
+            mockMvc.perform(putWithIfMatch(ARQUEBUS_TEST_ASSET_ID, "V.IV Rusty Updated", "\"1\""))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+            mockMvc.perform(putWithIfMatch(ARQUEBUS_TEST_ASSET_ID, "V.IV Rusty Overwritten", "\"0\""))
+                    .andExpect(status().isPreconditionFailed());
+        }
+
+        @Test
+        @DisplayName("Should return status 404 for a conditional update of an Asset that does not exist")
+        public void shouldReturn404ForConditionalUpdateOfMissingAsset() throws Exception {
+            registerArquebusJwtWithRoles(List.of("write:asset"));
+
+            mockMvc.perform(putWithIfMatch(BALAM_TEST_ASSET_ID, "G5 Iguazu Updated", "\"0\""))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for an invalid If-Match header")
+        public void shouldReturn400ForInvalidIfMatch() throws Exception {
+            registerArquebusJwtWithRoles(List.of("write:asset"));
+
+            mockMvc.perform(putWithIfMatch(ARQUEBUS_TEST_ASSET_ID, "V.IV Rusty Updated", "W/\"0\""))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "The provided request parameters were invalid",
+                                "validationErrors": [
+                                    {
+                                        "field": "updateAsset.ifMatch",
+                                        "message": "must be * or a single strong entity tag"
+                                    }
+                                ]
+                            }"""));
+        }
+
+        private MockHttpServletRequestBuilder putWithIfMatch(String id, String name, String ifMatch)
+                throws Exception {
+            var requestBody = new AssetDto();
+            requestBody.setName(name);
+            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            requestBody.setServerUrl("https://arquebus.space/steel-haze");
+            return put(PATH_TEMPLATE.formatted(id))
+                    .header(HttpHeaders.IF_MATCH, ifMatch)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestBody))
+                    .with(bearerToken(ARQUEBUS_JWT));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for invalid URL parameters")
+        public void shouldReturn400ForInvalidUrlParameters() throws Exception {
+            registerArquebusJwtWithRoles(List.of("write:asset"));
+
+            var requestBody = new AssetDto();
+            requestBody.setName("V.IV Rusty");
+            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            requestBody.setServerUrl("https://arquebus.space/steel-haze-ortus");
+
+            sendPutRequestWithToken(PATH_TEMPLATE.formatted("notAUuid"), requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "The provided request parameters were invalid",
+                                "validationErrors": [
+                                    {
+                                        "field": "updateAsset.id",
+                                        "message": "must be a valid UUID"
+                                    }
+                                ]
+                            }"""));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for an invalid request body")
+        public void shouldReturn400ForInvalidRequestBody() throws Exception {
+            registerArquebusJwtWithRoles(List.of("write:asset"));
+
+            var requestBody = new AssetDto();
+            requestBody.setName("");
+            requestBody.setCreatedTimestamp("notATimestamp");
+            requestBody.setServerUrl("notAUrl");
+
+            sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "The provided request body was invalid",
+                                "validationErrors": [
+                                    {
+                                        "field": "requestBody.name",
+                                        "message": "size must be between 1 and 50"
+                                    },
+                                    {
+                                        "field": "requestBody.name",
+                                        "message": "must match \\"^\\\\p{javaLetter}[\\\\w\\\\s-_.]*$\\""
+                                    },
+                                    {
+                                        "field": "requestBody.name",
+                                        "message": "must not be empty"
+                                    },
+                                    {
+                                        "field": "requestBody.createdTimestamp",
+                                        "message": "must be a valid ISO-8601 date-time"
+                                    },
+                                    {
+                                        "field": "requestBody.serverUrl",
+                                        "message": "must be a valid URL"
+                                    }
+                                ]
+                            }"""));
+        }
+
+        @Test
+        @DisplayName("Should return status 401 for invalid authentication")
+        // TODO: Implement documented error response body
+        public void shouldReturn401ForInvalidAuthentication() throws Exception {
+            var requestBody = new AssetDto();
+            requestBody.setName("V.IV Rusty");
+            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            requestBody.setServerUrl("https://arquebus.space/steel-haze-ortus");
+
+            sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), requestBody, UNKNOWN_TENANT_JWT)
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(header().string("WWW-Authenticate",
+                            containsString("Bearer error=\"invalid_token\"")))
+                    .andExpect(header().string("WWW-Authenticate",
+                            containsString("Unknown tenant: https://idp.example.org/unknown-tenant")))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return status 403 for missing authentication")
+        // TODO: Implement documented error response body
+        public void shouldReturn403ForMissingAuthentication() throws Exception {
+            var requestBody = new AssetDto();
+            requestBody.setName("V.IV Rusty");
+            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            requestBody.setServerUrl("https://arquebus.space/steel-haze-ortus");
+
+            mockMvc.perform(put(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestBody)))
+                    .andExpect(status().isForbidden())
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return status 403 for inadequate permissions")
+        // TODO: Implement documented error response body
+        public void shouldReturn403ForInadequatePermissions() throws Exception {
+            registerArquebusJwtWithRoles(Collections.emptyList());
+
+            var requestBody = new AssetDto();
+            requestBody.setName("V.IV Rusty");
+            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            requestBody.setServerUrl("https://arquebus.space/steel-haze-ortus");
+
+            sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().isForbidden())
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return status 404 if entity with ID does not exist")
+        public void shouldReturn404ForNonexistentId() throws Exception {
+            registerArquebusJwtWithRoles(List.of("write:asset"));
+
+            var nonexistentId = "bc6a0ff7-793b-4d4d-986a-9dcc895bbe12";
+
+            var requestBody = new AssetDto();
+            requestBody.setName("V.I Freud");
+            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            requestBody.setServerUrl("https://arquebus.space/locksmit");
+
+            sendPutRequestWithToken(PATH_TEMPLATE.formatted(nonexistentId), requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "No Asset entity found with ID %s"
+                            }""".formatted(nonexistentId)
+                    ));
+        }
+
+        @Test
+        @DisplayName("Should return status 404 if entity with ID exists in different tenant")
+        public void shouldReturn404ForCrossTenantId() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("write:asset"));
+
+            var arquebusRequestBody = new AssetDto();
+            arquebusRequestBody.setName("ARQUEBUS RULES");
+            arquebusRequestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            arquebusRequestBody.setServerUrl("https://arquebus.space/balam-drools");
+
+            var balamRequestBody = new AssetDto();
+            balamRequestBody.setName("NO U");
+            balamRequestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            balamRequestBody.setServerUrl("https://balam.space/you-are-the-silly-man");
+
+            sendPutRequestWithToken(PATH_TEMPLATE.formatted(BALAM_TEST_ASSET_ID), arquebusRequestBody, ARQUEBUS_JWT)
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "No Asset entity found with ID %s"
+                            }""".formatted(BALAM_TEST_ASSET_ID)
+                    ));
+
+            sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), balamRequestBody, BALAM_JWT)
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "No Asset entity found with ID %s"
+                            }""".formatted(ARQUEBUS_TEST_ASSET_ID)
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("PUT /asset/batch")
+    public class PutAssetBatchTests {
+
+        private static final String PATH = "/asset/batch";
+
+        @Test
+        @DisplayName("Should return status 200 and report IDs that were not found")
+        public void shouldReturn200ForValidRequest() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            var existingAsset = new AssetDto();
+            existingAsset.setName("V.IV Rusty Ortus");
+            existingAsset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            existingAsset.setServerUrl("https://arquebus.space/steel-haze-ortus");
+
+            var existingRequestBody = new AssetUpdateDto();
+            existingRequestBody.setId(ARQUEBUS_TEST_ASSET_ID);
+            existingRequestBody.setAsset(existingAsset);
+
+            var crossTenantAsset = new AssetDto();
+            crossTenantAsset.setName("G5 Iguazu");
+            crossTenantAsset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            crossTenantAsset.setServerUrl("https://balam.space/mind-gamma");
+
+            var crossTenantRequestBody = new AssetUpdateDto();
+            crossTenantRequestBody.setId(BALAM_TEST_ASSET_ID);
+            crossTenantRequestBody.setAsset(crossTenantAsset);
+
+            sendPutRequestWithToken(PATH, List.of(existingRequestBody, crossTenantRequestBody), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().json("""
+                            {
+                                "results": [
+                                    {
+                                        "id": "%s",
+                                        "name": "V.IV Rusty Ortus",
+                                        "createdTimestamp": "1970-01-01T00:00:00.000Z",
+                                        "serverUrl": "https://arquebus.space/steel-haze-ortus"
+                                    }
+                                ],
+                                "notFound": ["%s"]
+                            }""".formatted(ARQUEBUS_TEST_ASSET_ID, BALAM_TEST_ASSET_ID)));
+
+            sendGetRequestWithToken("/asset/" + ARQUEBUS_TEST_ASSET_ID, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty Ortus"));
+        }
+
+        @Test
+        @DisplayName("Should update batches that span more than one chunk")
+        public void shouldUpdateBatchesSpanningMultipleChunks() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            List<AssetDto> newAssets = new ArrayList<>();
+            for (int i = 0; i <= AbstractEntityCrudService.READ_CHUNK_SIZE; i++) {
+                var asset = new AssetDto();
+                asset.setName("Arquebus MT " + i);
+                asset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+                newAssets.add(asset);
+            }
+            var created = getContentAs(
+                    sendPostRequestWithToken("/asset/batch", newAssets, ARQUEBUS_JWT)
+                            .andExpect(status().is2xxSuccessful())
+                            .andReturn(),
+                    Asset[].class
+            );
+
+            List<AssetUpdateDto> updates = new ArrayList<>();
+            for (Asset asset : created) {
+                var updatedAsset = new AssetDto();
+                updatedAsset.setName(asset.getName() + " Updated");
+                updatedAsset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+
+                var update = new AssetUpdateDto();
+                update.setId(asset.getId().toString());
+                update.setAsset(updatedAsset);
+                updates.add(update);
+            }
+
+            sendPutRequestWithToken(PATH, updates, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.results.length()").value(created.length))
+                    .andExpect(jsonPath("$.notFound.length()").value(0));
+
+            Asset last = created[created.length - 1];
+            sendGetRequestWithToken("/asset/" + last.getId(), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                    .andExpect(jsonPath("$.name").value(last.getName() + " Updated"));
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for an invalid item in the request body")
+        public void shouldReturn400ForInvalidRequestBody() throws Exception {
+            registerArquebusJwtWithRoles(List.of("write:asset"));
+
+            var asset = new AssetDto();
+            asset.setName("V.IV Rusty Ortus");
+            asset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            asset.setServerUrl("https://arquebus.space/steel-haze-ortus");
+
+            var requestBody = new AssetUpdateDto();
+            requestBody.setId("notAUuid");
+            requestBody.setAsset(asset);
+
+            sendPutRequestWithToken(PATH, List.of(requestBody), ARQUEBUS_JWT)
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "The provided request parameters were invalid",
+                                "validationErrors": [
+                                    {
+                                        "field": "updateAssets.assets[0].id",
+                                        "message": "must be a valid UUID"
+                                    }
+                                ]
+                            }"""));
+        }
+
+        @Test
+        @DisplayName("Should return status 403 for inadequate permissions")
+        // TODO: Implement documented error response body
+        public void shouldReturn403ForInadequatePermissions() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            var asset = new AssetDto();
+            asset.setName("V.IV Rusty Ortus");
+            asset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            asset.setServerUrl("https://arquebus.space/steel-haze-ortus");
+
+            var requestBody = new AssetUpdateDto();
+            requestBody.setId(ARQUEBUS_TEST_ASSET_ID);
+            requestBody.setAsset(asset);
+
+            sendPutRequestWithToken(PATH, List.of(requestBody), ARQUEBUS_JWT)
+                    .andExpect(status().isForbidden())
+                    .andExpect(content().string(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /asset/{id}")
+    public class DeleteAssetTests {
+
+        private static final String PATH_TEMPLATE = "/asset/%s";
+
+        @Test
+        @DisplayName("Should return status 204 for a valid request")
+        public void shouldReturn204ForValidRequest() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("write:asset"));
+
+            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().string(""));
+
+            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(BALAM_TEST_ASSET_ID), BALAM_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return status 404 if entity was already deleted")
+        public void shouldReturn404ForDeletedId() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            // Cache the Asset first, so that the delete has to evict it
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().isNoContent());
+
+            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().isNotFound());
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for invalid URL parameters")
+        public void shouldReturn400ForInvalidUrlParameters() throws Exception {
+            registerArquebusJwtWithRoles(List.of("write:asset"));
+
+            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted("notAUuid"), ARQUEBUS_JWT)
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "The provided request parameters were invalid",
+                                "validationErrors": [
+                                    {
+                                        "field": "deleteAsset.id",
+                                        "message": "must be a valid UUID"
+                                    }
+                                ]
+                            }"""
+                    ));
+        }
+
+        @Test
+        @DisplayName("Should return status 401 for invalid authentication")
+        // TODO: Implement documented error response body
+        public void shouldReturn401ForInvalidAuthentication() throws Exception {
+            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), UNKNOWN_TENANT_JWT)
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(header().string("WWW-Authenticate",
+                            containsString("Bearer error=\"invalid_token\"")))
+                    .andExpect(header().string("WWW-Authenticate",
+                            containsString("Unknown tenant: https://idp.example.org/unknown-tenant")))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return status 403 for missing authentication")
+        // TODO: Implement documented error response body
+        public void shouldReturn403ForMissingAuthentication() throws Exception {
+            mockMvc.perform(delete(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID)))
+                    .andExpect(status().isForbidden())
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return status 403 for inadequate permissions")
+        // TODO: Implement documented error response body
+        public void shouldReturn403ForInadequatePermissions() throws Exception {
+            registerArquebusJwtWithRoles(Collections.emptyList());
+
+            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().isForbidden())
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return status 404 if entity with ID does not exist")
+        public void shouldReturn404ForNonexistentId() throws Exception {
+            registerArquebusJwtWithRoles(List.of("write:asset"));
+
+            var nonexistentId = "bb4a7634-3563-42d6-b946-c16808d1ec4c";
+
+            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(nonexistentId), ARQUEBUS_JWT)
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "No Asset entity found with ID %s"
+                            }""".formatted(nonexistentId)
+                    ));
+        }
+
+        @Test
+        @DisplayName("Should return status 404 if entity with ID exists in different tenant")
+        public void shouldReturn404ForCrossTenantId() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("write:asset"));
+
+            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), BALAM_JWT)
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "No Asset entity found with ID %s"
+                            }""".formatted(ARQUEBUS_TEST_ASSET_ID)
+                    ));
+
+            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(BALAM_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "No Asset entity found with ID %s"
+                            }""".formatted(BALAM_TEST_ASSET_ID)
+                    ));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /asset/batch/delete")
+    public class DeleteAssetBatchTests {
+
+        private static final String PATH = "/asset/batch/delete";
+
+        @Test
+        @DisplayName("Should return status 200 and report IDs that were not found")
+        public void shouldReturn200ForValidRequest() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("read:asset", "write:asset"));
+
+            var nonexistentId = "bb4a7634-3563-42d6-b946-c16808d1ec4c";
+
+            sendPostRequestWithToken(PATH, List.of(ARQUEBUS_TEST_ASSET_ID, BALAM_TEST_ASSET_ID, nonexistentId),
+                    ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().json("""
+                            {
+                                "results": ["%s"],
+                                "notFound": ["%s", "%s"]
+                            }""".formatted(ARQUEBUS_TEST_ASSET_ID, BALAM_TEST_ASSET_ID, nonexistentId)));
+
+            sendGetRequestWithToken("/asset/" + ARQUEBUS_TEST_ASSET_ID, ARQUEBUS_JWT)
+                    .andExpect(status().isNotFound());
+
+            sendGetRequestWithToken("/asset/" + BALAM_TEST_ASSET_ID, BALAM_JWT)
+                    .andExpect(status().is2xxSuccessful());
+        }
+
+        @Test
+        @DisplayName("Should delete batches that span multiple chunks")
+        public void shouldDeleteBatchesSpanningMultipleChunks() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+
+            List<AssetDto> newAssets = new ArrayList<>();
+            for (int i = 0; i < AbstractEntityCrudService.READ_CHUNK_SIZE; i++) {
+                var asset = new AssetDto();
+                asset.setName("Arquebus MT " + i);
+                asset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+                newAssets.add(asset);
+            }
+            var created = getContentAs(
+                    sendPostRequestWithToken("/asset/batch", newAssets, ARQUEBUS_JWT)
+                            .andExpect(status().is2xxSuccessful())
+                            .andReturn(),
+                    Asset[].class
+            );
+
+            // The last ID of the first chunk doesn't exist, and the seeded Asset is the only ID in the second chunk
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < created.length - 1; i++) {
+                ids.add(created[i].getId().toString());
+            }
+            var nonexistentId = "bb4a7634-3563-42d6-b946-c16808d1ec4c";
+            ids.add(nonexistentId);
+            ids.add(ARQUEBUS_TEST_ASSET_ID);
+
+            sendPostRequestWithToken(PATH, ids, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.results.length()").value(created.length))
+                    .andExpect(jsonPath("$.results[%d]", created.length - 1).value(ARQUEBUS_TEST_ASSET_ID))
+                    .andExpect(jsonPath("$.notFound.length()").value(1))
+                    .andExpect(jsonPath("$.notFound[0]").value(nonexistentId));
+
+            sendGetRequestWithToken("/asset/" + ARQUEBUS_TEST_ASSET_ID, ARQUEBUS_JWT)
+                    .andExpect(status().isNotFound());
+            sendGetRequestWithToken("/asset/" + created[created.length - 1].getId(), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+        }
+
+        @Test
+        @DisplayName("Should return status 400 for an invalid ID in the request body")
+        public void shouldReturn400ForInvalidRequestBody() throws Exception {
+            registerArquebusJwtWithRoles(List.of("write:asset"));
+
+            sendPostRequestWithToken(PATH, List.of(ARQUEBUS_TEST_ASSET_ID, "notAUuid"), ARQUEBUS_JWT)
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "The provided request parameters were invalid",
+                                "validationErrors": [
+                                    {
+                                        "field": "deleteAssets.ids[1].<list element>",
+                                        "message": "must be a valid UUID"
+                                    }
+                                ]
+                            }"""));
+        }
+
+        @Test
+        @DisplayName("Should return status 403 for inadequate permissions")
+        // TODO: Implement documented error response body
+        public void shouldReturn403ForInadequatePermissions() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            sendPostRequestWithToken(PATH, List.of(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().isForbidden())
+                    .andExpect(content().string(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache invalidation messages")
+    public class CacheInvalidationTests {
+
+        private static final String PATH_TEMPLATE = "/asset/%s";
+        private static final String OTHER_NODE_ID = "other-node";
+
+        @Test
+        @DisplayName("Should evict an Asset that another node wrote")
+        public void shouldEvictAssetWrittenByOtherNode() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+            cacheAssetThenRenameBehindHibernatesBack();
+
+            cacheInvalidationHandler.handle(CacheInvalidationMessage.entities(
+                    OTHER_NODE_ID, "arquebus", "Asset", List.of(ARQUEBUS_TEST_ASSET_ID)
+            ).encode());
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty Renamed"));
+        }
+
+        @Test
+        @DisplayName("Should evict every Asset of the tenant when another node's message has no IDs")
+        public void shouldEvictAllAssetsOfTenantWithoutIds() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+            cacheAssetThenRenameBehindHibernatesBack();
+
+            cacheInvalidationHandler.handle(CacheInvalidationMessage.entities(
+                    OTHER_NODE_ID, "arquebus", "Asset", List.of()
+            ).encode());
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty Renamed"));
+        }
+
+        @Test
+        @DisplayName("Should ignore messages about other tenants and messages sent by this node")
+        public void shouldIgnoreOtherTenantsAndOwnMessages() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+            cacheAssetThenRenameBehindHibernatesBack();
+
+            cacheInvalidationHandler.handle(CacheInvalidationMessage.entities(
+                    OTHER_NODE_ID, "balam", "Asset", List.of()
+            ).encode());
+            cacheInvalidationHandler.handle(CacheInvalidationMessage.entities(
+                    cacheInvalidationHandler.getNodeId(), "arquebus", "Asset", List.of(ARQUEBUS_TEST_ASSET_ID)
+            ).encode());
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty"));
+        }
+
+        @Test
+        @DisplayName("Should drop the cached count when another node writes an Asset")
+        public void shouldEvictCachedCountWrittenByOtherNode() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            // Ask for a page past the end of the data, so the total can't be worked out from the page alone
+            var request = get("/asset").queryParam("countMode", "cached")
+                    .queryParam("pageSize", "1")
+                    .queryParam("pageNumber", "5")
+                    .with(bearerToken(ARQUEBUS_JWT));
+            mockMvc.perform(request)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(1));
+
+            String id = UUID.randomUUID().toString();
+            jdbcTemplate.update("INSERT INTO arquebus.asset (id, name, created_timestamp, server_url) "
+                    + "VALUES (?, 'V.I Freud', TIMESTAMP '1970-01-01 00:00:00', NULL)", UUID.fromString(id));
+            mockMvc.perform(request)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(1));
+
+            cacheInvalidationHandler.handle(CacheInvalidationMessage.entities(
+                    OTHER_NODE_ID, "arquebus", "Asset", List.of(id)
+            ).encode());
+
+            mockMvc.perform(request)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(2));
+        }
+
+        @Test
+        @DisplayName("Should look tenants up again after the tenant table changed")
+        public void shouldEvictTenantsWhenTenantTableChanges() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            jdbcTemplate.update("UPDATE public.tenant SET issuer = 'https://idp.example.org/moved' WHERE id = ?",
+                    "arquebus");
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            cacheInvalidationHandler.handle(CacheInvalidationMessage.tenants().encode());
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("Should ignore malformed messages")
+        public void shouldIgnoreMalformedMessages() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+            cacheAssetThenRenameBehindHibernatesBack();
+
+            cacheInvalidationHandler.handle("E;other-node;arquebus");
+            cacheInvalidationHandler.handle(CacheInvalidationMessage.entities(
+                    OTHER_NODE_ID, "arquebus", "NotAnEntity", List.of(ARQUEBUS_TEST_ASSET_ID)
+            ).encode());
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty"));
+        }
+
+        @Test
+        @DisplayName("Should replace IDs that don't fit in a notification payload with a wildcard")
+        public void shouldReplaceOversizedIdsWithWildcard() {
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                ids.add(UUID.randomUUID().toString());
+            }
+
+            String payload = CacheInvalidationMessage.entities(OTHER_NODE_ID, "arquebus", "Asset", ids).encode();
+
+            assertThat(payload.length(), is(lessThanOrEqualTo(CacheInvalidationMessage.MAX_PAYLOAD_BYTES)));
+            assertThat(CacheInvalidationMessage.decode(payload).ids(), is(equalTo(List.of())));
+        }
+
+        /**
+         * Caches the Arquebus test Asset, then renames it in the database without telling Hibernate, the way a write
+         * on another node would
+         */
+        private void cacheAssetThenRenameBehindHibernatesBack() throws Exception {
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+            jdbcTemplate.update("UPDATE arquebus.asset SET name = 'V.IV Rusty Renamed' WHERE id = ?",
+                    UUID.fromString(ARQUEBUS_TEST_ASSET_ID));
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Response cache")
+    public class ResponseCacheTests {
+
+        private static final String PATH_TEMPLATE = "/asset/%s";
+
+        @BeforeEach
+        public void enableResponseCache() {
+            responseCacheProperties.setEnabled(true);
+        }
 
-            mockMvc.perform(put(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID))
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .content(objectMapper.writeValueAsString(requestBody)))
-                    .andExpect(status().isForbidden())
-                    .andExpect(content().string(""));
+        @AfterEach
+        public void restoreResponseCacheProperties() {
+            responseCacheProperties.setEnabled(false);
+            responseCacheProperties.setGzip(false);
+            responseCacheProperties.setMaxSize(DataSize.ofMegabytes(64));
+            responseCache.evictAll();
         }
 
         @Test
-        @DisplayName("Should return status 403 for inadequate permissions")
-        // TODO: Implement documented error response body
-        public void shouldReturn403ForInadequatePermissions() throws Exception {
-            registerArquebusJwtWithRoles(Collections.emptyList());
+        @DisplayName("Should serve a repeated request for an Asset without reading the database")
+        public void shouldServeRepeatedAssetRequestFromResponseCache() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
 
-            var requestBody = new AssetDto();
-            requestBody.setName("V.IV Rusty");
-            requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
-            requestBody.setServerUrl("https://arquebus.space/steel-haze-ortus");
+            String path = PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID);
+            String firstResponse = sendGetRequestWithToken(path, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            double hitsBefore = getResponseCacheHitCount("arquebus");
+            long checkoutsBefore = getConnectionCheckoutCount("arquebus");
+
+            // Renaming the Asset behind the application's back shows that the cached response is served as it was
+            jdbcTemplate.update("UPDATE arquebus.asset SET name = 'V.IV Rusty Renamed' WHERE id = ?",
+                    UUID.fromString(ARQUEBUS_TEST_ASSET_ID));
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                    .andExpect(content().string(firstResponse));
 
-            sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), requestBody, ARQUEBUS_JWT)
-                    .andExpect(status().isForbidden())
+            assertThat(getResponseCacheHitCount("arquebus"), is(equalTo(hitsBefore + 1)));
+            assertThat(getConnectionCheckoutCount("arquebus"), is(equalTo(checkoutsBefore)));
+        }
+
+        @Test
+        @DisplayName("Should neither serialize nor cache a response the client already has")
+        public void shouldNotCacheResponseMatchingIfNoneMatch() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            mockMvc.perform(get(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID))
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                            .with(bearerToken(ARQUEBUS_JWT)))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
                     .andExpect(content().string(""));
+            assertThat(responseCache.getTotalBytes(), is(equalTo(0L)));
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+            assertThat(responseCache.getTotalBytes(), is(greaterThan(0L)));
         }
 
         @Test
-        @DisplayName("Should return status 404 if entity with ID does not exist")
-        public void shouldReturn404ForNonexistentId() throws Exception {
-            registerArquebusJwtWithRoles(List.of("write:asset"));
+        @DisplayName("Should drop the tenant's cached responses when the tenant writes an Asset")
+        public void shouldEvictTenantResponsesOnWrite() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("read:asset", "write:asset"));
 
-            var nonexistentId = "bc6a0ff7-793b-4d4d-986a-9dcc895bbe12";
+            sendGetRequestWithToken("/asset", ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(1));
+            sendGetRequestWithToken("/asset", BALAM_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(1));
+            double balamHitsBefore = getResponseCacheHitCount("balam");
 
             var requestBody = new AssetDto();
             requestBody.setName("V.I Freud");
             requestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
-            requestBody.setServerUrl("https://arquebus.space/locksmit");
+            requestBody.setServerUrl("https://arquebus.space/locksmith");
+            sendPostRequestWithToken("/asset", requestBody, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
 
-            sendPutRequestWithToken(PATH_TEMPLATE.formatted(nonexistentId), requestBody, ARQUEBUS_JWT)
-                    .andExpect(status().isNotFound())
-                    .andExpect(content().json("""
-                            {
-                                "errorMessage": "No Asset entity found with ID %s"
-                            }""".formatted(nonexistentId)
-                    ));
+            sendGetRequestWithToken("/asset", ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(2));
+            sendGetRequestWithToken("/asset", BALAM_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(1));
+            assertThat(getResponseCacheHitCount("balam"), is(equalTo(balamHitsBefore + 1)));
         }
 
         @Test
-        @DisplayName("Should return status 404 if entity with ID exists in different tenant")
-        public void shouldReturn404ForCrossTenantId() throws Exception {
-            registerAllTenantJwtsWithRoles(List.of("write:asset"));
+        @DisplayName("Should not serve a cached response to a different tenant")
+        public void shouldNotServeCachedResponseToDifferentTenant() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("read:asset"));
 
-            var arquebusRequestBody = new AssetDto();
-            arquebusRequestBody.setName("ARQUEBUS RULES");
-            arquebusRequestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
-            arquebusRequestBody.setServerUrl("https://arquebus.space/balam-drools");
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
 
-            var balamRequestBody = new AssetDto();
-            balamRequestBody.setName("NO U");
-            balamRequestBody.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
-            balamRequestBody.setServerUrl("https://balam.space/you-are-the-silly-man");
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), BALAM_JWT)
+                    .andExpect(status().isNotFound());
+        }
 
-            sendPutRequestWithToken(PATH_TEMPLATE.formatted(BALAM_TEST_ASSET_ID), arquebusRequestBody, ARQUEBUS_JWT)
-                    .andExpect(status().isNotFound())
+        @Test
+        @DisplayName("Should send gzipped responses only to clients that accept them")
+        public void shouldSendGzippedResponsesToClientsThatAcceptThem() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+            responseCacheProperties.setGzip(true);
+
+            String path = PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID);
+            String plainResponse = sendGetRequestWithToken(path, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            byte[] gzippedResponse = mockMvc.perform(get(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID))
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                            .with(bearerToken(ARQUEBUS_JWT)))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsByteArray();
+            try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(gzippedResponse))) {
+                assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8),
+                        is(equalTo(plainResponse)));
+            }
+
+            sendGetRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                    .andExpect(content().string(plainResponse));
+        }
+
+        @Test
+        @DisplayName("Should evict the least recently used responses to stay within its maximum size")
+        public void shouldEvictLeastRecentlyUsedResponses() {
+            byte[] response = "{\"name\":\"V.IV Rusty\"}".getBytes(StandardCharsets.UTF_8);
+            responseCacheProperties.setMaxSize(DataSize.ofBytes(response.length * 2L));
+
+            long generation = responseCache.currentGeneration();
+            responseCache.put("first", generation, response, null);
+            responseCache.put("second", generation, response, null);
+            responseCache.get("first", false);
+            responseCache.put("third", generation, response, null);
+
+            assertThat(responseCache.get("first", false).isPresent(), is(true));
+            assertThat(responseCache.get("second", false).isPresent(), is(false));
+            assertThat(responseCache.get("third", false).isPresent(), is(true));
+            assertThat(responseCache.getTotalBytes(), is(equalTo(response.length * 2L)));
+        }
+
+        @Test
+        @DisplayName("Should evict the caching tenant's own responses before any other tenant's")
+        public void shouldEvictCachingTenantsResponsesFirst() {
+            byte[] response = "{\"name\":\"V.IV Rusty\"}".getBytes(StandardCharsets.UTF_8);
+            responseCacheProperties.setMaxSize(DataSize.ofBytes(response.length * 2L));
+
+            try {
+                TenantContext.setTenantId("balam");
+                responseCache.put("first", responseCache.currentGeneration(), response, null);
+                TenantContext.setTenantId("arquebus");
+                responseCache.put("first", responseCache.currentGeneration(), response, null);
+                responseCache.put("second", responseCache.currentGeneration(), response, null);
+
+                assertThat(responseCache.get("first", false).isPresent(), is(false));
+                assertThat(responseCache.get("second", false).isPresent(), is(true));
+                TenantContext.setTenantId("balam");
+                assertThat(responseCache.get("first", false).isPresent(), is(true));
+            } finally {
+                TenantContext.clear();
+            }
+        }
+
+        @Test
+        @DisplayName("Should drop only the written tenant's responses")
+        public void shouldDropOnlyWrittenTenantsResponses() {
+            byte[] response = "{\"name\":\"V.IV Rusty\"}".getBytes(StandardCharsets.UTF_8);
+
+            try {
+                TenantContext.setTenantId("arquebus");
+                responseCache.put("first", responseCache.currentGeneration(), response, null);
+                TenantContext.setTenantId("balam");
+                long balamGeneration = responseCache.currentGeneration();
+                responseCache.put("first", balamGeneration, response, null);
+
+                responseCache.evictTenant("arquebus");
+
+                assertThat(responseCache.get("first", false).isPresent(), is(true));
+                assertThat(responseCache.currentGeneration(), is(equalTo(balamGeneration)));
+                assertThat(responseCache.getTotalBytes(), is(equalTo((long) response.length)));
+                TenantContext.setTenantId("arquebus");
+                assertThat(responseCache.get("first", false).isPresent(), is(false));
+            } finally {
+                TenantContext.clear();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Asynchronous execution")
+    public class AsyncExecutionTests {
+
+        private final CountDownLatch releaseExecutor = new CountDownLatch(1);
+
+        @BeforeEach
+        public void enableAsyncExecution() {
+            asyncProperties.setEnabled(true);
+        }
+
+        @AfterEach
+        public void restoreAsyncProperties() {
+            releaseExecutor.countDown();
+            asyncProperties.setEnabled(false);
+            asyncProperties.setTimeout(Duration.ofSeconds(10));
+        }
+
+        @Test
+        @DisplayName("Should handle requests on the requesting tenant's executor")
+        public void shouldHandleRequestsOnTenantExecutor() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("read:asset", "write:asset"));
+
+            var asset = new AssetDto();
+            asset.setName("V.II Snail");
+            asset.setCreatedTimestamp("1970-01-01T00:00:00.000Z");
+            var createResult = sendPostRequestWithToken("/asset", asset, ARQUEBUS_JWT)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(createResult))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value("V.II Snail"));
+
+            var readResult = sendGetRequestWithToken("/asset/" + ARQUEBUS_TEST_ASSET_ID, ARQUEBUS_JWT)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(readResult))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                    .andExpect(jsonPath("$.name").value("V.IV Rusty"));
+
+            var pageResult = sendGetRequestWithToken("/asset", ARQUEBUS_JWT)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(pageResult))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.totalElements").value(2));
+
+            // The tenant is carried over to the executor, so another tenant's Asset can't be found
+            var otherTenantResult = sendGetRequestWithToken("/asset/" + ARQUEBUS_TEST_ASSET_ID, BALAM_JWT)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(otherTenantResult))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Should still answer conditional requests with status 304")
+        public void shouldReturn304ForMatchingEntityTag() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            var mvcResult = mockMvc.perform(
+                            get("/asset/" + ARQUEBUS_TEST_ASSET_ID)
+                                    .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("Should return status 503 if the request isn't handled within the timeout")
+        public void shouldReturn503OnTimeout() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+            asyncProperties.setTimeout(Duration.ofMillis(100));
+            occupyArquebusExecutor(0);
+
+            var mvcResult = sendGetRequestWithToken("/asset/" + ARQUEBUS_TEST_ASSET_ID, ARQUEBUS_JWT)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isServiceUnavailable())
                     .andExpect(content().json("""
                             {
-                                "errorMessage": "No Asset entity found with ID %s"
-                            }""".formatted(BALAM_TEST_ASSET_ID)
-                    ));
+                                "errorMessage": "The request was not handled in time"
+                            }"""));
+        }
 
-            sendPutRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), balamRequestBody, BALAM_JWT)
-                    .andExpect(status().isNotFound())
+        @Test
+        @DisplayName("Should return status 503 if the tenant's executor is full, without affecting other tenants")
+        public void shouldReturn503WhenExecutorIsFull() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("read:asset"));
+            occupyArquebusExecutor(asyncProperties.getQueueCapacity());
+
+            var mvcResult = sendGetRequestWithToken("/asset/" + ARQUEBUS_TEST_ASSET_ID, ARQUEBUS_JWT)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isServiceUnavailable())
                     .andExpect(content().json("""
                             {
-                                "errorMessage": "No Asset entity found with ID %s"
-                            }""".formatted(ARQUEBUS_TEST_ASSET_ID)
-                    ));
+                                "errorMessage": "Too many requests are being handled for this tenant"
+                            }"""));
+
+            var otherTenantResult = sendGetRequestWithToken("/asset/" + BALAM_TEST_ASSET_ID, BALAM_JWT)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(otherTenantResult))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value("G5 Iguazu"));
+        }
+
+        @Test
+        @DisplayName("Should validate requests before handing them off")
+        public void shouldReturn400WithoutHandingOff() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            sendGetRequestWithToken("/asset/not-a-uuid", ARQUEBUS_JWT)
+                    .andExpect(request().asyncNotStarted())
+                    .andExpect(status().is(400));
+        }
+
+        @Test
+        @DisplayName("Should not hand the request itself to the tenant's executor")
+        public void shouldNotExposeRequestToExecutor() throws Exception {
+            TenantContext.setTenantId("arquebus");
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            try {
+                assertThat(tenantExecutors.supplyAsync(RequestContextHolder::getRequestAttributes)
+                        .get(10, TimeUnit.SECONDS), is(nullValue()));
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+                TenantContext.clear();
+            }
+        }
+
+        @Test
+        @DisplayName("Should still send gzipped cached responses to clients that accept them")
+        public void shouldSendGzippedResponsesFromExecutor() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+            responseCacheProperties.setEnabled(true);
+            responseCacheProperties.setGzip(true);
+            try {
+                String path = "/asset/" + ARQUEBUS_TEST_ASSET_ID;
+                var plainResult = sendGetRequestWithToken(path, ARQUEBUS_JWT)
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+                mockMvc.perform(asyncDispatch(plainResult))
+                        .andExpect(status().is2xxSuccessful())
+                        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+
+                var gzipResult = mockMvc.perform(get(path)
+                                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                                .with(bearerToken(ARQUEBUS_JWT)))
+                        .andExpect(request().asyncStarted())
+                        .andReturn();
+                mockMvc.perform(asyncDispatch(gzipResult))
+                        .andExpect(status().is2xxSuccessful())
+                        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+            } finally {
+                responseCacheProperties.setEnabled(false);
+                responseCacheProperties.setGzip(false);
+                responseCache.evictAll();
+            }
+        }
+
+        /**
+         * Blocks every thread of the arquebus tenant's executor until the end of the test, then submits some more
+         * blocking tasks to its queue
+         */
+        private void occupyArquebusExecutor(int queuedTaskCount) throws InterruptedException {
+            int threadCount = asyncProperties.getThreadsPerTenant();
+            CountDownLatch threadsBlocked = new CountDownLatch(threadCount);
+            TenantContext.setTenantId("arquebus");
+            try {
+                for (int i = 0; i < threadCount; i++) {
+                    tenantExecutors.supplyAsync(() -> {
+                        threadsBlocked.countDown();
+                        return awaitRelease();
+                    });
+                }
+                assertThat(threadsBlocked.await(10, TimeUnit.SECONDS), is(true));
+                for (int i = 0; i < queuedTaskCount; i++) {
+                    tenantExecutors.supplyAsync(this::awaitRelease);
+                }
+            } finally {
+                TenantContext.clear();
+            }
+        }
+
+        private boolean awaitRelease() {
+            try {
+                return releaseExecutor.await(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
         }
     }
 
     @Nested
-    @DisplayName("DELETE /asset/{id}")
-    public class DeleteAssetTests {
+    @DisplayName("GET /reactive/asset")
+    public class ReactiveAssetTests {
 
-        private static final String PATH_TEMPLATE = "/asset/%s";
+        @Test
+        @DisplayName("Should return the same Asset as the blocking endpoint")
+        public void shouldReturnAsset() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset"));
+
+            String blockingResponse = sendGetRequestWithToken("/asset/" + ARQUEBUS_TEST_ASSET_ID, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+            var mvcResult = sendGetRequestWithToken("/reactive/asset/" + ARQUEBUS_TEST_ASSET_ID, ARQUEBUS_JWT)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(content().json(blockingResponse, true));
+        }
 
         @Test
-        @DisplayName("Should return status 204 for a valid request")
-        public void shouldReturn204ForValidRequest() throws Exception {
-            registerAllTenantJwtsWithRoles(List.of("write:asset"));
+        @DisplayName("Should return status 404 for an Asset of another tenant")
+        public void shouldReturn404ForOtherTenantsAsset() throws Exception {
+            registerBalamJwtWithRoles(List.of("read:asset"));
 
-            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+            var mvcResult = sendGetRequestWithToken("/reactive/asset/" + ARQUEBUS_TEST_ASSET_ID, BALAM_JWT)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().json("""
+                            {
+                                "errorMessage": "No Asset entity found with ID 7471da05-d4ba-4531-ab64-755b94c88635"
+                            }"""));
+        }
+
+        @Test
+        @DisplayName("Should return a sorted, counted page of Assets")
+        public void shouldReturnPage() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+            var located = new AssetDto();
+            located.setName("V.II Snail");
+            located.setCreatedTimestamp("1970-01-02T00:00:00.000Z");
+            located.setLocation(new GeoPoint(-122.4194, 37.7749));
+            var unlocated = new AssetDto();
+            unlocated.setName("V.I Freud");
+            unlocated.setCreatedTimestamp("1970-01-03T00:00:00.000Z");
+            sendPostRequestWithToken("/asset/batch", List.of(located, unlocated), ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            var mvcResult = mockMvc.perform(
+                            get("/reactive/asset").queryParam("pageSize", "2")
+                                    .queryParam("sortField", "name")
+                                    .queryParam("sortDirection", "desc")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(mvcResult))
                     .andExpect(status().is2xxSuccessful())
-                    .andExpect(content().string(""));
+                    .andExpect(jsonPath("$.totalElements").value(3))
+                    .andExpect(jsonPath("$.totalPages").value(2))
+                    .andExpect(jsonPath("$.content", hasSize(2)))
+                    .andExpect(jsonPath("$.content[0].name").value("V.IV Rusty"))
+                    .andExpect(jsonPath("$.content[1].name").value("V.II Snail"))
+                    .andExpect(jsonPath("$.content[1].createdTimestamp").value("1970-01-02T00:00:00.000Z"))
+                    .andExpect(jsonPath("$.content[1].location.longitude").value(-122.4194))
+                    .andExpect(jsonPath("$.content[1].location.latitude").value(37.7749));
+        }
 
-            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(BALAM_TEST_ASSET_ID), BALAM_JWT)
+        @Test
+        @DisplayName("Should stream every Asset of the requesting tenant as newline-delimited JSON")
+        public void shouldExportAssets() throws Exception {
+            registerAllTenantJwtsWithRoles(List.of("read:asset"));
+
+            var mvcResult = sendGetRequestWithToken("/reactive/asset/export", BALAM_JWT)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            String body = mockMvc.perform(asyncDispatch(mvcResult))
                     .andExpect(status().is2xxSuccessful())
-                    .andExpect(content().string(""));
+                    .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            List<String> lines = body.lines().filter(line -> !line.isBlank()).toList();
+            assertThat(lines.size(), is(equalTo(1)));
+            assertThat(objectMapper.readTree(lines.get(0)).path("id").asText(), is(equalTo(BALAM_TEST_ASSET_ID)));
         }
 
         @Test
         @DisplayName("Should return status 400 for invalid URL parameters")
         public void shouldReturn400ForInvalidUrlParameters() throws Exception {
-            registerArquebusJwtWithRoles(List.of("write:asset"));
+            registerArquebusJwtWithRoles(List.of("read:asset"));
 
-            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted("notAUuid"), ARQUEBUS_JWT)
-                    .andExpect(status().isBadRequest())
+            mockMvc.perform(
+                            get("/reactive/asset").queryParam("pageSize", "0")
+                                    .queryParam("sortField", "serverUrl")
+                                    .with(bearerToken(ARQUEBUS_JWT))
+                    )
+                    .andExpect(request().asyncNotStarted())
+                    .andExpect(status().is(400))
+                    .andExpect(jsonPath("$.validationErrors", hasSize(2)));
+            sendGetRequestWithToken("/reactive/asset/not-a-uuid", ARQUEBUS_JWT)
+                    .andExpect(request().asyncNotStarted())
+                    .andExpect(status().is(400))
                     .andExpect(content().json("""
                             {
                                 "errorMessage": "The provided request parameters were invalid",
                                 "validationErrors": [
                                     {
-                                        "field": "deleteAsset.id",
+                                        "field": "getAsset.id",
                                         "message": "must be a valid UUID"
                                     }
                                 ]
-                            }"""
-                    ));
-        }
-
-        @Test
-        @DisplayName("Should return status 401 for invalid authentication")
-        // TODO: Implement documented error response body
-        public void shouldReturn401ForInvalidAuthentication() throws Exception {
-            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), UNKNOWN_TENANT_JWT)
-                    .andExpect(status().isUnauthorized())
-                    .andExpect(header().string("WWW-Authenticate",
-                            containsString("Bearer error=\"invalid_token\"")))
-                    .andExpect(header().string("WWW-Authenticate",
-                            containsString("Unknown tenant: https://idp.example.org/unknown-tenant")))
-                    .andExpect(content().string(""));
-        }
-
-        @Test
-        @DisplayName("Should return status 403 for missing authentication")
-        // TODO: Implement documented error response body
-        public void shouldReturn403ForMissingAuthentication() throws Exception {
-            mockMvc.perform(delete(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID)))
-                    .andExpect(status().isForbidden())
-                    .andExpect(content().string(""));
+                            }"""));
         }
 
         @Test
@@ -768,47 +3351,42 @@ public class AssetControllerIT extends AbstractControllerIT {
         public void shouldReturn403ForInadequatePermissions() throws Exception {
             registerArquebusJwtWithRoles(Collections.emptyList());
 
-            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), ARQUEBUS_JWT)
+            sendGetRequestWithToken("/reactive/asset/" + ARQUEBUS_TEST_ASSET_ID, ARQUEBUS_JWT)
                     .andExpect(status().isForbidden())
                     .andExpect(content().string(""));
         }
+    }
 
-        @Test
-        @DisplayName("Should return status 404 if entity with ID does not exist")
-        public void shouldReturn404ForNonexistentId() throws Exception {
-            registerArquebusJwtWithRoles(List.of("write:asset"));
+    @Nested
+    @DisplayName("GET /actuator/metrics")
+    public class MetricsEndpointTests {
 
-            var nonexistentId = "bb4a7634-3563-42d6-b946-c16808d1ec4c";
+        private static final String PATH =
+                "/actuator/metrics/" + MultiTenantSchemaConnectionProvider.CONNECTION_HOLD_TIMER;
 
-            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(nonexistentId), ARQUEBUS_JWT)
-                    .andExpect(status().isNotFound())
-                    .andExpect(content().json("""
-                            {
-                                "errorMessage": "No Asset entity found with ID %s"
-                            }""".formatted(nonexistentId)
-                    ));
+        @Test
+        @DisplayName("Should return status 403 for a user without the metrics role")
+        public void shouldReturn403WithoutMetricsRole() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", "write:asset"));
+            sendGetRequestWithToken("/asset/" + ARQUEBUS_TEST_ASSET_ID, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
+
+            sendGetRequestWithToken(PATH, ARQUEBUS_JWT)
+                    .andExpect(status().isForbidden());
+            sendGetRequestWithToken("/actuator/metrics", ARQUEBUS_JWT)
+                    .andExpect(status().isForbidden());
         }
 
         @Test
-        @DisplayName("Should return status 404 if entity with ID exists in different tenant")
-        public void shouldReturn404ForCrossTenantId() throws Exception {
-            registerAllTenantJwtsWithRoles(List.of("write:asset"));
-
-            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(ARQUEBUS_TEST_ASSET_ID), BALAM_JWT)
-                    .andExpect(status().isNotFound())
-                    .andExpect(content().json("""
-                            {
-                                "errorMessage": "No Asset entity found with ID %s"
-                            }""".formatted(ARQUEBUS_TEST_ASSET_ID)
-                    ));
+        @DisplayName("Should return the metrics of every tenant for a user with the metrics role")
+        public void shouldReturnMetricsWithMetricsRole() throws Exception {
+            registerArquebusJwtWithRoles(List.of("read:asset", AuthConfig.METRICS_ROLE));
+            sendGetRequestWithToken("/asset/" + ARQUEBUS_TEST_ASSET_ID, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful());
 
-            sendDeleteRequestWithToken(PATH_TEMPLATE.formatted(BALAM_TEST_ASSET_ID), ARQUEBUS_JWT)
-                    .andExpect(status().isNotFound())
-                    .andExpect(content().json("""
-                            {
-                                "errorMessage": "No Asset entity found with ID %s"
-                            }""".formatted(BALAM_TEST_ASSET_ID)
-                    ));
+            sendGetRequestWithToken(PATH, ARQUEBUS_JWT)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.name").value(MultiTenantSchemaConnectionProvider.CONNECTION_HOLD_TIMER));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,189 @@
+package com.mromanak.multitenant.test.service;
+
+import com.mromanak.multitenant.test.model.CursorPage;
+import com.mromanak.multitenant.test.model.KeysetCursor;
+import com.mromanak.multitenant.test.model.entity.Asset;
+import io.quantics.multitenant.TenantContext;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Checks the query plans PostgreSQL chooses for keyset pages, which H2 can't tell us anything about. The statements are
+ * the ones Hibernate actually sends, captured with a {@link StatementInspector} and explained with
+ * {@code EXPLAIN (GENERIC_PLAN)}, so the parameters don't need to be bound.
+ * <p/>
+ * Needs Docker to start a PostGIS container, and is skipped when Docker isn't available.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.mromanak.multitenant.test.service.AssetKeysetQueryPlanIT$StatementRecorder"
+})
+@ActiveProfiles("prod")
+@Testcontainers(disabledWithoutDocker = true)
+public class AssetKeysetQueryPlanIT {
+
+    private static final String TENANT = "arquebus";
+    private static final int ASSET_COUNT = 10_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres")
+    ).withDatabaseName("multitenant");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @MockBean
+    protected JwtDecoder mockJwtDecoder;
+
+    private final AssetService assetService;
+    private final DataSource dataSource;
+
+    @Autowired
+    public AssetKeysetQueryPlanIT(AssetService assetService, DataSource dataSource) {
+        this.assetService = assetService;
+        this.dataSource = dataSource;
+    }
+
+    @BeforeEach
+    public void createAssets() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE " + TENANT + ".asset");
+            statement.execute("INSERT INTO " + TENANT + ".asset (id, name, created_timestamp) "
+                    + "SELECT gen_random_uuid(), 'Asset ' || i, now() - i * interval '1 minute' "
+                    + "FROM generate_series(1, " + ASSET_COUNT + ") AS i");
+            statement.execute("ANALYZE " + TENANT + ".asset");
+        }
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @CsvSource({
+            "name, ASC, name",
+            "name, DESC, name",
+            "createdTimestamp, ASC, created_timestamp",
+            "createdTimestamp, DESC, created_timestamp"
+    })
+    @DisplayName("Should seek to the cursor's position with an index condition rather than a filter")
+    public void shouldSeekWithAnIndexCondition(String sortField, Sort.Direction direction, String column)
+            throws SQLException {
+        String sql = captureNextPageQuery(sortField, direction);
+
+        List<String> plan = explainGenericPlan(sql);
+        String indexConditions = plan.stream()
+                .filter(line -> line.contains("Index Cond:"))
+                .collect(Collectors.joining("\n"));
+        assertThat(String.join("\n", plan), indexConditions, containsString(column));
+    }
+
+    private String captureNextPageQuery(String sortField, Sort.Direction direction) {
+        TenantContext.setTenantId(TENANT);
+        try {
+            CursorPage<Asset> firstPage = assetService.readKeysetPage(KeysetCursor.start(sortField, direction), 10);
+            assertThat(firstPage.getNextCursor(), is(notNullValue()));
+
+            StatementRecorder.clear();
+            assetService.readKeysetPage(KeysetCursor.decode(firstPage.getNextCursor()), 10);
+            return StatementRecorder.lastMatching(" from asset ");
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    /**
+     * Explains a statement with its JDBC placeholders replaced by numbered ones. Sequential scans are disabled, so the
+     * plan shows how an index is used even when the planner would rather read the whole (small) table
+     */
+    private List<String> explainGenericPlan(String sql) throws SQLException {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL search_path TO " + TENANT + ", public");
+                statement.execute("SET LOCAL enable_seqscan = off");
+                List<String> plan = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numbered)) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+                return plan;
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Records every statement Hibernate prepares, without changing any of them
+     */
+    public static class StatementRecorder implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (STATEMENTS) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+
+        static void clear() {
+            synchronized (STATEMENTS) {
+                STATEMENTS.clear();
+            }
+        }
+
+        static String lastMatching(String fragment) {
+            synchronized (STATEMENTS) {
+                for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+                    if (STATEMENTS.get(i).contains(fragment)) {
+                        return STATEMENTS.get(i);
+                    }
+                }
+            }
+            throw new AssertionError("No statement containing '" + fragment + "' was prepared");
+        }
+    }
+}
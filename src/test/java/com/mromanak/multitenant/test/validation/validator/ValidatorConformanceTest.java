@@ -0,0 +1,296 @@
+package com.mromanak.multitenant.test.validation.validator;
+
+import com.mromanak.multitenant.test.model.Iso8601Timestamps;
+import com.mromanak.multitenant.test.validation.ValidationUtils;
+import org.hibernate.validator.constraints.URL;
+import org.hibernate.validator.internal.constraintvalidators.hv.URLValidator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.validation.ConstraintValidator;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the hand-written validators accept and reject exactly the same strings as the regular expressions (or,
+ * for server URLs, the Hibernate validator plus {@link URI} parsing) they replaced. Timestamps must also be parseable.
+ */
+class ValidatorConformanceTest {
+
+    private static final long SEED = 0x5EED;
+    private static final int RANDOM_SAMPLES = 200_000;
+
+    @Nested
+    class NameValidatorTests {
+
+        private final Predicate<String> reference = regex(ValidationUtils.NAME_PATTERN);
+        private final NameValidator validator = new NameValidator();
+
+        @Test
+        void everyCodePointAsFirstCharacter() {
+            Mismatches mismatches = new Mismatches(reference, validator);
+            for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+                mismatches.check(new String(Character.toChars(codePoint)));
+            }
+            mismatches.assertNone();
+        }
+
+        @Test
+        void everyCharacterAfterFirstCharacter() {
+            Mismatches mismatches = new Mismatches(reference, validator);
+            for (String first : List.of("a", "é", "𝐀")) {
+                for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+                    mismatches.check(first + (char) c);
+                    mismatches.check(first + (char) c + "z");
+                }
+            }
+            mismatches.assertNone();
+        }
+
+        @Test
+        void everyShortStringOverInterestingCharacters() {
+            String[] alphabet = {
+                    "", "a", "Z", "0", "_", "-", ".", " ", "\t", "\n", "\u000B", "\f", "\r", " ", " ", "|",
+                    "\\", "$", "é", "٠", "𝐀", "\uD835", "\uDC00"
+            };
+            Mismatches mismatches = new Mismatches(reference, validator);
+            for (String a : alphabet) {
+                for (String b : alphabet) {
+                    for (String c : alphabet) {
+                        mismatches.check(a + b + c);
+                    }
+                }
+            }
+            mismatches.assertNone();
+        }
+
+        @Test
+        void randomStrings() {
+            Mismatches mismatches = new Mismatches(reference, validator);
+            Random random = new Random(SEED);
+            for (int i = 0; i < RANDOM_SAMPLES; i++) {
+                mismatches.check(randomString(random, "aZ09_-. \t\né /", 12));
+            }
+            mismatches.assertNone();
+        }
+    }
+
+    @Nested
+    class Iso8601DateTimeValidatorTests {
+
+        private final Predicate<String> reference =
+                regex(ValidationUtils.ISO_8601_DATE_PATTERN).and(Iso8601DateTimeValidatorTests::isParseable);
+        private final Iso8601DateTimeValidator validator = new Iso8601DateTimeValidator();
+        private final List<String> samples = List.of(
+                ValidationUtils.ISO_8601_DATE_EXAMPLE_OBJECT,
+                "2023-10-19T13:45:30.123+05:30",
+                "2023-10-19T13:45:30.123-08:00"
+        );
+
+        @Test
+        void everyCharacterAtEveryPosition() {
+            Mismatches mismatches = new Mismatches(reference, validator);
+            for (String sample : samples) {
+                for (int position = 0; position < sample.length(); position++) {
+                    for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+                        mismatches.check(sample.substring(0, position) + (char) c + sample.substring(position + 1));
+                    }
+                }
+            }
+            mismatches.assertNone();
+        }
+
+        @Test
+        void everyTruncationInsertionAndDeletion() {
+            Mismatches mismatches = new Mismatches(reference, validator);
+            for (String sample : samples) {
+                for (int position = 0; position <= sample.length(); position++) {
+                    mismatches.check(sample.substring(0, position));
+                    mismatches.check(sample.substring(position));
+                    if (position < sample.length()) {
+                        mismatches.check(sample.substring(0, position) + sample.substring(position + 1));
+                    }
+                    for (char c : "0Z+-|:.T \n".toCharArray()) {
+                        mismatches.check(sample.substring(0, position) + c + sample.substring(position));
+                    }
+                }
+            }
+            mismatches.assertNone();
+        }
+
+        @Test
+        void randomStrings() {
+            Mismatches mismatches = new Mismatches(reference, validator);
+            Random random = new Random(SEED);
+            for (int i = 0; i < RANDOM_SAMPLES; i++) {
+                String sample = samples.get(random.nextInt(samples.size()));
+                char[] chars = sample.toCharArray();
+                for (int j = random.nextInt(3); j >= 0; j--) {
+                    chars[random.nextInt(chars.length)] = "0123456789-T:.Z+|x".charAt(random.nextInt(18));
+                }
+                mismatches.check(new String(chars));
+            }
+            mismatches.assertNone();
+        }
+
+        @Test
+        void everyValueOfEveryNumericField() {
+            Mismatches mismatches = new Mismatches(reference, validator);
+            List<String> edgeSamples = new ArrayList<>(samples);
+            edgeSamples.add("2024-02-29T24:00:00.000+18:00");
+            for (String sample : edgeSamples) {
+                Matcher field = Pattern.compile("[0-9]+").matcher(sample);
+                while (field.find()) {
+                    int length = field.end() - field.start();
+                    for (int n = 0; n < Math.pow(10, length); n++) {
+                        String digits = String.format("%0" + length + "d", n);
+                        mismatches.check(sample.substring(0, field.start()) + digits + sample.substring(field.end()));
+                    }
+                }
+            }
+            mismatches.assertNone();
+        }
+
+        @Test
+        void outOfRangeFieldsAndPipeSign() {
+            for (String value : List.of("2020-13-45T00:00:00.000Z", "2020-01-01T25:00:00.000Z",
+                    "2020-01-01T00:00:00.000+19:00", "2020-01-01T00:00:00.000|05:00")) {
+                assertThat(validator.isValid(value, null)).as(value).isFalse();
+            }
+        }
+
+        private static boolean isParseable(String value) {
+            try {
+                Iso8601Timestamps.parse(value);
+                return true;
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+    }
+
+    @Nested
+    class HttpsUrlValidatorTests {
+
+        private final HttpsUrlValidator validator = new HttpsUrlValidator();
+
+        @Test
+        void everyCombinationOfUrlParts() throws NoSuchFieldException {
+            String[] schemes = {
+                    "", "https://", "HTTPS://", "Https://", "https:", "https:/", "https:///", "http://", "ftp://",
+                    " https://", "url:https://", "URL:https://", "1https://", "ht tps://", "#https://"
+            };
+            String[] hosts = {
+                    "", "example.com", "EXAMPLE.com", "a", "1.2.3.4", "999.999.999.999", "-a-.", "..", "a_b", "a b",
+                    "üni.com", "user@example.com", "user:pw@example.com", "@", "[::1]", "[::1", "::1]",
+                    "[v1.x]", "[zz]", "a%20b", "a\\b", "a|b"
+            };
+            String[] ports = {"", ":", ":0", ":443", ":65535", ":99999", ":123456", ":2147483648", ":-1", ":a", ":4a"};
+            String[] paths = {
+                    "", "/", "/a/b", "/a/../b", "/a b", "/%zz", "/ü", "?q=1&r", "#frag", "#a#b", "/?#", "/\t",
+                    "/ ", " ", "\\", "/[]{}|^`\"<>", "/%20", "/a%2", "/_~!$&'()*+,;=:@"
+            };
+
+            Mismatches mismatches = new Mismatches(httpsUrlReference(), validator);
+            for (String scheme : schemes) {
+                for (String host : hosts) {
+                    for (String port : ports) {
+                        for (String path : paths) {
+                            mismatches.check(scheme + host + port + path);
+                        }
+                    }
+                }
+            }
+            mismatches.assertNone();
+        }
+
+        @Test
+        void randomStrings() throws NoSuchFieldException {
+            Mismatches mismatches = new Mismatches(httpsUrlReference(), validator);
+            Random random = new Random(SEED);
+            for (int i = 0; i < RANDOM_SAMPLES; i++) {
+                String prefix = random.nextBoolean() ? "https://" : "";
+                mismatches.check(prefix + randomString(random, "hts:/a.0-_@[]?#%: ü\\", 16));
+            }
+            mismatches.assertNone();
+        }
+
+        private Predicate<String> httpsUrlReference() throws NoSuchFieldException {
+            URLValidator reference = new URLValidator();
+            reference.initialize(HttpsUrlHolder.class.getDeclaredField("url").getAnnotation(URL.class));
+            return value -> reference.isValid(value, null) && (value.isEmpty() || isUri(value));
+        }
+
+        private boolean isUri(String value) {
+            try {
+                new URI(value);
+                return true;
+            } catch (URISyntaxException e) {
+                return false;
+            }
+        }
+    }
+
+    private static class HttpsUrlHolder {
+
+        @URL(protocol = "https")
+        private String url;
+    }
+
+    private static class Mismatches {
+
+        private static final int MAX_REPORTED = 20;
+
+        private final Predicate<String> reference;
+        private final ConstraintValidator<?, CharSequence> validator;
+        private final List<String> mismatches = new ArrayList<>();
+        private int checked = 0;
+
+        private Mismatches(Predicate<String> reference, ConstraintValidator<?, CharSequence> validator) {
+            this.reference = reference;
+            this.validator = validator;
+        }
+
+        private void check(String value) {
+            checked++;
+            boolean expected = reference.test(value);
+            if (validator.isValid(value, null) != expected && mismatches.size() < MAX_REPORTED) {
+                mismatches.add((expected ? "should accept " : "should reject ") + escape(value));
+            }
+        }
+
+        private void assertNone() {
+            assertThat(checked).isPositive();
+            assertThat(mismatches).isEmpty();
+        }
+    }
+
+    private static Predicate<String> regex(String regex) {
+        Pattern pattern = Pattern.compile(regex);
+        return value -> pattern.matcher(value).matches();
+    }
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    private static String escape(String value) {
+        StringBuilder builder = new StringBuilder("\"");
+        value.chars().forEach(c -> builder.append(c < ' ' || c > '~' ? String.format("\\u%04X", c) : (char) c));
+        return builder.append('"').toString();
+    }
+}
@@ -0,0 +1,77 @@
+INSERT INTO public.tenant
+VALUES ('rlf', 'RLF', 'rlf', 'https://idp.example.org/rlf'),
+       ('elcano', 'Elcano', 'elcano', 'https://idp.example.org/elcano'),
+       ('schneider', 'Schneider', 'schneider', 'https://idp.example.org/schneider'),
+       ('allmind', 'Allmind', 'allmind', 'https://idp.example.org/allmind');
+
+DROP SCHEMA IF EXISTS "rlf" CASCADE;
+CREATE SCHEMA "rlf";
+CREATE TABLE rlf.asset
+(
+    id                UUID                     NOT NULL,
+    name              VARCHAR(50)              NOT NULL,
+    created_timestamp TIMESTAMP WITH TIME ZONE NOT NULL,
+    server_url        VARCHAR(255),
+    version           BIGINT                   NOT NULL DEFAULT 0,
+    location          GEOMETRY(POINT, 4326),
+    CONSTRAINT pk_asset PRIMARY KEY (id)
+);
+CREATE INDEX idx_asset_name_id ON rlf.asset (name, id);
+CREATE INDEX idx_asset_created_timestamp_id ON rlf.asset (created_timestamp, id);
+
+INSERT INTO rlf.asset (id, name, created_timestamp, server_url)
+VALUES ('942cdac4-098d-42d7-91ed-a3d1dfe4f644', 'Chatty Stick', '1970-01-01T00:00:00.000Z', 'https://rlf.space/cinder');
+
+DROP SCHEMA IF EXISTS "elcano" CASCADE;
+CREATE SCHEMA "elcano";
+CREATE TABLE elcano.asset
+(
+    id                UUID                     NOT NULL,
+    name              VARCHAR(50)              NOT NULL,
+    created_timestamp TIMESTAMP WITH TIME ZONE NOT NULL,
+    server_url        VARCHAR(255),
+    version           BIGINT                   NOT NULL DEFAULT 0,
+    location          GEOMETRY(POINT, 4326),
+    CONSTRAINT pk_asset PRIMARY KEY (id)
+);
+CREATE INDEX idx_asset_name_id ON elcano.asset (name, id);
+CREATE INDEX idx_asset_created_timestamp_id ON elcano.asset (created_timestamp, id);
+
+INSERT INTO elcano.asset (id, name, created_timestamp, server_url)
+VALUES ('cdf55ffc-5335-4219-8a16-38b59d66001e', 'Swinburne', '1970-01-01T00:00:00.000Z', 'https://elcano.space/sweet-tooth');
+
+DROP SCHEMA IF EXISTS "schneider" CASCADE;
+CREATE SCHEMA "schneider";
+CREATE TABLE schneider.asset
+(
+    id                UUID                     NOT NULL,
+    name              VARCHAR(50)              NOT NULL,
+    created_timestamp TIMESTAMP WITH TIME ZONE NOT NULL,
+    server_url        VARCHAR(255),
+    version           BIGINT                   NOT NULL DEFAULT 0,
+    location          GEOMETRY(POINT, 4326),
+    CONSTRAINT pk_asset PRIMARY KEY (id)
+);
+CREATE INDEX idx_asset_name_id ON schneider.asset (name, id);
+CREATE INDEX idx_asset_created_timestamp_id ON schneider.asset (created_timestamp, id);
+
+INSERT INTO schneider.asset (id, name, created_timestamp, server_url)
+VALUES ('26c4541f-e036-41ca-ab49-e09699570497', 'Nachtreiher', '1970-01-01T00:00:00.000Z', 'https://schneider.space/v-iii');
+
+DROP SCHEMA IF EXISTS "allmind" CASCADE;
+CREATE SCHEMA "allmind";
+CREATE TABLE allmind.asset
+(
+    id                UUID                     NOT NULL,
+    name              VARCHAR(50)              NOT NULL,
+    created_timestamp TIMESTAMP WITH TIME ZONE NOT NULL,
+    server_url        VARCHAR(255),
+    version           BIGINT                   NOT NULL DEFAULT 0,
+    location          GEOMETRY(POINT, 4326),
+    CONSTRAINT pk_asset PRIMARY KEY (id)
+);
+CREATE INDEX idx_asset_name_id ON allmind.asset (name, id);
+CREATE INDEX idx_asset_created_timestamp_id ON allmind.asset (created_timestamp, id);
+
+INSERT INTO allmind.asset (id, name, created_timestamp, server_url)
+VALUES ('3b54e687-1188-49d2-98d4-1d5517f526eb', 'Ayre', '1970-01-01T00:00:00.000Z', 'https://allmind.space/coral');
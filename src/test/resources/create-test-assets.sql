@@ -5,8 +5,12 @@ CREATE TABLE arquebus.asset
     name              VARCHAR(50)              NOT NULL,
     created_timestamp TIMESTAMP WITH TIME ZONE NOT NULL,
     server_url        VARCHAR(255),
+    version           BIGINT                   NOT NULL DEFAULT 0,
+    location          GEOMETRY(POINT, 4326),
     CONSTRAINT pk_asset PRIMARY KEY (id)
 );
+CREATE INDEX idx_asset_name_id ON arquebus.asset (name, id);
+CREATE INDEX idx_asset_created_timestamp_id ON arquebus.asset (created_timestamp, id);
 
 INSERT INTO arquebus.asset (id, name, created_timestamp, server_url)
 VALUES ('7471da05-d4ba-4531-ab64-755b94c88635', 'V.IV Rusty', '1970-01-01T00:00:00.000Z', 'https://arquebus.space/steel-haze');
@@ -18,8 +22,12 @@ CREATE TABLE balam.asset
     name              VARCHAR(50)              NOT NULL,
     created_timestamp TIMESTAMP WITH TIME ZONE NOT NULL,
     server_url        VARCHAR(255),
+    version           BIGINT                   NOT NULL DEFAULT 0,
+    location          GEOMETRY(POINT, 4326),
     CONSTRAINT pk_asset PRIMARY KEY (id)
 );
+CREATE INDEX idx_asset_name_id ON balam.asset (name, id);
+CREATE INDEX idx_asset_created_timestamp_id ON balam.asset (created_timestamp, id);
 
 INSERT INTO balam.asset (id, name, created_timestamp, server_url)
 VALUES ('b74df32a-99c9-482c-87ca-eccc7013197f', 'G5 Iguazu', '1970-01-01T00:00:00.000Z', 'https://balam.space/head-bringer');
\ No newline at end of file